@@ -16,7 +16,9 @@
  */
 package org.apache.camel.component.disruptor;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.camel.AsyncCallback;
@@ -30,6 +32,7 @@ import org.apache.camel.spi.ExceptionHandler;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.service.ServiceSupport;
@@ -104,7 +107,7 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
         final Set<LifecycleAwareExchangeEventHandler> eventHandlers = new HashSet<>();
 
         for (int i = 0; i < concurrentConsumers; ++i) {
-            eventHandlers.add(new ConsumerEventHandler(i, concurrentConsumers));
+            eventHandlers.add(new ConsumerEventHandler(i, concurrentConsumers, endpoint.getMaxBatchSize()));
         }
 
         return eventHandlers;
@@ -144,56 +147,96 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
 
     private void process(final SynchronizedExchange synchronizedExchange) {
         try {
-            Exchange exchange = synchronizedExchange.getExchange();
-
-            final boolean ignore = exchange.hasProperties() && exchange
-                    .getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
-            if (ignore) {
-                // Property was set and it was set to true, so don't process Exchange.
-                LOGGER.trace("Ignoring exchange {}", exchange);
-                return;
+            final Exchange result = prepareSynchronizedExchange(synchronizedExchange);
+            if (result != null) {
+                // As the necessary post-processing of the exchange is done by the registered Synchronization,
+                // we can suffice with a no-op AsyncCallback
+                processor.process(result, NOOP_ASYNC_CALLBACK);
             }
+        } catch (Exception e) {
+            handleException(synchronizedExchange.getExchange(), e);
+        }
+    }
 
-            // send a new copied exchange with new camel context
-            final Exchange result = prepareExchange(exchange);
-
-            // We need to be notified when the exchange processing is complete to synchronize the original exchange
-            // This is however the last part of the processing of this exchange and as such can't be done
-            // in the AsyncCallback as that is called *AFTER* processing is considered to be done
-            // (see org.apache.camel.processor.CamelInternalProcessor.InternalCallback#done).
-            // To solve this problem, a new synchronization is set on the exchange that is to be
-            // processed
-            result.addOnCompletion(new Synchronization() {
-                @Override
-                public void onComplete(Exchange exchange) {
-                    synchronizedExchange.consumed(result);
-                }
+    private void process(final List<SynchronizedExchange> synchronizedExchanges) {
+        LOGGER.trace("Processing batch of {} exchanges", synchronizedExchanges.size());
 
-                @Override
-                public void onFailure(Exchange exchange) {
-                    synchronizedExchange.consumed(result);
+        final List<Exchange> results = new ArrayList<>(synchronizedExchanges.size());
+        for (SynchronizedExchange synchronizedExchange : synchronizedExchanges) {
+            try {
+                final Exchange result = prepareSynchronizedExchange(synchronizedExchange);
+                if (result != null) {
+                    results.add(result);
                 }
-            });
-
-            // As the necessary post-processing of the exchange is done by the registered Synchronization,
-            // we can suffice with a no-op AsyncCallback
-            processor.process(result, NOOP_ASYNC_CALLBACK);
+            } catch (Exception e) {
+                handleException(synchronizedExchange.getExchange(), e);
+            }
+        }
 
+        try {
+            // route the exchanges together, processors which do not support batches process them one by one
+            AsyncProcessorHelper.processBatch(processor, results, NOOP_ASYNC_CALLBACK);
         } catch (Exception e) {
-            Exchange exchange = synchronizedExchange.getExchange();
+            for (Exchange result : results) {
+                handleException(result, e);
+            }
+        }
+    }
+
+    /**
+     * Prepares a new copy of the exchange to be processed, or returns <tt>null</tt> if the exchange should be ignored.
+     */
+    private Exchange prepareSynchronizedExchange(final SynchronizedExchange synchronizedExchange) {
+        Exchange exchange = synchronizedExchange.getExchange();
+
+        final boolean ignore = exchange.hasProperties() && exchange
+                .getProperties().containsKey(DisruptorEndpoint.DISRUPTOR_IGNORE_EXCHANGE);
+        if (ignore) {
+            // Property was set and it was set to true, so don't process Exchange.
+            LOGGER.trace("Ignoring exchange {}", exchange);
+            return null;
+        }
 
-            if (exchange != null) {
-                getExceptionHandler().handleException("Error processing exchange",
-                        exchange, e);
-            } else {
-                getExceptionHandler().handleException(e);
+        // send a new copied exchange with new camel context
+        final Exchange result = prepareExchange(exchange);
+
+        // We need to be notified when the exchange processing is complete to synchronize the original exchange
+        // This is however the last part of the processing of this exchange and as such can't be done
+        // in the AsyncCallback as that is called *AFTER* processing is considered to be done
+        // (see org.apache.camel.processor.CamelInternalProcessor.InternalCallback#done).
+        // To solve this problem, a new synchronization is set on the exchange that is to be
+        // processed
+        result.addOnCompletion(new Synchronization() {
+            @Override
+            public void onComplete(Exchange exchange) {
+                synchronizedExchange.consumed(result);
+            }
+
+            @Override
+            public void onFailure(Exchange exchange) {
+                synchronizedExchange.consumed(result);
             }
+        });
+
+        return result;
+    }
+
+    private void handleException(final Exchange exchange, final Exception e) {
+        if (exchange != null) {
+            getExceptionHandler().handleException("Error processing exchange",
+                    exchange, e);
+        } else {
+            getExceptionHandler().handleException(e);
         }
     }
 
     /**
      * Implementation of the {@link LifecycleAwareExchangeEventHandler} interface that passes all Exchanges to the
      * {@link Processor} registered at this {@link DisruptorConsumer}.
+     * <p/>
+     * When the endpoint is configured with a <tt>maxBatchSize</tt> then the exchanges are collected until the end of
+     * the batch of events which are available in the ringbuffer (or the maximum batch size is reached), and then
+     * processed together as a batch.
      */
     private class ConsumerEventHandler extends AbstractLifecycleAwareExchangeEventHandler {
 
@@ -201,9 +244,17 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
 
         private final int concurrentConsumers;
 
-        ConsumerEventHandler(final int ordinal, final int concurrentConsumers) {
+        private final int maxBatchSize;
+
+        private List<SynchronizedExchange> batch;
+
+        ConsumerEventHandler(final int ordinal, final int concurrentConsumers, final int maxBatchSize) {
             this.ordinal = ordinal;
             this.concurrentConsumers = concurrentConsumers;
+            this.maxBatchSize = maxBatchSize;
+            if (maxBatchSize > 1) {
+                this.batch = new ArrayList<>(maxBatchSize);
+            }
         }
 
         @Override
@@ -215,8 +266,25 @@ public class DisruptorConsumer extends ServiceSupport implements Consumer, Suspe
             // which can be used to determine whether he should process the exchange, or leave it for his brethren.
             //see http://code.google.com/p/disruptor/wiki/FrequentlyAskedQuestions#How_do_you_arrange_a_Disruptor_with_multiple_consumers_so_that_e
             if (sequence % concurrentConsumers == ordinal) {
-                process(event.getSynchronizedExchange());
+                if (batch == null) {
+                    process(event.getSynchronizedExchange());
+                    return;
+                }
+                batch.add(event.getSynchronizedExchange());
+                if (batch.size() >= maxBatchSize) {
+                    processBatch();
+                }
             }
+            // the end of batch may be an event for another consumer, so check it for all events
+            if (endOfBatch && batch != null && !batch.isEmpty()) {
+                processBatch();
+            }
+        }
+
+        private void processBatch() {
+            final List<SynchronizedExchange> exchanges = batch;
+            batch = new ArrayList<>(maxBatchSize);
+            process(exchanges);
         }
 
     }
@@ -19,6 +19,7 @@ package org.apache.camel.component.disruptor;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -64,6 +65,8 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
     private int concurrentConsumers;
     @UriParam(label = "consumer")
     private boolean multipleConsumers;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int maxBatchSize = 1;
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
     @UriParam(label = "producer", defaultValue = "30000")
@@ -116,6 +119,21 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
         this.concurrentConsumers = concurrentConsumers;
     }
 
+    @ManagedAttribute(description = "Maximum number of exchanges routed together as a batch")
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum number of exchanges a consumer thread takes from the ringbuffer and routes together as a batch.
+     * The batch ends when there are no more exchanges available in the ringbuffer (end of batch), so the consumer
+     * does not wait for a batch to fill up. The batch is only routed as a whole by processors which support
+     * batches (such as when using no error handler), and is otherwise routed one exchange at a time.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
     @ManagedAttribute(description = "Option to specify whether the caller should wait for the async task to complete or not before continuing")
     public WaitForTaskToComplete getWaitForTaskToComplete() {
         return waitForTaskToComplete;
@@ -340,6 +358,23 @@ public class DisruptorEndpoint extends DefaultEndpoint implements AsyncEndpoint,
         disruptorReference.tryPublish(exchange);
     }
 
+    /**
+     * Called by DisruptorProducers to publish a batch of new exchanges on the RingBuffer, blocking when full
+     */
+    void publish(final List<Exchange> exchanges) throws DisruptorNotStartedException {
+        disruptorReference.publish(exchanges);
+    }
+
+    /**
+     * Called by DisruptorProducers to publish a batch of new exchanges on the RingBuffer, throwing
+     * InsufficientCapacityException when there is not room for all of them
+     *
+     * @throws InsufficientCapacityException when the Ringbuffer is full.
+     */
+    void tryPublish(final List<Exchange> exchanges) throws DisruptorNotStartedException, InsufficientCapacityException {
+        disruptorReference.tryPublish(exchanges);
+    }
+
     DisruptorReference getDisruptor() {
         return disruptorReference;
     }
@@ -16,22 +16,29 @@
  */
 package org.apache.camel.component.disruptor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import com.lmax.disruptor.InsufficientCapacityException;
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeTimedOutException;
 import org.apache.camel.WaitForTaskToComplete;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.SynchronizationAdapter;
 
 /**
  * A Producer for the Disruptor component.
+ * <p/>
+ * When the producer is given a batch of exchanges which are not waiting for the task to complete, then
+ * the exchanges are published on consecutive slots in the ringbuffer at once.
  */
-public class DisruptorProducer extends DefaultAsyncProducer {
+public class DisruptorProducer extends DefaultAsyncProducer implements BatchProcessor {
 
     private final WaitForTaskToComplete waitForTaskToComplete;
     private final long timeout;
@@ -66,13 +73,7 @@ public class DisruptorProducer extends DefaultAsyncProducer {
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
-        WaitForTaskToComplete wait = waitForTaskToComplete;
-        if (exchange.getProperty(Exchange.ASYNC_WAIT) != null) {
-            wait = exchange.getProperty(Exchange.ASYNC_WAIT, WaitForTaskToComplete.class);
-        }
-
-        if (wait == WaitForTaskToComplete.Always
-                || (wait == WaitForTaskToComplete.IfReplyExpected && ExchangeHelper.isOutCapable(exchange))) {
+        if (isWaitForTaskToComplete(exchange)) {
 
             // do not handover the completion as we wait for the copy to complete, and copy its result back when it done
             final Exchange copy = prepareCopy(exchange, false);
@@ -172,6 +173,60 @@ public class DisruptorProducer extends DefaultAsyncProducer {
         return true;
     }
 
+    @Override
+    public boolean processBatch(final List<Exchange> exchanges, final AsyncCallback callback) {
+        for (Exchange exchange : exchanges) {
+            if (isWaitForTaskToComplete(exchange)) {
+                // we must wait for each exchange to complete so publish them one by one
+                return AsyncProcessorHelper.processEach(this, exchanges, callback);
+            }
+        }
+
+        if (!exchanges.isEmpty()) {
+            // handover the completion so its the copies which performs that, as we do not wait
+            final List<Exchange> copies = new ArrayList<>(exchanges.size());
+            for (Exchange exchange : exchanges) {
+                copies.add(prepareCopy(exchange, true));
+            }
+            try {
+                doPublish(copies);
+            } catch (Exception e) {
+                for (Exchange exchange : exchanges) {
+                    exchange.setException(e);
+                }
+            }
+        }
+
+        callback.done(true);
+        return true;
+    }
+
+    private boolean isWaitForTaskToComplete(final Exchange exchange) {
+        WaitForTaskToComplete wait = waitForTaskToComplete;
+        if (exchange.getProperty(Exchange.ASYNC_WAIT) != null) {
+            wait = exchange.getProperty(Exchange.ASYNC_WAIT, WaitForTaskToComplete.class);
+        }
+
+        return wait == WaitForTaskToComplete.Always
+                || (wait == WaitForTaskToComplete.IfReplyExpected && ExchangeHelper.isOutCapable(exchange));
+    }
+
+    private void doPublish(List<Exchange> exchanges) {
+        log.trace("Publishing {} Exchanges to disruptor ringbuffer", exchanges.size());
+
+        try {
+            if (blockWhenFull) {
+                endpoint.publish(exchanges);
+            } else {
+                endpoint.tryPublish(exchanges);
+            }
+        } catch (DisruptorNotStartedException e) {
+            throw new IllegalStateException("Disruptor was not started", e);
+        } catch (InsufficientCapacityException e) {
+            throw new IllegalStateException("Disruptors ringbuffer was full", e);
+        }
+    }
+
     private void doPublish(Exchange exchange) {
         log.trace("Publishing Exchange to disruptor ringbuffer: {}", exchange);
 
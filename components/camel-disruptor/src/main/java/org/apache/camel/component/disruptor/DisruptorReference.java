@@ -129,6 +129,37 @@ public class DisruptorReference {
         publishExchangeOnRingBuffer(exchange, getCurrentDisruptor().getRingBuffer());
     }
 
+    public void tryPublish(final List<Exchange> exchanges) throws DisruptorNotStartedException, InsufficientCapacityException {
+        final RingBuffer<ExchangeEvent> ringBuffer = getCurrentDisruptor().getRingBuffer();
+        // claim the slots for all the exchanges at once, or none at all
+        final long hi = ringBuffer.tryNext(exchanges.size());
+        publishExchangesOnRingBuffer(exchanges, 0, exchanges.size(), hi, ringBuffer);
+    }
+
+    public void publish(final List<Exchange> exchanges) throws DisruptorNotStartedException {
+        publishExchangesOnRingBuffer(exchanges, getCurrentDisruptor().getRingBuffer());
+    }
+
+    private void publishExchangesOnRingBuffer(final List<Exchange> exchanges, final RingBuffer<ExchangeEvent> ringBuffer) {
+        // we cannot claim more slots than the size of the ringbuffer at once
+        final int max = ringBuffer.getBufferSize();
+        for (int from = 0; from < exchanges.size(); from += max) {
+            final int n = Math.min(max, exchanges.size() - from);
+            final long hi = ringBuffer.next(n);
+            publishExchangesOnRingBuffer(exchanges, from, n, hi, ringBuffer);
+        }
+    }
+
+    private void publishExchangesOnRingBuffer(final List<Exchange> exchanges, final int from, final int n, final long hi,
+                                              final RingBuffer<ExchangeEvent> ringBuffer) {
+        final long lo = hi - (n - 1);
+        for (int i = 0; i < n; i++) {
+            ringBuffer.get(lo + i).setExchange(exchanges.get(from + i), uniqueConsumerCount);
+        }
+        // publish all the slots together so the consumers can take them as one batch
+        ringBuffer.publish(lo, hi);
+    }
+
     private void publishExchangeOnRingBuffer(final Exchange exchange,
                                                              final RingBuffer<ExchangeEvent> ringBuffer) {
         final long sequence = ringBuffer.next();
@@ -238,9 +269,7 @@ public class DisruptorReference {
         }
         RingBuffer<ExchangeEvent> ringBuffer = newDisruptor.getRingBuffer();
         //and offer them again to our new ringbuffer
-        for (final Exchange exchange : exchanges) {
-            publishExchangeOnRingBuffer(exchange, ringBuffer);
-        }
+        publishExchangesOnRingBuffer(exchanges, ringBuffer);
     }
 
     private void resizeThreadPoolExecutor(final int newSize) {
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.disruptor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class DisruptorMaxBatchSizeTest extends CamelTestSupport {
+
+    private final BatchCounter counter = new BatchCounter();
+
+    @Test
+    public void testMaxBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+        for (int i = 0; i < 100; i++) {
+            mock.message(i).body().isEqualTo("Message " + i);
+        }
+
+        // the exchanges are buffered until the route is started
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("disruptor:foo", "Message " + i);
+        }
+        context.getRouteController().startRoute("myRoute");
+
+        assertMockEndpointsSatisfied();
+
+        // the messages was already in the ringbuffer so they are routed in batches
+        assertTrue(counter.sizes.size() < 100);
+        int total = 0;
+        for (int size : counter.sizes) {
+            assertTrue("Batch size should be at most 10 but was " + size, size <= 10);
+            total += size;
+        }
+        assertEquals(100, total);
+    }
+
+    @Test
+    public void testMaxBatchSizeDefaultErrorHandler() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:error");
+        mock.expectedBodiesReceived("A", "B", "C");
+
+        template.sendBody("disruptor:bar", "A");
+        template.sendBody("disruptor:bar", "B");
+        template.sendBody("disruptor:bar", "C");
+        context.getRouteController().startRoute("errorRoute");
+
+        assertMockEndpointsSatisfied();
+
+        // the error handler routes the exchanges one at a time
+        for (int size : counter.sizes) {
+            assertEquals(1, size);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // the batches are published to the next disruptor at once
+                from("disruptor:foo?maxBatchSize=10").routeId("myRoute").noAutoStartup()
+                    .errorHandler(noErrorHandler())
+                    .process(counter)
+                    .to("disruptor:next");
+
+                from("disruptor:next?maxBatchSize=10")
+                    .errorHandler(noErrorHandler())
+                    .to("mock:result");
+
+                from("disruptor:bar?maxBatchSize=10").routeId("errorRoute").noAutoStartup()
+                    .process(counter)
+                    .to("mock:error");
+            }
+        };
+    }
+
+    private static final class BatchCounter extends AsyncProcessorSupport implements BatchProcessor {
+
+        private final List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            sizes.add(1);
+            callback.done(true);
+            return true;
+        }
+
+        @Override
+        public boolean processBatch(List<Exchange> exchanges, AsyncCallback callback) {
+            sizes.add(exchanges.size());
+            callback.done(true);
+            return true;
+        }
+    }
+}
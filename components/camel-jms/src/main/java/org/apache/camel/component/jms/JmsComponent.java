@@ -805,6 +805,19 @@ public class JmsComponent extends HeaderFilterStrategyComponent implements Appli
         getConfiguration().setRequestTimeoutCheckerInterval(requestTimeoutCheckerInterval);
     }
 
+    /**
+     * Whether to keep track of the timeouts in a timing wheel when doing request/reply over JMS,
+     * instead of checking all the pending replies for timeouts every time the timeout checker runs.
+     * This is recommended when there is a large number of pending replies (such as hundreds of thousands).
+     */
+    @Metadata(label = "advanced",
+            description = "Whether to keep track of the timeouts in a timing wheel when doing request/reply over JMS,"
+                    + " instead of checking all the pending replies for timeouts every time the timeout checker runs."
+                    + " This is recommended when there is a large number of pending replies (such as hundreds of thousands).")
+    public void setRequestTimeoutUseTimingWheel(boolean requestTimeoutUseTimingWheel) {
+        getConfiguration().setRequestTimeoutUseTimingWheel(requestTimeoutUseTimingWheel);
+    }
+
     /**
      * You can transfer the exchange over the wire instead of just the body and headers.
      * The following fields are transferred: In body, Out body, Fault body, In headers, Out headers, Fault headers,
@@ -173,6 +173,11 @@ public class JmsConfiguration implements Cloneable {
                     + " By default Camel checks once per second. But if you must react faster when a timeout occurs,"
                     + " then you can lower this interval, to check more frequently. The timeout is determined by the option requestTimeout.")
     private long requestTimeoutCheckerInterval = 1000L;
+    @UriParam(label = "advanced",
+            description = "Whether to keep track of the timeouts in a timing wheel when doing request/reply over JMS,"
+                    + " instead of checking all the pending replies for timeouts every time the timeout checker runs."
+                    + " This is recommended when there is a large number of pending replies (such as hundreds of thousands).")
+    private boolean requestTimeoutUseTimingWheel;
     @UriParam(defaultValue = "1", label = "advanced",
             description = "Specifies the limit for idle executions of a receive task, not having received any message within its execution."
                     + " If this limit is reached, the task will shut down and leave receiving to other executing tasks"
@@ -1705,6 +1710,19 @@ public class JmsConfiguration implements Cloneable {
         this.requestTimeoutCheckerInterval = requestTimeoutCheckerInterval;
     }
 
+    public boolean isRequestTimeoutUseTimingWheel() {
+        return requestTimeoutUseTimingWheel;
+    }
+
+    /**
+     * Whether to keep track of the timeouts in a timing wheel when doing request/reply over JMS,
+     * instead of checking all the pending replies for timeouts every time the timeout checker runs.
+     * This is recommended when there is a large number of pending replies (such as hundreds of thousands).
+     */
+    public void setRequestTimeoutUseTimingWheel(boolean requestTimeoutUseTimingWheel) {
+        this.requestTimeoutUseTimingWheel = requestTimeoutUseTimingWheel;
+    }
+
     public String getReplyTo() {
         return replyTo;
     }
@@ -639,6 +639,10 @@ public class JmsEndpoint extends DefaultEndpoint implements AsyncEndpoint, Heade
         return getConfiguration().getRequestTimeoutCheckerInterval();
     }
 
+    public boolean isRequestTimeoutUseTimingWheel() {
+        return getConfiguration().isRequestTimeoutUseTimingWheel();
+    }
+
     public TaskExecutor getTaskExecutor() {
         return getConfiguration().getTaskExecutor();
     }
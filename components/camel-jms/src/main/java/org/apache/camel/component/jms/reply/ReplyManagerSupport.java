@@ -265,6 +265,7 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // when doing request/reply over JMS
         log.trace("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
         correlation = new CorrelationTimeoutMap(scheduledExecutorService, endpoint.getRequestTimeoutCheckerInterval(), executorService);
+        correlation.setUseTimingWheel(endpoint.isRequestTimeoutUseTimingWheel());
         ServiceHelper.startService(correlation);
 
         // create JMS listener and start it
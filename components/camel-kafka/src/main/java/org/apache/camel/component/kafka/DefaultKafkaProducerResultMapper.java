@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * The default {@link KafkaProducerResultMapper} which stores the {@link RecordMetadata} results on the
+ * {@link KafkaConstants#KAFKA_RECORDMETA} header (if the recordMetadata option is enabled), and fails the
+ * exchange with the exception of the first record which could not be sent.
+ */
+public class DefaultKafkaProducerResultMapper implements KafkaProducerResultMapper {
+
+    private final KafkaConfiguration configuration;
+
+    public DefaultKafkaProducerResultMapper(KafkaConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void map(Exchange exchange, List<RecordMetadata> recordMetadatas, List<Exception> exceptions) {
+        if (configuration.isRecordMetadata()) {
+            if (exchange.hasOut()) {
+                exchange.getOut().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
+            } else {
+                exchange.getIn().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
+            }
+        }
+
+        for (Exception exception : exceptions) {
+            if (exception != null) {
+                exchange.setException(exception);
+                break;
+            }
+        }
+    }
+}
@@ -70,6 +70,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private int consumerStreams = 10;
     @UriParam(label = "consumer", defaultValue = "1")
     private int consumersCount = 1;
+    @UriParam(label = "consumer")
+    private int processingThreads;
+    @UriParam(label = "consumer", defaultValue = "partition", enums = "partition,key")
+    private String processingOrder = "partition";
     @UriParam(label = "consumer", description = "To use a custom KafkaHeaderDeserializer to deserialize kafka headers values")
     private KafkaHeaderDeserializer kafkaHeaderDeserializer = new DefaultKafkaHeaderDeserializer();
 
@@ -223,6 +227,8 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private boolean enableIdempotence;
     @UriParam(label = "producer", description = "To use a custom KafkaHeaderSerializer to serialize kafka headers values")
     private KafkaHeaderSerializer kafkaHeaderSerializer = new DefaultKafkaHeaderSerializer();
+    @UriParam(label = "producer,advanced")
+    private KafkaProducerResultMapper producerResultMapper;
 
     // reconnect.backoff.max.ms
     @UriParam(label = "common", defaultValue = "1000")
@@ -596,6 +602,34 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.consumersCount = consumersCount;
     }
 
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of threads each consumer uses to process the polled records concurrently. By default the
+     * records are processed one after another by the consumer thread which polls the records from the kafka server.
+     * When using concurrent processing then the records are still processed in order per partition or per key, as
+     * configured with the processingOrder option, and the offsets are only committed up to the record where all
+     * the previous records of the partition have been processed. This cannot be used together with allowManualCommit.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
+    public String getProcessingOrder() {
+        return processingOrder;
+    }
+
+    /**
+     * When processing records concurrently (see processingThreads) then this option controls which records must be
+     * processed in order. With <tt>partition</tt> then the records of a partition are processed one after another,
+     * and with <tt>key</tt> then only the records with the same key (in a partition) are processed one after another.
+     */
+    public void setProcessingOrder(String processingOrder) {
+        this.processingOrder = processingOrder;
+    }
+
     public String getClientId() {
         return clientId;
     }
@@ -1750,4 +1784,17 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.kafkaHeaderSerializer = kafkaHeaderSerializer;
     }
 
+    public KafkaProducerResultMapper getProducerResultMapper() {
+        return producerResultMapper;
+    }
+
+    /**
+     * To use a custom KafkaProducerResultMapper to map the results of sending the records to Kafka onto the exchange.
+     * The mapper is called once all the records of the exchange has been sent, and by default the record metadata
+     * is stored on a header (see the recordMetadata option) and the exchange is failed if any of the records failed.
+     */
+    public void setProducerResultMapper(KafkaProducerResultMapper producerResultMapper) {
+        this.producerResultMapper = producerResultMapper;
+    }
+
 }
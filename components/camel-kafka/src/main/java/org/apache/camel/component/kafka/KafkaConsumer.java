@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
@@ -93,6 +96,11 @@ public class KafkaConsumer extends DefaultConsumer {
 
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, brokers);
 
+        if (endpoint.getConfiguration().getProcessingThreads() > 0) {
+            // the offsets of the records processed concurrently are committed by the consumer
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
+
         if (endpoint.getConfiguration().getGroupId() != null) {
             String groupId = endpoint.getConfiguration().getGroupId();
             props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
@@ -122,6 +130,11 @@ public class KafkaConsumer extends DefaultConsumer {
             }
         }
 
+        if (endpoint.getConfiguration().getProcessingThreads() > 0 && endpoint.getConfiguration().isAllowManualCommit()) {
+            // the kafka consumer cannot be used from the processing threads
+            throw new IllegalArgumentException("The option allowManualCommit cannot be used together with processingThreads");
+        }
+
         executor = endpoint.createExecutor();
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -155,6 +168,7 @@ public class KafkaConsumer extends DefaultConsumer {
                 executor.shutdownNow();
             }
         }
+        tasks.forEach(KafkaFetchRecords::shutdownProcessingThreads);
         tasks.clear();
         executor = null;
 
@@ -175,12 +189,33 @@ public class KafkaConsumer extends DefaultConsumer {
         private final String threadId;
         private final Properties kafkaProps;
         private final Map<String, Long> lastProcessedOffset = new ConcurrentHashMap<>();
+        // used when processing the records concurrently
+        private final ExecutorService[] processingThreads;
+        private final Map<TopicPartition, PartitionWatermark> watermarks = new ConcurrentHashMap<>();
+        private final Semaphore inflight;
 
         KafkaFetchRecords(String topicName, Pattern topicPattern, String id, Properties kafkaProps) {
             this.topicName = topicName;
             this.topicPattern = topicPattern;
             this.threadId = topicName + "-" + "Thread " + id;
             this.kafkaProps = kafkaProps;
+
+            int threads = endpoint.getConfiguration().getProcessingThreads();
+            if (threads > 0) {
+                // each thread processes its records in order, so records which must be processed in order
+                // are always given to the same thread
+                processingThreads = new ExecutorService[threads];
+                for (int i = 0; i < threads; i++) {
+                    processingThreads[i] = endpoint.getCamelContext().getExecutorServiceManager()
+                        .newSingleThreadExecutor(KafkaConsumer.this, "KafkaConsumer[" + topicName + "] " + id + "-" + i);
+                }
+                // limit the number of records which are dispatched but not yet processed
+                Integer maxPollRecords = endpoint.getConfiguration().getMaxPollRecords();
+                inflight = new Semaphore(2 * (maxPollRecords != null ? maxPollRecords : 500));
+            } else {
+                processingThreads = null;
+                inflight = null;
+            }
         }
 
         @Override
@@ -306,6 +341,19 @@ public class KafkaConsumer extends DefaultConsumer {
                     log.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
                     ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
 
+                    if (processingThreads != null) {
+                        // process the records concurrently and commit the offsets of the processed records
+                        if (!dispatchRecords(allRecords, offsetRepository)) {
+                            log.warn("Error during processing from topic: {}. Will seek consumer to the offset of the failed record and re-connect and start polling again.",
+                                     topicName);
+                            awaitProcessed(null);
+                            commitWatermarks(offsetRepository, true);
+                            // force re-connect
+                            reConnect = true;
+                        }
+                        continue;
+                    }
+
                     for (TopicPartition partition : allRecords.partitions()) {
 
                         long partitionLastOffset = -1;
@@ -386,7 +434,11 @@ public class KafkaConsumer extends DefaultConsumer {
                     }
                 }
 
-                if (!reConnect) {
+                if (!reConnect && processingThreads != null) {
+                    // complete processing the records and commit their offsets
+                    awaitProcessed(null);
+                    commitWatermarks(offsetRepository, true);
+                } else if (!reConnect) {
                     if (isAutoCommitEnabled()) {
                         if ("async".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
                             log.info("Auto commitAsync on stop {} from topic {}", threadId, topicName);
@@ -421,11 +473,149 @@ public class KafkaConsumer extends DefaultConsumer {
             } finally {
                 log.debug("Closing {}", threadId);
                 IOHelper.close(consumer);
+                // the offsets of the next records are tracked from the committed offsets when re-connected
+                watermarks.clear();
             }
 
             return reConnect;
         }
 
+        /**
+         * Dispatches the records to the processing threads, and commits the offsets of the records which has been processed.
+         *
+         * @return <tt>false</tt> if the processing of a record failed and the consumer should break out
+         */
+        private boolean dispatchRecords(ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) throws InterruptedException {
+            boolean orderByKey = "key".equals(endpoint.getConfiguration().getProcessingOrder());
+
+            for (TopicPartition partition : allRecords.partitions()) {
+                PartitionWatermark watermark = watermarks.computeIfAbsent(partition, p -> new PartitionWatermark());
+                if (watermark.isFailed()) {
+                    // skip the records as we will re-connect and seek back to the failed record
+                    continue;
+                }
+
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                log.debug("Records count {} received for partition {}", records.size(), partition);
+                for (int i = 0; i < records.size(); i++) {
+                    ConsumerRecord<Object, Object> record = records.get(i);
+                    if (log.isTraceEnabled()) {
+                        log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(), record.value());
+                    }
+                    Exchange exchange = endpoint.createKafkaExchange(record);
+                    propagateHeaders(record, exchange, endpoint.getConfiguration());
+                    if (!isAutoCommitEnabled()) {
+                        exchange.getIn().setHeader(KafkaConstants.LAST_RECORD_BEFORE_COMMIT, i == records.size() - 1);
+                    }
+
+                    // wait for the processing threads to catch up
+                    while (!inflight.tryAcquire(pollTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        if (!isRunAllowed() || isStoppingOrStopped() || isSuspendingOrSuspended()) {
+                            return true;
+                        }
+                        commitWatermarks(offsetRepository, false);
+                    }
+                    watermark.dispatched(record.offset());
+
+                    int hash = partition.hashCode();
+                    if (orderByKey && record.key() != null) {
+                        Object key = record.key();
+                        hash = 31 * hash + (key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode());
+                    }
+                    hash ^= hash >>> 16;
+                    long offset = record.offset();
+                    processingThreads[(hash & Integer.MAX_VALUE) % processingThreads.length]
+                        .execute(() -> processRecord(exchange, watermark, offset));
+                }
+            }
+
+            return commitWatermarks(offsetRepository, false);
+        }
+
+        private void processRecord(Exchange exchange, PartitionWatermark watermark, long offset) {
+            try {
+                if (watermark.isFailedBefore(offset)) {
+                    // skip the record as we will seek back to the failed record
+                    log.trace("Skipping record with offset {} as a previous record failed", offset);
+                    return;
+                }
+
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null) {
+                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                        log.warn("Error during processing {} from topic: {} with offset: {}", exchange, topicName, offset);
+                        watermark.failed(offset);
+                    } else {
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                }
+            } finally {
+                watermark.processed(offset);
+                inflight.release();
+            }
+        }
+
+        /**
+         * Commits the offsets of the records which has been processed, where all the records before them in the partition
+         * also has been processed.
+         *
+         * @return <tt>false</tt> if the processing of a record failed
+         */
+        private boolean commitWatermarks(StateRepository<String, String> offsetRepository, boolean sync) {
+            boolean failed = false;
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            for (Map.Entry<TopicPartition, PartitionWatermark> entry : watermarks.entrySet()) {
+                TopicPartition partition = entry.getKey();
+                PartitionWatermark watermark = entry.getValue();
+                failed |= watermark.isFailed();
+
+                long offset = watermark.getWatermark();
+                if (offset > watermark.getCommitted()) {
+                    watermark.setCommitted(offset);
+                    lastProcessedOffset.put(serializeOffsetKey(partition), offset);
+                    if (offsetRepository != null) {
+                        log.debug("Saving offset repository state {} from topic {} with offset: {}", threadId, topicName, offset);
+                        offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(offset));
+                    } else {
+                        offsets.put(partition, new OffsetAndMetadata(offset + 1));
+                    }
+                }
+            }
+            if (!offsets.isEmpty()) {
+                log.debug("Committing {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                if (sync) {
+                    consumer.commitSync(offsets);
+                } else {
+                    consumer.commitAsync(offsets, null);
+                }
+            }
+            return !failed;
+        }
+
+        /**
+         * Waits until the dispatched records of the partitions (or all partitions if <tt>null</tt>) has been processed.
+         */
+        private void awaitProcessed(Collection<TopicPartition> partitions) throws InterruptedException {
+            for (Map.Entry<TopicPartition, PartitionWatermark> entry : watermarks.entrySet()) {
+                if (partitions == null || partitions.contains(entry.getKey())) {
+                    entry.getValue().awaitProcessed();
+                }
+            }
+        }
+
+        private void shutdownProcessingThreads() {
+            if (processingThreads != null) {
+                for (ExecutorService thread : processingThreads) {
+                    endpoint.getCamelContext().getExecutorServiceManager().shutdown(thread);
+                }
+            }
+        }
+
         private void commitOffset(StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset, boolean forceCommit) {
             if (partitionLastOffset != -1) {
                 if (!endpoint.getConfiguration().isAllowManualCommit() && offsetRepository != null) {
@@ -449,6 +639,16 @@ public class KafkaConsumer extends DefaultConsumer {
             log.debug("onPartitionsRevoked: {} from topic {}", threadId, topicName);
 
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
+            if (processingThreads != null) {
+                // complete processing the records of the partitions so their offsets are committed below
+                try {
+                    awaitProcessed(partitions);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                commitWatermarks(offsetRepository, true);
+                watermarks.keySet().removeAll(partitions);
+            }
             for (TopicPartition partition : partitions) {
                 String offsetKey = serializeOffsetKey(partition);
                 Long offset = lastProcessedOffset.get(offsetKey);
@@ -21,13 +21,14 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -51,6 +52,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
     @SuppressWarnings("rawtypes")
     private org.apache.kafka.clients.producer.KafkaProducer kafkaProducer;
     private final KafkaEndpoint endpoint;
+    private final KafkaProducerResultMapper defaultResultMapper;
     private ExecutorService workerPool;
     private boolean shutdownWorkerPool;
     private volatile boolean closeKafkaProducer;
@@ -58,6 +60,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
     public KafkaProducer(KafkaEndpoint endpoint) {
         super(endpoint);
         this.endpoint = endpoint;
+        this.defaultResultMapper = new DefaultKafkaProducerResultMapper(endpoint.getConfiguration());
     }
 
     Properties getProps() {
@@ -250,16 +253,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
     // Camel calls this method if the endpoint isSynchronous(), as the KafkaEndpoint creates a SynchronousDelegateProducer for it
     public void process(Exchange exchange) throws Exception {
         Iterator<ProducerRecord> c = createRecorder(exchange);
-        List<Future<RecordMetadata>> futures = new LinkedList<>();
-        List<RecordMetadata> recordMetadatas = new ArrayList<>();
-
-        if (endpoint.getConfiguration().isRecordMetadata()) {
-            if (exchange.hasOut()) {
-                exchange.getOut().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-            } else {
-                exchange.getIn().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-            }
-        }
+        List<Future<RecordMetadata>> futures = new ArrayList<>();
 
         while (c.hasNext()) {
             ProducerRecord rec = c.next();
@@ -268,32 +262,51 @@ public class KafkaProducer extends DefaultAsyncProducer {
             }
             futures.add(kafkaProducer.send(rec));
         }
+
+        List<RecordMetadata> recordMetadatas = new ArrayList<>(futures.size());
+        List<Exception> exceptions = new ArrayList<>(futures.size());
         for (Future<RecordMetadata> f : futures) {
             //wait for them all to be sent
-            recordMetadatas.add(f.get());
+            try {
+                recordMetadatas.add(f.get());
+                exceptions.add(null);
+            } catch (ExecutionException e) {
+                recordMetadatas.add(null);
+                exceptions.add(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            }
         }
+        getResultMapper().map(exchange, recordMetadatas, exceptions);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public boolean process(Exchange exchange, AsyncCallback callback) {
+        KafkaProducerCallBack cb = new KafkaProducerCallBack(exchange, callback);
+        Callback recordCallback = null;
         try {
             Iterator<ProducerRecord> c = createRecorder(exchange);
-            KafkaProducerCallBack cb = new KafkaProducerCallBack(exchange, callback);
             while (c.hasNext()) {
-                cb.increment();
                 ProducerRecord rec = c.next();
+                recordCallback = cb.newRecordCallback();
                 if (log.isDebugEnabled()) {
                     log.debug("Sending message to topic: {}, partition: {}, key: {}", rec.topic(), rec.partition(), rec.key());
                 }
-                kafkaProducer.send(rec, cb);
+                kafkaProducer.send(rec, recordCallback);
+                recordCallback = null;
             }
-            return cb.allSent();
         } catch (Exception ex) {
-            exchange.setException(ex);
+            // fail the record which could not be sent, and stop sending the remaining records
+            if (recordCallback == null) {
+                recordCallback = cb.newRecordCallback();
+            }
+            recordCallback.onCompletion(null, ex);
         }
-        callback.done(true);
-        return true;
+        return cb.allSent();
+    }
+
+    private KafkaProducerResultMapper getResultMapper() {
+        KafkaProducerResultMapper mapper = endpoint.getConfiguration().getProducerResultMapper();
+        return mapper != null ? mapper : defaultResultMapper;
     }
 
     /**
@@ -319,47 +332,59 @@ public class KafkaProducer extends DefaultAsyncProducer {
         return answer != null ? answer : object;
     }
 
-    private final class KafkaProducerCallBack implements Callback {
+    /**
+     * Aggregates the results of the records of an exchange, and continues routing the exchange when all the records
+     * has been sent, without blocking any threads while waiting for Kafka.
+     */
+    private final class KafkaProducerCallBack {
 
         private final Exchange exchange;
         private final AsyncCallback callback;
         private final AtomicInteger count = new AtomicInteger(1);
         private final List<RecordMetadata> recordMetadatas = new ArrayList<>();
+        private final List<Exception> exceptions = new ArrayList<>();
 
         KafkaProducerCallBack(Exchange exchange, AsyncCallback callback) {
             this.exchange = exchange;
             this.callback = callback;
-            if (endpoint.getConfiguration().isRecordMetadata()) {
-                if (exchange.hasOut()) {
-                    exchange.getOut().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-                } else {
-                    exchange.getIn().setHeader(KafkaConstants.KAFKA_RECORDMETA, recordMetadatas);
-                }
-            }
         }
 
-        void increment() {
+        /**
+         * Creates the callback for the next record, which must be completed exactly once.
+         */
+        Callback newRecordCallback() {
             count.incrementAndGet();
+            final int index;
+            synchronized (this) {
+                index = recordMetadatas.size();
+                recordMetadatas.add(null);
+                exceptions.add(null);
+            }
+            final AtomicBoolean completed = new AtomicBoolean();
+            return (recordMetadata, e) -> {
+                if (completed.compareAndSet(false, true)) {
+                    onCompletion(index, recordMetadata, e);
+                }
+            };
         }
 
         boolean allSent() {
             if (count.decrementAndGet() == 0) {
                 log.trace("All messages sent, continue routing.");
                 //was able to get all the work done while queuing the requests
+                done();
                 callback.done(true);
                 return true;
             }
             return false;
         }
 
-        @Override
-        public void onCompletion(RecordMetadata recordMetadata, Exception e) {
-            if (e != null) {
-                exchange.setException(e);
+        private void onCompletion(int index, RecordMetadata recordMetadata, Exception e) {
+            synchronized (this) {
+                recordMetadatas.set(index, recordMetadata);
+                exceptions.set(index, e);
             }
 
-            recordMetadatas.add(recordMetadata);
-
             if (count.decrementAndGet() == 0) {
                 // use worker pool to continue routing the exchange
                 // as this thread is from Kafka Callback and should not be used by Camel routing
@@ -367,11 +392,22 @@ public class KafkaProducer extends DefaultAsyncProducer {
                     @Override
                     public void run() {
                         log.trace("All messages sent, continue routing.");
+                        done();
                         callback.done(false);
                     }
                 });
             }
         }
+
+        private void done() {
+            try {
+                synchronized (this) {
+                    getResultMapper().map(exchange, recordMetadatas, exceptions);
+                }
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        }
     }
 
 }
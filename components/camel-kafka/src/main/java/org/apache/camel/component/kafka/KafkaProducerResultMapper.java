@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * Maps the results of sending the records of an {@link Exchange} to Kafka onto the {@link Exchange},
+ * before the {@link Exchange} continues being routed.
+ * <p/>
+ * The mapper is called once for each {@link Exchange} when all its records has been acknowledged by Kafka
+ * (or failed), which may be a list of records when the message body is an {@link Iterable} or {@link java.util.Iterator}.
+ */
+public interface KafkaProducerResultMapper {
+
+    /**
+     * Maps the results onto the exchange.
+     *
+     * @param exchange        the exchange
+     * @param recordMetadatas the metadata of the records, in the same order as the records was created from the message body
+     * @param exceptions      the exceptions of the records, in the same order as the records, where the exception is
+     *                        <tt>null</tt> if the record was sent successfully
+     */
+    void map(Exchange exchange, List<RecordMetadata> recordMetadatas, List<Exception> exceptions);
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.TreeSet;
+
+/**
+ * Keeps track of the records of a partition which are being processed concurrently, to know the offset of the record
+ * where this record and all the records before it has been processed (the watermark), which is the offset that
+ * is safe to commit.
+ * <p/>
+ * The records must be dispatched in order of their offsets by a single thread, but may be processed by any thread.
+ */
+final class PartitionWatermark {
+
+    private final TreeSet<Long> pending = new TreeSet<>();
+    private long lastDispatched = -1;
+    private long failedOffset = -1;
+    private long committed = -1;
+
+    synchronized void dispatched(long offset) {
+        pending.add(offset);
+        lastDispatched = offset;
+    }
+
+    synchronized void processed(long offset) {
+        pending.remove(offset);
+        if (pending.isEmpty()) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Marks the record as failed, which means the watermark will not move past the record.
+     */
+    synchronized void failed(long offset) {
+        if (failedOffset == -1 || offset < failedOffset) {
+            failedOffset = offset;
+        }
+    }
+
+    synchronized boolean isFailed() {
+        return failedOffset != -1;
+    }
+
+    /**
+     * Whether the record should be skipped, as a record before it has failed.
+     */
+    synchronized boolean isFailedBefore(long offset) {
+        return failedOffset != -1 && failedOffset < offset;
+    }
+
+    /**
+     * Gets the offset of the last record where all the records before it has been processed, or -1 if there is none.
+     */
+    synchronized long getWatermark() {
+        long answer = pending.isEmpty() ? lastDispatched : pending.first() - 1;
+        if (failedOffset != -1) {
+            answer = Math.min(answer, failedOffset - 1);
+        }
+        return answer;
+    }
+
+    /**
+     * Waits until all the dispatched records has been processed.
+     */
+    synchronized void awaitProcessed() throws InterruptedException {
+        while (!pending.isEmpty()) {
+            wait();
+        }
+    }
+
+    long getCommitted() {
+        return committed;
+    }
+
+    void setCommitted(long committed) {
+        this.committed = committed;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KafkaConsumerProcessingThreadsTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "processingThreads";
+
+    private static final int KEYS = 5;
+    private static final int MESSAGES_PER_KEY = 20;
+
+    @EndpointInject("kafka:" + TOPIC
+            + "?groupId=group1&autoOffsetReset=earliest"
+            + "&processingThreads=4&processingOrder=key")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+    private final Set<String> threads = new CopyOnWriteArraySet<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @Before
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @After
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo")
+                    .process(exchange -> {
+                        String key = exchange.getIn().getHeader(KafkaConstants.KEY, String.class);
+                        int value = exchange.getIn().getBody(Integer.class);
+                        // give the other keys a chance to overtake this one
+                        Thread.sleep(value % 3);
+                        received.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(value);
+                        threads.add(Thread.currentThread().getName());
+                    })
+                    .to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaMessagesWithSameKeyAreProcessedInOrder() throws Exception {
+        to.expectedMessageCount(KEYS * MESSAGES_PER_KEY);
+
+        for (int i = 0; i < MESSAGES_PER_KEY; i++) {
+            for (int k = 0; k < KEYS; k++) {
+                producer.send(new ProducerRecord<>(TOPIC, "key" + k, String.valueOf(i)));
+            }
+        }
+
+        to.assertIsSatisfied(10000);
+
+        assertEquals(KEYS, received.size());
+        for (List<Integer> values : received.values()) {
+            assertEquals(MESSAGES_PER_KEY, values.size());
+            for (int i = 0; i < MESSAGES_PER_KEY; i++) {
+                assertEquals("Records with the same key must be processed in order", i, values.get(i).intValue());
+            }
+        }
+        assertTrue("Records should be processed by more than one thread", threads.size() > 1);
+    }
+}
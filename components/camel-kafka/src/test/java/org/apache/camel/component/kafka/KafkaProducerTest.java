@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.kafka;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Properties;
@@ -40,6 +41,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -135,6 +137,8 @@ public class KafkaProducerTest {
         Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), callBackCaptor.capture());
         Callback kafkaCallback = callBackCaptor.getValue();
         kafkaCallback.onCompletion(new RecordMetadata(null, 0, 0, 0, new Long(0), 0, 0), null);
+        // the exchange continues routing on the worker pool
+        Mockito.verify(callback, Mockito.timeout(5000)).done(eq(false));
         assertRecordMetadataExists();
     }
 
@@ -156,9 +160,60 @@ public class KafkaProducerTest {
         Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), callBackCaptor.capture());
         Mockito.verify(exchange).setException(isA(ApiException.class));
         Mockito.verify(callback).done(eq(true));
+        // the record has already been completed so the exchange must not be completed again
         Callback kafkaCallback = callBackCaptor.getValue();
         kafkaCallback.onCompletion(new RecordMetadata(null, 0, 0, 0, new Long(0), 0, 0), null);
-        assertRecordMetadataExists();
+        Mockito.verifyNoMoreInteractions(callback);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void processAsyncSendsBatchWithoutBlocking() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+
+        in.setBody(Arrays.asList("a", "b", "c"));
+
+        assertFalse(producer.process(exchange, callback));
+
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+        Mockito.verify(producer.getKafkaProducer(), Mockito.times(3)).send(any(ProducerRecord.class), callBackCaptor.capture());
+        List<Callback> kafkaCallbacks = callBackCaptor.getAllValues();
+
+        // complete the records out of order, where the second record fails
+        ApiException failure = new ApiException();
+        kafkaCallbacks.get(2).onCompletion(new RecordMetadata(null, 0, 2, 0, new Long(0), 0, 0), null);
+        kafkaCallbacks.get(1).onCompletion(null, failure);
+        Mockito.verify(callback, Mockito.after(100).never()).done(Mockito.anyBoolean());
+        kafkaCallbacks.get(0).onCompletion(new RecordMetadata(null, 0, 0, 0, new Long(0), 0, 0), null);
+
+        Mockito.verify(callback, Mockito.timeout(5000)).done(eq(false));
+        Mockito.verify(exchange).setException(failure);
+        List<RecordMetadata> recordMetaData = (List<RecordMetadata>) in.getHeader(KafkaConstants.KAFKA_RECORDMETA);
+        assertEquals(3, recordMetaData.size());
+        assertEquals(0, recordMetaData.get(0).offset());
+        assertNull(recordMetaData.get(1));
+        assertEquals(2, recordMetaData.get(2).offset());
+    }
+
+    @Test
+    public void processAsyncSendsMessageWithCustomResultMapper() throws Exception {
+        endpoint.getConfiguration().setTopic("sometopic");
+        endpoint.getConfiguration().setProducerResultMapper((exchange, recordMetadatas, exceptions) ->
+            exchange.getIn().setHeader("offset", recordMetadatas.get(0).offset()));
+        Mockito.when(exchange.getIn()).thenReturn(in);
+        Mockito.when(exchange.getOut()).thenReturn(out);
+
+        producer.process(exchange, callback);
+
+        ArgumentCaptor<Callback> callBackCaptor = ArgumentCaptor.forClass(Callback.class);
+        Mockito.verify(producer.getKafkaProducer()).send(any(ProducerRecord.class), callBackCaptor.capture());
+        callBackCaptor.getValue().onCompletion(new RecordMetadata(null, 0, 5, 0, new Long(0), 0, 0), null);
+
+        Mockito.verify(callback, Mockito.timeout(5000)).done(eq(false));
+        assertEquals(5L, in.getHeader("offset"));
+        assertNull(in.getHeader(KafkaConstants.KAFKA_RECORDMETA));
     }
 
     @Test
@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A bounded multi-producer multi-consumer {@link BlockingQueue} backed by an array used as a ring buffer,
+ * where the elements are added and removed without locks.
+ * <p/>
+ * Each slot in the ring has a sequence number which tells whether the slot is free or holds an element for a given
+ * position, and producers and consumers claim a position using compare and set on the producer and consumer index
+ * (as described by Dmitry Vyukov for his bounded MPMC queue). Compared to {@link java.util.concurrent.LinkedBlockingQueue}
+ * there are no locks and no node allocated per element.
+ * <p/>
+ * When a thread has to wait because the queue is empty (or full) it spins and yields for a while, as the queue often
+ * changes shortly after, and then parks using a lock and condition, which is only used by the waiting threads and
+ * the threads that must signal them.
+ * <p/>
+ * Removing an arbitrary element using {@link #remove(Object)} leaves an empty slot in the ring until the consumers
+ * reach it, which is counted in the size of the queue until then.
+ */
+public class MpmcArrayBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * Number of times to try again before yielding and then parking while waiting
+     */
+    public static final int DEFAULT_SPIN_TRIES = 100;
+
+    private static final int YIELD_TRIES = 10;
+
+    private final int capacity;
+    private final int spinTries;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    // used only when threads must park
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    public MpmcArrayBlockingQueue(int capacity) {
+        this(capacity, DEFAULT_SPIN_TRIES);
+    }
+
+    public MpmcArrayBlockingQueue(int capacity, int spinTries) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.spinTries = spinTries;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        ObjectHelper.notNull(e, "element");
+        long pos = producerIndex.get();
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                // the slot is free for this position
+                if (producerIndex.compareAndSet(pos, pos + 1)) {
+                    elements.set(index, e);
+                    // publish the element to the consumers
+                    sequences.set(index, pos + 1);
+                    if (waitingConsumers.get() > 0) {
+                        signal(notEmpty);
+                    }
+                    return true;
+                }
+                pos = producerIndex.get();
+            } else if (diff < 0) {
+                // the slot still holds the element from the previous lap so the queue is full
+                return false;
+            } else {
+                pos = producerIndex.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long pos = consumerIndex.get();
+        while (true) {
+            int index = index(pos);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                // the slot holds the element for this position
+                if (consumerIndex.compareAndSet(pos, pos + 1)) {
+                    E e = elements.getAndSet(index, null);
+                    // free the slot for the next lap
+                    sequences.set(index, pos + capacity);
+                    if (waitingProducers.get() > 0) {
+                        signal(notFull);
+                    }
+                    if (e != null) {
+                        return e;
+                    }
+                    // the element was removed so continue with the next position
+                }
+                pos = consumerIndex.get();
+            } else if (diff < 0) {
+                // the element for this position has not been published so the queue is empty
+                return null;
+            } else {
+                pos = consumerIndex.get();
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        while (true) {
+            long pos = consumerIndex.get();
+            int index = index(pos);
+            if (sequences.get(index) - (pos + 1) < 0) {
+                return null;
+            }
+            E e = elements.get(index);
+            if (consumerIndex.get() != pos) {
+                // taken by another consumer so try again
+                continue;
+            }
+            if (e != null) {
+                return e;
+            }
+            // the element was removed so skip its slot
+            if (consumerIndex.compareAndSet(pos, pos + 1)) {
+                sequences.set(index, pos + capacity);
+                if (waitingProducers.get() > 0) {
+                    signal(notFull);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        while (!offer(e, Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+            // wait again
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (offer(e)) {
+            return true;
+        }
+        long nanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + nanos;
+        for (int i = 0; i < spinTries + YIELD_TRIES; i++) {
+            if (i >= spinTries) {
+                Thread.yield();
+            }
+            if (offer(e)) {
+                return true;
+            }
+        }
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            lock.lockInterruptibly();
+            try {
+                waitingProducers.incrementAndGet();
+                try {
+                    // check again after registering as waiting, as a consumer only signals waiting producers
+                    while (remainingCapacity() == 0) {
+                        nanos = deadline - System.nanoTime();
+                        if (nanos <= 0) {
+                            return false;
+                        }
+                        notFull.awaitNanos(nanos);
+                    }
+                } finally {
+                    waitingProducers.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (offer(e)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E e;
+        do {
+            e = poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } while (e == null);
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        if (e != null) {
+            return e;
+        }
+        long nanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + nanos;
+        for (int i = 0; i < spinTries + YIELD_TRIES; i++) {
+            if (i >= spinTries) {
+                Thread.yield();
+            }
+            e = poll();
+            if (e != null) {
+                return e;
+            }
+        }
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            lock.lockInterruptibly();
+            try {
+                waitingConsumers.incrementAndGet();
+                try {
+                    // check again after registering as waiting, as a producer only signals waiting consumers
+                    while (size() == 0) {
+                        nanos = deadline - System.nanoTime();
+                        if (nanos <= 0) {
+                            return null;
+                        }
+                        notEmpty.awaitNanos(nanos);
+                    }
+                } finally {
+                    waitingConsumers.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+            e = poll();
+            if (e != null) {
+                return e;
+            }
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        ObjectHelper.notNull(c, "collection");
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain to itself");
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long start = consumerIndex.get();
+        long end = producerIndex.get();
+        for (long pos = start; pos < end; pos++) {
+            int index = index(pos);
+            E e = elements.get(index);
+            // only remove the element if it is still at this position
+            if (e != null && sequences.get(index) == pos + 1 && o.equals(e) && elements.compareAndSet(index, e, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        while (true) {
+            long consumer = consumerIndex.get();
+            long producer = producerIndex.get();
+            if (consumerIndex.get() == consumer) {
+                long size = producer - consumer;
+                return (int) Math.max(0, Math.min(size, capacity));
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a weakly consistent iterator of a snapshot of the elements in the queue, which does not support
+     * removing elements.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>();
+        long start = consumerIndex.get();
+        long end = producerIndex.get();
+        for (long pos = start; pos < end; pos++) {
+            int index = index(pos);
+            E e = elements.get(index);
+            if (e != null && sequences.get(index) == pos + 1) {
+                answer.add(e);
+            }
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    private int index(long pos) {
+        return (int) (pos % capacity);
+    }
+
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MpmcArrayBlockingQueue[" + size() + "/" + capacity + "]";
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -30,6 +31,7 @@ import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
 import org.apache.camel.spi.ShutdownAware;
 import org.apache.camel.spi.Synchronization;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
@@ -50,10 +52,12 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int maxBatchSize;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.maxBatchSize = endpoint.getMaxBatchSize();
     }
 
     @Override
@@ -172,7 +176,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                 if (log.isTraceEnabled()) {
                     log.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout, exchange);
                 }
-                if (exchange != null) {
+                if (exchange != null && maxBatchSize > 1 && !getEndpoint().isMultipleConsumersSupported()) {
+                    // take the exchanges which are already on the queue as a batch
+                    List<Exchange> exchanges = new ArrayList<>(maxBatchSize);
+                    exchanges.add(exchange);
+                    queue.drainTo(exchanges, maxBatchSize - 1);
+                    exchange = null;
+                    processBatch(exchanges);
+                } else if (exchange != null) {
                     try {
                         // send a new copied exchange with new camel context
                         Exchange newExchange = prepareExchange(exchange);
@@ -210,6 +221,47 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Processes the exchanges taken from the queue as a batch
+     *
+     * @param exchanges the exchanges
+     */
+    protected void processBatch(List<Exchange> exchanges) {
+        if (log.isTraceEnabled()) {
+            log.trace("Processing batch of {} exchanges", exchanges.size());
+        }
+        List<Exchange> newExchanges = new ArrayList<>(exchanges.size());
+        try {
+            for (Exchange exchange : exchanges) {
+                // send a new copied exchange with new camel context
+                newExchanges.add(prepareExchange(exchange));
+            }
+            // process the exchanges using the asynchronous routing engine
+            AsyncProcessorHelper.processBatch(getAsyncProcessor(), newExchanges, EmptyAsyncCallback.get());
+        } catch (Throwable e) {
+            for (Exchange exchange : exchanges) {
+                getExceptionHandler().handleException("Error processing exchange", exchange, e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < newExchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            Exchange newExchange = newExchanges.get(i);
+            // copy the message back
+            if (newExchange.hasOut()) {
+                exchange.setOut(newExchange.getOut().copy());
+            } else {
+                exchange.setIn(newExchange.getIn());
+            }
+            // log exception if an exception occurred and was not handled
+            if (newExchange.getException() != null) {
+                exchange.setException(newExchange.getException());
+                getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+            }
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -22,6 +22,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,6 +36,13 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriPath(description = "Sets the SQL query to perform. You can externalize the query by using file: or classpath: as prefix and specify the location of the file.")
     @Metadata(required = true)
     private String query;
+    @UriParam(label = "producer", description = "If set greater than zero, then concurrent exchanges sent to the producer are grouped"
+            + " together and executed as a single JDBC batch (group commit), where each exchange gets its own update count or error."
+            + " This option sets the maximum number of exchanges in a group. This cannot be used together with batch.")
+    private int groupCommitSize;
+    @UriParam(label = "producer", defaultValue = "10", description = "The maximum time in millis to wait for more exchanges to join"
+            + " a group, before the group is executed, when using groupCommitSize.")
+    private long groupCommitTimeout = 10;
 
     public SqlEndpoint() {
     }
@@ -66,9 +74,14 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @Override
     public Producer createProducer() throws Exception {
         SqlPrepareStatementStrategy prepareStrategy = getPrepareStatementStrategy() != null ? getPrepareStatementStrategy() : new DefaultSqlPrepareStatementStrategy(getSeparator());
+        if (getGroupCommitSize() > 0 && isBatch()) {
+            throw new IllegalArgumentException("The option groupCommitSize cannot be used together with batch");
+        }
         SqlProducer result = new SqlProducer(this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        result.setGroupCommitSize(getGroupCommitSize());
+        result.setGroupCommitTimeout(getGroupCommitTimeout());
         return result;
     }
 
@@ -89,4 +102,28 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         this.query = query;
     }
 
+    public int getGroupCommitSize() {
+        return groupCommitSize;
+    }
+
+    /**
+     * If set greater than zero, then concurrent exchanges sent to the producer are grouped together and executed as
+     * a single JDBC batch (group commit), where each exchange gets its own update count or error.
+     * This option sets the maximum number of exchanges in a group. This cannot be used together with batch.
+     */
+    public void setGroupCommitSize(int groupCommitSize) {
+        this.groupCommitSize = groupCommitSize;
+    }
+
+    public long getGroupCommitTimeout() {
+        return groupCommitTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more exchanges to join a group, before the group is executed, when using groupCommitSize.
+     */
+    public void setGroupCommitTimeout(long groupCommitTimeout) {
+        this.groupCommitTimeout = groupCommitTimeout;
+    }
+
 }
@@ -16,21 +16,30 @@
  */
 package org.apache.camel.component.sql;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultProducer;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
@@ -45,6 +54,12 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private int parametersCount;
+    private int groupCommitSize;
+    private long groupCommitTimeout;
+    private final Lock groupCommitLock = new ReentrantLock();
+    private final Condition groupCommitChanged = groupCommitLock.newCondition();
+    private final List<GroupCommitEntry> pendingGroup = new ArrayList<>();
+    private boolean groupLeader;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
                        boolean batch, boolean alwaysPopulateStatement, boolean useMessageBodyForSql) {
@@ -106,6 +121,13 @@ public class SqlProducer extends DefaultProducer {
             }
         };
 
+        // execute the exchange together with the concurrent exchanges in a single batch
+        // (generated keys are only supported when executing the statement on its own)
+        if (groupCommitSize > 0 && !shouldRetrieveGeneratedKeys && isGroupCommit(exchange, preparedQuery)) {
+            processGroupCommit(exchange, sql, preparedQuery);
+            return;
+        }
+
         // special for processing stream list (batch not supported)
         SqlOutputType outputType = getEndpoint().getOutputType();
         if (outputType == SqlOutputType.StreamList) {
@@ -305,7 +327,209 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    /**
+     * Whether the exchange can be executed in a group together with the concurrent exchanges.
+     * <p/>
+     * A group is executed by the thread of its leader, using a connection of the leader, so exchanges which are
+     * transacted, or which run in a Spring transaction, are executed on their own to use the connection of their
+     * transaction. Only insert, update, delete and merge statements are grouped, as a batch cannot return any
+     * result set of a query.
+     */
+    private static boolean isGroupCommit(Exchange exchange, String preparedQuery) {
+        if (exchange.isTransacted() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        String sql = preparedQuery.trim();
+        int end = 0;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        String keyword = sql.substring(0, end).toLowerCase(Locale.ENGLISH);
+        return "insert".equals(keyword) || "update".equals(keyword) || "delete".equals(keyword) || "merge".equals(keyword);
+    }
+
+    /**
+     * Adds the exchange to the group of pending exchanges, and waits until the exchange has been executed.
+     * <p/>
+     * The first waiting thread becomes the leader of the pending group, which waits for more exchanges to join until
+     * the group is full or the timeout is hit (counted from the oldest exchange in the group), and then executes
+     * the group on behalf of the waiting threads. The next thread can become the leader of a new group while
+     * the previous group is being executed.
+     */
+    protected void processGroupCommit(Exchange exchange, String sql, String preparedQuery) throws Exception {
+        GroupCommitEntry entry = new GroupCommitEntry(exchange, sql, preparedQuery);
+        long timeout = TimeUnit.MILLISECONDS.toNanos(groupCommitTimeout);
+
+        groupCommitLock.lock();
+        try {
+            pendingGroup.add(entry);
+            if (pendingGroup.size() >= groupCommitSize) {
+                groupCommitChanged.signalAll();
+            }
+
+            while (!entry.done) {
+                if (groupLeader || !pendingGroup.contains(entry)) {
+                    // another thread is leading the group or executing our exchange
+                    groupCommitChanged.await();
+                    continue;
+                }
+
+                // become the leader and wait for the group to fill up
+                groupLeader = true;
+                try {
+                    long remaining = pendingGroup.get(0).created + timeout - System.nanoTime();
+                    while (pendingGroup.size() < groupCommitSize && remaining > 0) {
+                        remaining = groupCommitChanged.awaitNanos(remaining);
+                    }
+                } finally {
+                    groupLeader = false;
+                }
+
+                List<GroupCommitEntry> group = new ArrayList<>(pendingGroup.subList(0, Math.min(groupCommitSize, pendingGroup.size())));
+                pendingGroup.subList(0, group.size()).clear();
+                // let another thread lead the next group while this group is executed
+                groupCommitChanged.signalAll();
+
+                groupCommitLock.unlock();
+                try {
+                    executeGroup(group);
+                } finally {
+                    groupCommitLock.lock();
+                    for (GroupCommitEntry executed : group) {
+                        executed.done = true;
+                    }
+                    groupCommitChanged.signalAll();
+                }
+            }
+        } catch (InterruptedException e) {
+            if (pendingGroup.remove(entry)) {
+                // the exchange has not been executed, and should no longer be executed
+                groupCommitChanged.signalAll();
+                throw e;
+            }
+            // another thread is executing the exchange, so wait for its result
+            while (!entry.done) {
+                groupCommitChanged.awaitUninterruptibly();
+            }
+            Thread.currentThread().interrupt();
+        } finally {
+            groupCommitLock.unlock();
+        }
+
+        if (entry.exception != null) {
+            throw entry.exception;
+        }
+        exchange.getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, entry.updateCount);
+    }
+
+    private void executeGroup(List<GroupCommitEntry> group) {
+        // exchanges may use different queries (via header or message body) which cannot be in the same batch
+        Map<String, List<GroupCommitEntry>> queries = new LinkedHashMap<>();
+        for (GroupCommitEntry entry : group) {
+            queries.computeIfAbsent(entry.preparedQuery, k -> new ArrayList<>()).add(entry);
+        }
+
+        for (Map.Entry<String, List<GroupCommitEntry>> query : queries.entrySet()) {
+            List<GroupCommitEntry> remaining = query.getValue();
+            try {
+                while (!remaining.isEmpty()) {
+                    remaining = executeBatch(query.getKey(), remaining);
+                }
+            } catch (Exception e) {
+                for (GroupCommitEntry entry : remaining) {
+                    if (entry.exception == null) {
+                        entry.exception = e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the exchanges as a single batch.
+     *
+     * @return the exchanges which has not been executed, as the batch was aborted by a failed exchange
+     */
+    private List<GroupCommitEntry> executeBatch(String preparedQuery, List<GroupCommitEntry> entries) {
+        log.trace("jdbcTemplate.execute batch of {} exchanges: {}", entries.size(), preparedQuery);
+        return jdbcTemplate.execute(con -> con.prepareStatement(preparedQuery), (PreparedStatementCallback<List<GroupCommitEntry>>) ps -> {
+            int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+
+            List<GroupCommitEntry> added = new ArrayList<>(entries.size());
+            for (GroupCommitEntry entry : entries) {
+                try {
+                    // only populate if really needed
+                    if (alwaysPopulateStatement || expected > 0) {
+                        Object value;
+                        if (useMessageBodyForSql) {
+                            value = entry.exchange.getIn().getHeader(SqlConstants.SQL_PARAMETERS);
+                        } else {
+                            value = entry.exchange.getIn().getBody();
+                        }
+                        Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(entry.sql, preparedQuery, expected, entry.exchange, value);
+                        sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                    }
+                    ps.addBatch();
+                    added.add(entry);
+                } catch (Exception e) {
+                    // only this exchange fails
+                    entry.exception = e;
+                }
+            }
+            if (added.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            int[] updateCounts;
+            BatchUpdateException failure = null;
+            try {
+                updateCounts = ps.executeBatch();
+            } catch (BatchUpdateException e) {
+                failure = e;
+                updateCounts = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+            }
+
+            for (int i = 0; i < added.size() && i < updateCounts.length; i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    added.get(i).exception = failure;
+                } else {
+                    added.get(i).updateCount = updateCounts[i];
+                }
+            }
+            if (failure != null && updateCounts.length < added.size()) {
+                // the driver stopped at the failed exchange, so the exchanges after it must be executed again
+                added.get(updateCounts.length).exception = failure;
+                return added.subList(updateCounts.length + 1, added.size());
+            }
+            return Collections.emptyList();
+        });
+    }
+
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    public void setGroupCommitSize(int groupCommitSize) {
+        this.groupCommitSize = groupCommitSize;
+    }
+
+    public void setGroupCommitTimeout(long groupCommitTimeout) {
+        this.groupCommitTimeout = groupCommitTimeout;
+    }
+
+    private static final class GroupCommitEntry {
+        private final Exchange exchange;
+        private final String sql;
+        private final String preparedQuery;
+        private final long created = System.nanoTime();
+        private boolean done;
+        private int updateCount;
+        private Exception exception;
+
+        GroupCommitEntry(Exchange exchange, String sql, String preparedQuery) {
+            this.exchange = exchange;
+            this.sql = sql;
+            this.preparedQuery = preparedQuery;
+        }
+    }
 }
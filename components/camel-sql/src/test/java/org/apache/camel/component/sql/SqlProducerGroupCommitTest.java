@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class SqlProducerGroupCommitTest extends CamelTestSupport {
+
+    @EndpointInject("mock:result")
+    private MockEndpoint mockEndpoint;
+    private EmbeddedDatabase db;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Test
+    public void testConcurrentInsertsAreGrouped() throws Exception {
+        mockEndpoint.expectedMessageCount(100);
+        connections.set(0);
+
+        List<Future<Exchange>> responses = sendInserts(10, 100);
+
+        assertMockEndpointsSatisfied();
+        // each batch is executed using its own connection
+        assertTrue("The inserts should be executed in batches, but " + connections.get() + " connections were used", connections.get() <= 50);
+        for (Future<Exchange> response : responses) {
+            Exchange out = response.get();
+            assertNull(out.getException());
+            assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        assertEquals(Integer.valueOf(103), jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testFailedInsertOnlyFailsItsExchange() throws Exception {
+        mockEndpoint.expectedMessageCount(10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(11);
+        List<Future<Exchange>> responses = new ArrayList<>();
+        // the project with id 2 already exists
+        for (int id : new int[] {4, 5, 6, 7, 8, 2, 9, 10, 11, 12, 13}) {
+            responses.add(executor.submit(() -> template.request("direct:insert", e -> e.getIn().setBody(Arrays.asList(id, "Project" + id, "ASF")))));
+        }
+
+        assertMockEndpointsSatisfied();
+        for (Future<Exchange> response : responses) {
+            Exchange out = response.get();
+            if (out.getIn().getBody(List.class).get(0).equals(2)) {
+                assertNotNull("The duplicate project should fail", out.getException());
+            } else {
+                assertNull(out.getException());
+                assertEquals(1, out.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            }
+        }
+        assertEquals(Integer.valueOf(13), jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+        assertEquals("AMQ", jdbcTemplate.queryForObject("select project from projects where id = 2", String.class));
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testSingleInsertIsExecutedAfterTimeout() throws Exception {
+        mockEndpoint.expectedMessageCount(1);
+
+        template.sendBody("direct:insert", Arrays.asList(4, "Karaf", "ASF"));
+
+        assertMockEndpointsSatisfied();
+        assertEquals("Karaf", jdbcTemplate.queryForObject("select project from projects where id = 4", String.class));
+        assertEquals(1, mockEndpoint.getReceivedExchanges().get(0).getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+    }
+
+    @Test
+    public void testQueryIsNotGrouped() throws Exception {
+        List<?> rows = template.requestBody("direct:select", 2, List.class);
+        assertEquals(1, rows.size());
+        assertEquals("AMQ", ((Map<?, ?>) rows.get(0)).get("PROJECT"));
+    }
+
+    @Test
+    public void testTransactedInsertIsNotGrouped() throws Exception {
+        mockEndpoint.expectedMessageCount(2);
+
+        // the first insert leads a group, and waits for more inserts to join
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Exchange> response = executor.submit(() -> template.request("direct:slowInsert", e -> e.getIn().setBody(Arrays.asList(4, "Karaf", "ASF"))));
+        Thread.sleep(200);
+
+        // the insert in the transaction must use the connection of the transaction, and not join the group
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.execute(status -> {
+            template.sendBody("direct:slowInsert", Arrays.asList(5, "Kafka", "ASF"));
+            status.setRollbackOnly();
+            return null;
+        });
+        assertFalse("The transacted insert should not wait for the group", response.isDone());
+
+        assertMockEndpointsSatisfied();
+        assertNull(response.get().getException());
+        assertEquals(Integer.valueOf(1), jdbcTemplate.queryForObject("select count(*) from projects where id = 4", Integer.class));
+        assertEquals("The transacted insert should be rolled back",
+            Integer.valueOf(0), jdbcTemplate.queryForObject("select count(*) from projects where id = 5", Integer.class));
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testGroupCommitCannotBeUsedWithBatch() throws Exception {
+        try {
+            context.getEndpoint("sql:insert into projects values (#, #, #)?batch=true&groupCommitSize=10").createProducer();
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The option groupCommitSize cannot be used together with batch", e.getMessage());
+        }
+    }
+
+    private List<Future<Exchange>> sendInserts(int poolSize, int count) {
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        List<Future<Exchange>> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int id = i + 4;
+            responses.add(executor.submit(() -> template.request("direct:insert", e -> e.getIn().setBody(Arrays.asList(id, "Project" + id, "ASF")))));
+        }
+        executor.shutdown();
+        return responses;
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+        // counts the connections used by the sql component
+        dataSource = new DelegatingDataSource(db) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                connections.incrementAndGet();
+                return super.getConnection();
+            }
+        };
+
+        super.setUp();
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(dataSource);
+
+                from("direct:insert")
+                    .to("sql:insert into projects (id, project, license) values (#, #, #)?groupCommitSize=10&groupCommitTimeout=100")
+                    .to("mock:result");
+
+                from("direct:slowInsert")
+                    .to("sql:insert into projects (id, project, license) values (#, #, #)?groupCommitSize=10&groupCommitTimeout=2000")
+                    .to("mock:result");
+
+                from("direct:select")
+                    .to("sql:select * from projects where id = #?groupCommitSize=10");
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel;
+
+import java.util.List;
+
+/**
+ * An {@link AsyncProcessor} which can process a batch of {@link Exchange}s in one invocation.
+ * <p/>
+ * Consumers which receives many small messages can hand over a batch of exchanges to the route, to reduce
+ * the overhead per exchange in the routing engine, and processors (such as producers) which implements this interface
+ * can process the batch together, for example using a native batch API. Processors which do not implement this
+ * interface processes the exchanges in the batch one by one, see
+ * {@link org.apache.camel.support.AsyncProcessorHelper#processBatch(AsyncProcessor, List, AsyncCallback)}.
+ */
+public interface BatchProcessor extends AsyncProcessor {
+
+    /**
+     * Processes the batch of message exchanges.
+     * <p/>
+     * If there was a failure processing an exchange then the caused {@link Exception} would be set on that {@link Exchange},
+     * and the other exchanges in the batch are processed as usual.
+     *
+     * @param exchanges the message exchanges
+     * @param callback  the {@link AsyncCallback} will be invoked when the processing of all the exchanges is completed.
+     * @return (doneSync) <tt>true</tt> to continue execute synchronously, <tt>false</tt> to continue being executed asynchronously
+     */
+    boolean processBatch(List<Exchange> exchanges, AsyncCallback callback);
+
+}
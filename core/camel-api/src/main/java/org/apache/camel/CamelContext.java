@@ -54,6 +54,7 @@ import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.spi.Validator;
 import org.apache.camel.spi.ValidatorRegistry;
 import org.apache.camel.support.jsse.SSLContextParameters;
+import org.slf4j.LoggerFactory;
 
 /**
  * Interface used to represent the CamelContext used to configure routes and the
@@ -1060,6 +1061,52 @@ public interface CamelContext extends StatefulService, RuntimeConfiguration {
      */
     void setMessageHistoryFactory(MessageHistoryFactory messageHistoryFactory);
 
+    /**
+     * Gets the number of nodes to keep in the message history of each exchange.
+     *
+     * @return the ring buffer size, or <tt>0</tt> if the message history of all the nodes is kept
+     * @see MessageHistoryFactory#getRingBufferSize()
+     */
+    default int getMessageHistoryRingBufferSize() {
+        return getMessageHistoryFactory().getRingBufferSize();
+    }
+
+    /**
+     * Sets the number of nodes to keep in the message history of each exchange, in a compact ring buffer which
+     * keeps the most recent nodes. This is configured on the current {@link MessageHistoryFactory}.
+     * <p/>
+     * Default is <tt>0</tt> to keep the message history of all the nodes.
+     *
+     * @param ringBufferSize the ring buffer size, or <tt>0</tt> to keep the message history of all the nodes
+     * @see MessageHistoryFactory#setRingBufferSize(int)
+     */
+    default void setMessageHistoryRingBufferSize(int ringBufferSize) {
+        getMessageHistoryFactory().setRingBufferSize(ringBufferSize);
+    }
+
+    /**
+     * Gets the sample rate of the message history.
+     *
+     * @return the message history is kept for 1 in N exchanges
+     * @see MessageHistoryFactory#getSampleRate()
+     */
+    default int getMessageHistorySampleRate() {
+        return getMessageHistoryFactory().getSampleRate();
+    }
+
+    /**
+     * Sets to only keep the message history of (on average) 1 in N exchanges, to reduce the overhead of message history
+     * under high load. This is configured on the current {@link MessageHistoryFactory}.
+     * <p/>
+     * Default is <tt>1</tt> to keep the message history of every exchange.
+     *
+     * @param sampleRate keep the message history for 1 in N exchanges
+     * @see MessageHistoryFactory#setSampleRate(int)
+     */
+    default void setMessageHistorySampleRate(int sampleRate) {
+        getMessageHistoryFactory().setSampleRate(sampleRate);
+    }
+
     /**
      * Gets the current {@link Debugger}
      *
@@ -1100,6 +1147,37 @@ public interface CamelContext extends StatefulService, RuntimeConfiguration {
      */
     void setUuidGenerator(UuidGenerator uuidGenerator);
 
+    /**
+     * Gets the number of threads used for starting routes concurrently.
+     *
+     * @return the pool size, or <tt>0</tt> if routes are started one at a time
+     */
+    default int getRouteStartupPoolSize() {
+        return 0;
+    }
+
+    /**
+     * Sets the number of threads to use for starting routes concurrently, which can speedup starting Camel
+     * when there are many routes, or routes with endpoints that take time to start, such as opening network
+     * connections.
+     * <p/>
+     * The routes are warmed up one at a time, and then their consumers are started using a thread pool of this size. Routes which are
+     * configured with an explicit <tt>startupOrder</tt> are still started one at a time in their startup order,
+     * after the routes with a lower startup order have been started.
+     * The routes (and their endpoints) which are started concurrently must therefore not depend on each other.
+     * <p/>
+     * Default is <tt>0</tt> to start the routes one at a time.
+     * <p/>
+     * A context which does not support starting routes concurrently logs a WARN and starts the routes one at a time.
+     *
+     * @param routeStartupPoolSize the pool size, or <tt>0</tt> to start routes one at a time
+     */
+    default void setRouteStartupPoolSize(int routeStartupPoolSize) {
+        if (routeStartupPoolSize > 0) {
+            LoggerFactory.getLogger(getClass()).warn("Starting routes concurrently is not supported by {}. Routes will be started one at a time.", getClass().getName());
+        }
+    }
+
     /**
      * Whether to load custom type converters by scanning classpath.
      * This is used for backwards compatibility with Camel 2.x.
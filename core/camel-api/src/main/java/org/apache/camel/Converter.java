@@ -71,6 +71,11 @@ public @interface Converter {
      * Whether to let the Camel compiler plugin to generate java source code
      * for fast loading of the type converters.
      * <p/>
+     * The loader can also be generated for all the classes with type converters by setting the
+     * option <tt>camel.generateTypeConverterLoaders=true</tt> on the Camel annotation processor,
+     * in which case the classes are still listed in <tt>META-INF/services/org/apache/camel/TypeConverter</tt>
+     * but the type converter methods are not invoked using reflection.
+     * <p/>
      * Important this configuration must be set on the class-level, not on the method.
      */
     boolean generateLoader() default false;
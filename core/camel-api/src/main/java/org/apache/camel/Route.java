@@ -67,6 +67,15 @@ public interface Route extends EndpointAware {
      */
     long getUptimeMillis();
 
+    /**
+     * Gets the time it took to start the route, which is the time to warm up the route and start its consumer.
+     *
+     * @return the startup time in milliseconds, or <tt>0</tt> if the route has not been started
+     */
+    default long getStartupTimeMillis() {
+        return 0;
+    }
+
     /**
      * Gets the inbound {@link Consumer}
      *
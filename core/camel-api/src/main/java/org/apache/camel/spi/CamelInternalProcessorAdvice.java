@@ -47,4 +47,14 @@ public interface CamelInternalProcessorAdvice<T> {
      */
     void after(Exchange exchange, T data) throws Exception;
 
+    /**
+     * Whether this advice returns any state from the {@link #before(org.apache.camel.Exchange)} method.
+     * <p/>
+     * Advices which always returns <tt>null</tt> as state should return <tt>false</tt>, which allows the
+     * Camel routing engine to not keep track of the state during routing.
+     */
+    default boolean hasState() {
+        return true;
+    }
+
 }
@@ -134,6 +134,32 @@ public interface InflightRepository extends StaticService {
      */
     int size(String routeId);
 
+    /**
+     * Whether the inflight repository should keep track of each inflight exchange, which allows to browse the
+     * inflight exchanges. This is enabled by default.
+     * <p/>
+     * When disabled then only the number of inflight exchanges are counted, which has less overhead under
+     * high concurrency, and the browse and oldest operations do not return any exchanges.
+     * <p/>
+     * Repositories which do not support disabling browsing always return <tt>true</tt>.
+     */
+    default boolean isInflightBrowseEnabled() {
+        return true;
+    }
+
+    /**
+     * Whether the inflight repository should keep track of each inflight exchange, which allows to browse the
+     * inflight exchanges. This is enabled by default.
+     * <p/>
+     * When disabled then only the number of inflight exchanges are counted, which has less overhead under
+     * high concurrency, and the browse and oldest operations do not return any exchanges.
+     * <p/>
+     * Repositories which do not support disabling browsing ignore this option.
+     */
+    default void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
+        // noop
+    }
+
     /**
      * A <i>read-only</i> browser of the {@link InflightExchange}s that are currently inflight.
      */
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.spi;
 
+import java.util.LinkedList;
+import java.util.List;
+
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.MessageHistory;
@@ -38,6 +41,20 @@ public interface MessageHistoryFactory extends StaticService, CamelContextAware
      */
     MessageHistory newMessageHistory(String routeId, NamedNode node, long timestamp, Exchange exchange);
 
+    /**
+     * Creates the list which keeps the {@link MessageHistory} of the given exchange, which is stored
+     * as the {@link Exchange#MESSAGE_HISTORY} exchange property.
+     * <p/>
+     * An implementation can return a list which keeps the history in a more compact form, or an empty list
+     * which does not keep any history, if the exchange should not be included in the message history.
+     *
+     * @param exchange  the exchange
+     * @return the list to keep the message history
+     */
+    default List<MessageHistory> newMessageHistoryList(Exchange exchange) {
+        return new LinkedList<>();
+    }
+
     boolean isCopyMessage();
 
     /**
@@ -56,4 +73,36 @@ public interface MessageHistoryFactory extends StaticService, CamelContextAware
      */
     void setNodePattern(String nodePattern);
 
+    default int getRingBufferSize() {
+        return 0;
+    }
+
+    /**
+     * Sets the number of nodes to keep in the message history of each exchange. When set, then the message history
+     * is kept in a compact ring buffer which keeps the most recent nodes, and does not create objects per node
+     * during routing. The {@link MessageHistory} is then created when it is read, such as when logging the message history
+     * of an exhausted exchange. A copy of the message is not kept in the ring buffer, even if copyMessage is enabled.
+     * By default this is 0, which keeps the message history of all the nodes.
+     * <p/>
+     * Factories which do not support a ring buffer ignore this option.
+     */
+    default void setRingBufferSize(int ringBufferSize) {
+        // noop
+    }
+
+    default int getSampleRate() {
+        return 1;
+    }
+
+    /**
+     * Sets to only keep the message history of (on average) 1 in N exchanges, to reduce the overhead of message history
+     * under high load. The exchanges which are not sampled have an empty message history.
+     * By default this is 1, which keeps the message history of every exchange.
+     * <p/>
+     * Factories which do not support sampling ignore this option.
+     */
+    default void setSampleRate(int sampleRate) {
+        // noop
+    }
+
 }
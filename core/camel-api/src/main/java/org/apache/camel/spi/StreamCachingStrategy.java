@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -87,6 +88,24 @@ public interface StreamCachingStrategy extends StaticService {
         Committed, Max
     }
 
+    /**
+     * A pool of direct {@link ByteBuffer}s which is used for the in-memory stream caches when
+     * caching off heap.
+     */
+    interface BufferPool {
+
+        /**
+         * Acquires a cleared buffer from the pool, or allocates a new buffer if the pool is empty.
+         * The capacity of the buffer is the {@link StreamCachingStrategy#getBufferSize() buffer size}.
+         */
+        ByteBuffer acquire();
+
+        /**
+         * Returns the buffer to the pool, when its no longer in use.
+         */
+        void release(ByteBuffer buffer);
+    }
+
     /**
      * Rule for determine if stream caching should be spooled to disk or kept in-memory.
      */
@@ -173,6 +192,34 @@ public interface StreamCachingStrategy extends StaticService {
 
     String getSpoolCipher();
 
+    /**
+     * Sets whether to cache the streams off heap.
+     * <p/>
+     * When enabled the in-memory stream caches are held in direct buffers taken from a pool, instead of
+     * byte arrays on the heap, and the stream caches which are spooled to disk are read using memory mapped files.
+     * Reading the stream cache again, or copying the stream cache (such as in the multicast EIP), then uses a
+     * view of the same memory, instead of copying the data or opening the spool file again.
+     * <p/>
+     * The buffers are returned to the pool when the exchange(s) using the stream cache are done, so the stream caches
+     * must not be used after that. If a spool cipher is in use, then the spooled stream caches are
+     * not memory mapped.
+     * <p/>
+     * This option is default <tt>false</tt>.
+     * <p/>
+     * <b>Notice:</b> This cannot be changed at runtime.
+     */
+    void setOffHeap(boolean offHeap);
+
+    boolean isOffHeap();
+
+    /**
+     * Gets the pool of direct buffers to use for the in-memory stream caches, when {@link #isOffHeap() off heap}
+     * is in use.
+     *
+     * @return the pool, or <tt>null</tt> if not caching off heap
+     */
+    BufferPool getBufferPool();
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
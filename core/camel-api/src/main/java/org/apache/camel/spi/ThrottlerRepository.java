@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Service;
+
+/**
+ * Access to a repository which holds the shared state of throttlers, which allows to enforce a throttle limit
+ * across a cluster of Camel applications, by letting the throttlers in the different applications use the
+ * same repository.
+ * <p/>
+ * The throttler uses the generic cell rate algorithm (GCRA), where the only state per throttle key is the theoretical
+ * arrival time of the next request (in nanoseconds), which is updated by the throttler using
+ * {@link #compareAndSet(String, long, long)}. The repository must therefore only support an atomic compare and set
+ * of a long value per key, and the values should be expired from the repository when they are older than the current
+ * time to avoid the repository growing without bounds.
+ */
+public interface ThrottlerRepository extends Service {
+
+    /**
+     * Gets the theoretical arrival time of the next request for the given key.
+     *
+     * @param key the throttle key
+     * @return the time in nanoseconds, or <tt>0</tt> if there is no state for the key
+     */
+    long get(String key);
+
+    /**
+     * Atomically sets the theoretical arrival time of the next request for the given key, if the current
+     * time is the expected time.
+     *
+     * @param key    the throttle key
+     * @param expect the expected time, where <tt>0</tt> is expecting there is no state for the key
+     * @param update the new time
+     * @return <tt>true</tt> if the time was updated, <tt>false</tt> if the current time was not the expected time
+     */
+    boolean compareAndSet(String key, long expect, long update);
+
+    /**
+     * The current time in nanoseconds, which must be based on the same clock for all the throttlers
+     * which use the repository.
+     * <p/>
+     * Is by default the wall clock time.
+     */
+    default long currentTimeNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+}
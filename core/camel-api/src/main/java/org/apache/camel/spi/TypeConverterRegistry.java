@@ -63,6 +63,17 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of times the type converter to use was found in the lookup cache
+         * (including when it is cached that there is no type converter)
+         */
+        long getCacheHitCounter();
+
+        /**
+         * Number of times the type converter to use was not in the lookup cache, and had to be looked up
+         */
+        long getCacheMissCounter();
+
         /**
          * Reset the counters
          */
@@ -61,6 +61,10 @@ import org.slf4j.LoggerFactory;
  * Therefore its recommended to specify FQN class names in the {@link #META_INF_SERVICES} file.
  * Likewise the procedure for scanning using {@link PackageScanClassResolver} may require custom implementations
  * to work in various containers such as JBoss, OSGi, etc.
+ * <p/>
+ * If a {@link TypeConverterLoader} has been generated at build time for a {@link Converter} class (named as the class
+ * with <tt>Loader</tt> as suffix), then the generated loader is used, which avoids scanning the methods of the class,
+ * and invoking the type converter methods using reflection.
  */
 public class AnnotationTypeConverterLoader implements TypeConverterLoader {
     public static final String META_INF_SERVICES = "META-INF/services/org/apache/camel/TypeConverter";
@@ -129,7 +133,9 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Loading converter class: {}", ObjectHelper.name(type));
                 }
-                loadConverterMethods(registry, type);
+                if (!loadGeneratedLoader(registry, type)) {
+                    loadConverterMethods(registry, type);
+                }
             }
         }
 
@@ -305,6 +311,48 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
         }
     }
 
+    /**
+     * Loads the type converters for the given type using its generated {@link TypeConverterLoader}, if one exists.
+     * <p/>
+     * The loader is generated by the camel annotation processor using the option <tt>camel.generateTypeConverterLoaders=true</tt>,
+     * and registers type converters which calls the type converter methods directly.
+     *
+     * @return <tt>true</tt> if the type converters was loaded, <tt>false</tt> if there is no generated loader
+     */
+    protected boolean loadGeneratedLoader(TypeConverterRegistry registry, Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return false;
+        }
+        Class<?> loaderType;
+        try {
+            loaderType = classLoader.loadClass(type.getName() + "Loader");
+        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            return false;
+        }
+        if (!TypeConverterLoader.class.isAssignableFrom(loaderType)) {
+            return false;
+        }
+
+        if (visitedClasses.add(type)) {
+            LOG.trace("Loading converter class: {} using generated loader: {}", type.getName(), loaderType.getName());
+            try {
+                TypeConverterLoader loader = (TypeConverterLoader) loaderType.getDeclaredConstructor().newInstance();
+                loader.load(registry);
+            } catch (TypeConverterLoaderException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new TypeConverterLoaderException("Error loading type converters using " + loaderType.getName(), e);
+            }
+            // the generated loader only has the type converters declared on the class itself
+            Class<?> superclass = type.getSuperclass();
+            if (superclass != null && !superclass.equals(Object.class)) {
+                loadConverterMethods(registry, superclass);
+            }
+        }
+        return true;
+    }
+
     protected boolean acceptClass(Class<?> clazz) {
         return true;
     }
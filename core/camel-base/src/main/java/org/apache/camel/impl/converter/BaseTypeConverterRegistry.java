@@ -30,7 +30,6 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
@@ -77,7 +76,16 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         }
     };
 
+    // marker in the lookup cache when there is no type converter registered for the pair (fallbacks may still apply)
+    private static final TypeConverter NO_CONVERTER = new TypeConverterSupport() {
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            return null;
+        }
+    };
+
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(200);
+    private final TypeConverterLookupCache lookupCache = new TypeConverterLookupCache();
     protected final List<TypeConverterLoader> typeConverterLoaders = new ArrayList<>();
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     protected CamelContext camelContext;
@@ -92,6 +100,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder cacheHitCounter = new LongAdder();
+    protected final LongAdder cacheMissCounter = new LongAdder();
 
     public BaseTypeConverterRegistry(CamelContext camelContext, PackageScanClassResolver resolver, Injector injector, FactoryFinder factoryFinder) {
         this.camelContext = camelContext;
@@ -248,6 +258,9 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
             attemptCounter.increment();
         }
 
+        // must be read before looking up so a miss is not cached if type converters are added meanwhile
+        long generation = lookupCache.generation();
+
         // try to find a suitable type converter
         TypeConverter converter = getOrFindTypeConverter(type, value.getClass());
         if (converter != null) {
@@ -333,7 +346,7 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         if (!tryConvert) {
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
-            typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            lookupCache.put(type, value.getClass(), MISS_CONVERTER, generation);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -369,6 +382,7 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                invalidateLookupCache(toType);
             }
         }
     }
@@ -388,7 +402,11 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     @Override
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         log.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean answer = typeMappings.remove(toType, fromType);
+        if (answer) {
+            invalidateLookupCache(toType);
+        }
+        return answer;
     }
 
     @Override
@@ -398,6 +416,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        // the new fallback may be able to convert what could not be converted before
+        lookupCache.invalidate((type, tc) -> tc == MISS_CONVERTER);
 
         if (typeConverter instanceof CamelContextAware) {
             CamelContextAware camelContextAware = (CamelContextAware) typeConverter;
@@ -407,6 +427,15 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         }
     }
 
+    /**
+     * Removes the cached type converters for the types which the type converter to the given type may be used for
+     * (the type itself, its super types, and the primitive type if its a wrapper type).
+     */
+    private void invalidateLookupCache(Class<?> toType) {
+        lookupCache.invalidate((type, tc) -> type.isAssignableFrom(toType)
+                || ObjectHelper.convertPrimitiveTypeToWrapperType(type) == toType);
+    }
+
     private void addCoreFallbackTypeConverterToList(TypeConverter typeConverter, boolean canPromote, List<FallbackTypeConverter> converters) {
         log.trace("Adding core fallback type converter: {} which can promote: {}", typeConverter, canPromote);
 
@@ -441,14 +470,25 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     }
 
     protected <T> TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
-        TypeConverter converter = typeMappings.get(toType, fromType);
+        TypeConverter converter = lookupCache.get(toType, fromType);
+        if (converter != null) {
+            if (statistics.isStatisticsEnabled()) {
+                cacheHitCounter.increment();
+            }
+            return converter != NO_CONVERTER ? converter : null;
+        }
+        if (statistics.isStatisticsEnabled()) {
+            cacheMissCounter.increment();
+        }
+
+        long generation = lookupCache.generation();
+        converter = typeMappings.get(toType, fromType);
         if (converter == null) {
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
-            if (converter != null) {
-                typeMappings.put(toType, fromType, converter);
-            }
         }
+        // cache the result, also if there is no type converter, so we do not have to lookup again
+        lookupCache.put(toType, fromType, converter != null ? converter : NO_CONVERTER, generation);
         return converter;
     }
 
@@ -731,17 +771,12 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         // log utilization statistics when stopping, including mappings
         if (statistics.isStatisticsEnabled()) {
             String info = statistics.toString();
-            AtomicInteger misses = new AtomicInteger();
-            typeMappings.forEach((k1, k2, v) -> {
-                if (v == MISS_CONVERTER) {
-                    misses.incrementAndGet();
-                }
-            });
-            info += String.format(" mappings[total=%s, misses=%s]", typeMappings.size(), misses);
+            info += String.format(" mappings[total=%s, misses=%s]", typeMappings.size(), lookupCache.count(MISS_CONVERTER));
             log.info(info);
         }
 
         typeMappings.clear();
+        lookupCache.clear();
         statistics.reset();
     }
 
@@ -777,6 +812,16 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getCacheHitCounter() {
+            return cacheHitCounter.longValue();
+        }
+
+        @Override
+        public long getCacheMissCounter() {
+            return cacheMissCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -784,6 +829,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            cacheHitCounter.reset();
+            cacheMissCounter.reset();
         }
 
         @Override
@@ -798,8 +845,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, cacheHits=%s, cacheMisses=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(), getCacheHitCounter(), getCacheMissCounter());
         }
     }
 
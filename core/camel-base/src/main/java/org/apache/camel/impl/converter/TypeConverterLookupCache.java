@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
+
+import org.apache.camel.TypeConverter;
+
+/**
+ * A cache of the type converter to use for a given pair of to and from types, which is used to avoid
+ * looking up the type converter by walking the class hierarchy of the from type on every conversion.
+ * <p/>
+ * The cache can also hold negative entries, which are marker type converters that indicates there is no
+ * type converter for the given pair.
+ * <p/>
+ * The entries are held in an open addressing hash table where looking up an entry is lock-free. New entries
+ * are added in place (publishing the key of an entry last, so a partially added entry is never observed), and
+ * the table is only copied when it grows (doubling its capacity) or when entries are invalidated.
+ * <p/>
+ * The cache holds at most {@link #MAXIMUM_SIZE} entries, further type conversion pairs are not cached.
+ */
+final class TypeConverterLookupCache {
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    static final int MAXIMUM_SIZE = 4096;
+
+    private volatile Table table = new Table(16);
+    // incremented when entries are invalidated, to discard entries which was looked up before the invalidation
+    private volatile long generation;
+
+    /**
+     * Gets the cached type converter
+     *
+     * @return the type converter (or marker type converter) or <tt>null</tt> if not cached
+     */
+    TypeConverter get(Class<?> toType, Class<?> fromType) {
+        return table.get(toType, fromType);
+    }
+
+    /**
+     * The current generation, which must be read before looking up a type converter that is to be cached,
+     * and be passed to {@link #put(Class, Class, TypeConverter, long)}.
+     */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Adds the type converter to the cache, unless entries has been invalidated since the given generation,
+     * as the type converter may then be outdated.
+     */
+    synchronized void put(Class<?> toType, Class<?> fromType, TypeConverter converter, long generation) {
+        if (this.generation != generation) {
+            return;
+        }
+        Table current = table;
+        TypeConverter existing = current.get(toType, fromType);
+        if (existing == converter) {
+            return;
+        }
+        // keep the load factor at most 50%
+        if (existing == null && (current.size + 1) * 2 > current.capacity()) {
+            if (current.size >= MAXIMUM_SIZE) {
+                // the cache is full
+                return;
+            }
+            Table answer = new Table(current.capacity() << 1);
+            current.copyTo(answer, null);
+            answer.put(toType, fromType, converter);
+            table = answer;
+        } else {
+            current.put(toType, fromType, converter);
+        }
+    }
+
+    /**
+     * Removes the entries which matches the predicate
+     */
+    synchronized void invalidate(BiPredicate<Class<?>, TypeConverter> predicate) {
+        generation++;
+        Table current = table;
+        if (current.size > 0) {
+            Table answer = new Table(current.capacity());
+            current.copyTo(answer, predicate);
+            table = answer;
+        }
+    }
+
+    /**
+     * Removes all the entries
+     */
+    synchronized void clear() {
+        generation++;
+        table = new Table(16);
+    }
+
+    int size() {
+        return table.size;
+    }
+
+    /**
+     * Number of entries which is the given type converter
+     */
+    int count(TypeConverter converter) {
+        Table current = table;
+        int n = 0;
+        for (int i = 0; i < current.capacity(); i++) {
+            if (current.converters.get(i) == converter) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Hash table with open addressing (linear probing) where entries are only added (by a single writer).
+     * The to type of an entry is set last, which publishes the entry to the readers.
+     */
+    private static final class Table {
+        private final AtomicReferenceArray<Class<?>> toTypes;
+        private final Class<?>[] fromTypes;
+        private final AtomicReferenceArray<TypeConverter> converters;
+        private final int mask;
+        private volatile int size;
+
+        Table(int capacity) {
+            toTypes = new AtomicReferenceArray<>(capacity);
+            fromTypes = new Class<?>[capacity];
+            converters = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+
+        int capacity() {
+            return fromTypes.length;
+        }
+
+        TypeConverter get(Class<?> toType, Class<?> fromType) {
+            int index = hash(toType, fromType) & mask;
+            while (true) {
+                Class<?> to = toTypes.get(index);
+                if (to == null) {
+                    return null;
+                }
+                if (to == toType && fromTypes[index] == fromType) {
+                    return converters.get(index);
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        void put(Class<?> toType, Class<?> fromType, TypeConverter converter) {
+            int index = hash(toType, fromType) & mask;
+            while (true) {
+                Class<?> to = toTypes.get(index);
+                if (to == null) {
+                    fromTypes[index] = fromType;
+                    converters.lazySet(index, converter);
+                    toTypes.set(index, toType);
+                    size++;
+                    return;
+                }
+                if (to == toType && fromTypes[index] == fromType) {
+                    converters.set(index, converter);
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        void copyTo(Table target, BiPredicate<Class<?>, TypeConverter> exclude) {
+            for (int i = 0; i < capacity(); i++) {
+                Class<?> to = toTypes.get(i);
+                TypeConverter converter = converters.get(i);
+                if (to != null && (exclude == null || !exclude.test(to, converter))) {
+                    target.put(to, fromTypes[i], converter);
+                }
+            }
+        }
+
+        private static int hash(Class<?> toType, Class<?> fromType) {
+            int h = toType.hashCode() * 31 + fromType.hashCode();
+            return C2 * Integer.rotateLeft(h * C1, 15);
+        }
+    }
+
+}
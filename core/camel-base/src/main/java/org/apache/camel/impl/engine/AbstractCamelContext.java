@@ -34,8 +34,12 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -267,6 +271,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
     private final List<RouteStartupOrder> routeStartupOrder = new ArrayList<>();
     // start auto assigning route ids using numbering 1000 and upwards
     private int defaultRouteStartupOrder = 1000;
+    private int routeStartupPoolSize;
     private ShutdownRoute shutdownRoute = ShutdownRoute.Default;
     private ShutdownRunningTask shutdownRunningTask = ShutdownRunningTask.CompleteCurrentTaskOnly;
     private Debugger debugger;
@@ -3126,6 +3131,8 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
     private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
         // now prepare the routes by starting its services before we start the
         // input
+        // the routes are warmed up one at a time, as warming up invokes the lifecycle
+        // strategies, even when the consumers are started concurrently afterwards
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
             // defer starting inputs till later as we want to prepare the routes
             // by starting
@@ -3137,7 +3144,9 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
             // consume messages to be routed
             BaseRouteService routeService = entry.getValue().getRouteService();
             log.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            long start = System.nanoTime();
             routeService.warmUp();
+            addRouteStartupTime(routeService.getRoute(), start);
         }
     }
 
@@ -3152,107 +3161,142 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
     private void doStartOrResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute) throws Exception {
         List<Endpoint> routeInputs = new ArrayList<>();
 
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
-            BaseRouteService routeService = entry.getValue().getRouteService();
-
-            // if we are starting camel, then skip routes which are configured
-            // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                log.info("Skipping starting of route {} as its configured with autoStartup=false", routeService.getId());
-                continue;
-            }
+        // only starting consumers can be done concurrently
+        RouteStartupTasks tasks = new RouteStartupTasks(resumeOnly ? 0 : routeStartupPoolSize);
+        try {
+            for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
+                Integer order = entry.getKey();
+                Route route = entry.getValue().getRoute();
+                BaseRouteService routeService = entry.getValue().getRouteService();
+
+                // if we are starting camel, then skip routes which are configured
+                // to not be auto started
+                boolean autoStartup = routeService.isAutoStartup();
+                if (addingRoute && !autoStartup) {
+                    log.info("Skipping starting of route {} as its configured with autoStartup=false", routeService.getId());
+                    continue;
+                }
 
-            // start the service
-            for (Consumer consumer : routeService.getInputs().values()) {
-                Endpoint endpoint = consumer.getEndpoint();
+                // the consumers to start (or resume) when the route is started
+                List<Consumer> consumers = new ArrayList<>();
+                for (Consumer consumer : routeService.getInputs().values()) {
+                    Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to
-                // be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                    // check multiple consumer violation, with the other routes to
+                    // be started
+                    if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+                        throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                    }
 
-                // check for multiple consumer violations with existing routes
-                // which
-                // have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
+                    // check for multiple consumer violations with existing routes
+                    // which
+                    // have already been started, or is currently starting
+                    List<Endpoint> existingEndpoints = new ArrayList<>();
+                    for (Route existingRoute : getRoutes()) {
+                        if (route.getId().equals(existingRoute.getId())) {
+                            // skip ourselves
+                            continue;
+                        }
+                        Endpoint existing = existingRoute.getEndpoint();
+                        ServiceStatus status = getRouteStatus(existingRoute.getId());
+                        if (status != null && (status.isStarted() || status.isStarting())) {
+                            existingEndpoints.add(existing);
+                        }
                     }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
+                    if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+                        throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
                     }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
 
-                // start the consumer on the route
-                log.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    log.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    log.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+                    if (!resumeOnly || !route.supportsSuspension()) {
+                        // when starting we should invoke the lifecycle strategies
+                        for (LifecycleStrategy strategy : lifecycleStrategies) {
+                            strategy.onServiceAdd(this, consumer, route);
+                        }
+                    }
+
+                    routeInputs.add(endpoint);
+                    consumers.add(consumer);
                 }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    log.info("Route: {} resumed and consuming from: {}", route.getId(), endpoint);
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : lifecycleStrategies) {
-                        strategy.onServiceAdd(this, consumer, route);
+                tasks.add(routeService, () -> {
+                    long start = System.nanoTime();
+                    for (Consumer consumer : consumers) {
+                        doStartOrResumeRouteConsumer(entry.getValue(), order, consumer, resumeOnly);
                     }
-                    try {
-                        startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
+
+                    if (resumeOnly) {
+                        routeService.resume();
+                    } else {
+                        // and start the route service (no need to start children as
+                        // they are already warmed up)
+                        try {
+                            routeService.start();
+                            route.getProperties().remove("route.start.exception");
+                        } catch (Exception e) {
+                            route.getProperties().put("route.start.exception", e);
+                            throw e;
+                        }
                     }
+                    addRouteStartupTime(route, start);
+                    log.debug("Route: {} took {} millis to start", route.getId(), route.getStartupTimeMillis());
+                    return null;
+                });
+            }
+            tasks.flush();
+        } finally {
+            tasks.close();
+        }
+    }
 
-                    log.info("Route: {} started and consuming from: {}", route.getId(), endpoint);
-                }
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder startupOrder, Integer order, Consumer consumer, boolean resumeOnly) throws Exception {
+        Route route = startupOrder.getRoute();
+        Endpoint endpoint = consumer.getEndpoint();
 
-                routeInputs.add(endpoint);
-
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : routeStartupOrder) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    routeStartupOrder.add(entry.getValue());
-                }
+        // start the consumer on the route
+        log.debug("Route: {} >>> {}", route.getId(), route);
+        if (resumeOnly) {
+            log.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
+        } else {
+            log.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+        }
+
+        if (resumeOnly && route.supportsSuspension()) {
+            // if we are resuming and the route can be resumed
+            ServiceHelper.resumeService(consumer);
+            log.info("Route: {} resumed and consuming from: {}", route.getId(), endpoint);
+        } else {
+            try {
+                startService(consumer);
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
             }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
+            log.info("Route: {} started and consuming from: {}", route.getId(), endpoint);
+        }
+
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        synchronized (routeStartupOrder) {
+            boolean found = false;
+            for (RouteStartupOrder other : routeStartupOrder) {
+                if (other.getRoute().getId().equals(route.getId())) {
+                    found = true;
+                    break;
                 }
             }
+            if (!found) {
+                routeStartupOrder.add(startupOrder);
+            }
+        }
+    }
+
+    private static void addRouteStartupTime(Route route, long start) {
+        if (route instanceof DefaultRoute) {
+            ((DefaultRoute) route).addStartupTime(System.nanoTime() - start);
         }
     }
 
@@ -3641,6 +3685,16 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
         return autoStartup != null && autoStartup;
     }
 
+    @Override
+    public int getRouteStartupPoolSize() {
+        return routeStartupPoolSize;
+    }
+
+    @Override
+    public void setRouteStartupPoolSize(int routeStartupPoolSize) {
+        this.routeStartupPoolSize = routeStartupPoolSize;
+    }
+
     @Override
     public Boolean isLoadTypeConverters() {
         return loadTypeConverters != null && loadTypeConverters;
@@ -4207,4 +4261,63 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
 
     protected abstract ValidatorRegistry<ValidatorKey> createValidatorRegistry() throws Exception;
 
+    /**
+     * Runs the tasks to start the consumers of routes. The routes which have an explicit startup order are started
+     * one at a time in their startup order, and the routes in between which do not have an explicit startup
+     * order are started concurrently using a thread pool, when the route startup pool size is configured.
+     */
+    private final class RouteStartupTasks {
+
+        private final int poolSize;
+        private final List<Callable<Void>> pending = new ArrayList<>();
+        private ExecutorService pool;
+
+        RouteStartupTasks(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        void add(BaseRouteService routeService, Callable<Void> task) throws Exception {
+            if (poolSize > 0 && routeService.getStartupOrder() == null) {
+                pending.add(task);
+            } else {
+                // the routes before this route must be done first
+                flush();
+                task.call();
+            }
+        }
+
+        void flush() throws Exception {
+            if (pending.size() == 1) {
+                pending.remove(0).call();
+            } else if (!pending.isEmpty()) {
+                if (pool == null) {
+                    pool = getExecutorServiceManager().newFixedThreadPool(AbstractCamelContext.this, "RouteStartup", poolSize);
+                }
+                // wait for all the tasks to complete, and fail with the first failure
+                List<Future<Void>> futures = pool.invokeAll(pending);
+                pending.clear();
+                Exception cause = null;
+                for (Future<Void> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        if (cause == null) {
+                            cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                        }
+                    }
+                }
+                if (cause != null) {
+                    throw cause;
+                }
+            }
+        }
+
+        void close() {
+            pending.clear();
+            if (pool != null) {
+                getExecutorServiceManager().shutdownNow(pool);
+            }
+        }
+    }
+
 }
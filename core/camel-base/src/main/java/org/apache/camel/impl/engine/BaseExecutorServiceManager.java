@@ -38,6 +38,7 @@ import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.support.VirtualThreadPoolFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -55,6 +56,12 @@ import org.slf4j.LoggerFactory;
  * Base {@link org.apache.camel.spi.ExecutorServiceManager} which can be used for implementations
  */
 public abstract class BaseExecutorServiceManager extends ServiceSupport implements ExecutorServiceManager {
+
+    /**
+     * Id of the built-in thread pool profile which uses virtual threads (if supported by the JVM).
+     */
+    public static final String VIRTUAL_THREAD_POOL_PROFILE = "virtualThreadPoolProfile";
+
     private static final Logger LOG = LoggerFactory.getLogger(BaseExecutorServiceManager.class);
 
     private final CamelContext camelContext;
@@ -65,6 +72,8 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private final Map<String, ThreadPoolProfile> threadPoolProfiles = new ConcurrentHashMap<>();
     private ThreadPoolProfile defaultProfile;
+    private ThreadPoolFactory virtualThreadPoolFactory;
+    private boolean customVirtualThreadPoolFactory;
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -80,6 +89,12 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         defaultProfile.setRejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns);
 
         registerThreadPoolProfile(defaultProfile);
+
+        // the virtual thread pool profile uses a new virtual thread per task, so the sizes are not in use
+        ThreadPoolProfile virtualProfile = new ThreadPoolProfile(VIRTUAL_THREAD_POOL_PROFILE);
+        virtualProfile.setDefaultProfile(false);
+        virtualProfile.setVirtualThreads(true);
+        registerThreadPoolProfile(virtualProfile);
     }
 
     public CamelContext getCamelContext() {
@@ -94,6 +109,26 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
     @Override
     public void setThreadPoolFactory(ThreadPoolFactory threadPoolFactory) {
         this.threadPoolFactory = threadPoolFactory;
+        if (!customVirtualThreadPoolFactory) {
+            // the virtual thread pool factory falls back to the thread pool factory, so it must be created again
+            this.virtualThreadPoolFactory = null;
+        }
+    }
+
+    public ThreadPoolFactory getVirtualThreadPoolFactory() {
+        if (virtualThreadPoolFactory == null) {
+            // fallback to use the configured thread pool factory if virtual threads is not supported
+            virtualThreadPoolFactory = new VirtualThreadPoolFactory(threadPoolFactory);
+        }
+        return virtualThreadPoolFactory;
+    }
+
+    /**
+     * Sets a custom {@link ThreadPoolFactory} to use for thread pool profiles that has virtual threads enabled.
+     */
+    public void setVirtualThreadPoolFactory(ThreadPoolFactory virtualThreadPoolFactory) {
+        this.virtualThreadPoolFactory = virtualThreadPoolFactory;
+        this.customVirtualThreadPoolFactory = virtualThreadPoolFactory != null;
     }
 
     @Override
@@ -187,7 +222,7 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         profile.addDefaults(defaultProfile);
 
         ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
-        ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
+        ExecutorService executorService = getThreadPoolFactory(profile).newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
             LOG.debug("Created new ThreadPool for source: {} with name: {}. -> {}", source, sanitizedName, executorService);
@@ -212,7 +247,7 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        ExecutorService answer = getThreadPoolFactory(getDefaultThreadPoolProfile()).newCachedThreadPool(createThreadFactory(sanitizedName, true));
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -474,7 +509,7 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         Iterator<ThreadPoolProfile> it = threadPoolProfiles.values().iterator();
         while (it.hasNext()) {
             ThreadPoolProfile profile = it.next();
-            if (!profile.isDefaultProfile()) {
+            if (!profile.isDefaultProfile() && !VIRTUAL_THREAD_POOL_PROFILE.equals(profile.getId())) {
                 it.remove();
             }
         }
@@ -543,6 +578,16 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         onNewExecutorService(executorService);
     }
 
+    /**
+     * Gets the {@link ThreadPoolFactory} to use for creating thread pools based on the given profile.
+     */
+    protected ThreadPoolFactory getThreadPoolFactory(ThreadPoolProfile profile) {
+        if (profile != null && Boolean.TRUE.equals(profile.getVirtualThreads())) {
+            return getVirtualThreadPoolFactory();
+        }
+        return threadPoolFactory;
+    }
+
     protected ThreadFactory createThreadFactory(String name, boolean isDaemon) {
         return new CamelThreadFactory(threadNamePattern, name, isDaemon);
     }
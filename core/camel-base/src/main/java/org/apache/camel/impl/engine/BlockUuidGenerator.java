@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+/**
+ * A {@link DefaultUuidGenerator} where each thread reserves a block of sequence numbers at a time, which
+ * reduces the contention on the shared sequence when many threads are creating exchanges concurrently.
+ * <p/>
+ * The ids have the same format and uniqueness as the ids from {@link DefaultUuidGenerator}, which includes
+ * the hostname and the time the JVM started, so the ids are unique across a cluster. However the ids
+ * from different threads are not in sequence, and sequence numbers reserved by a thread which terminates
+ * are not used.
+ * <p/>
+ * The id is written directly into a per thread buffer which already contains the seed, so only the
+ * {@link String} itself is created per id.
+ */
+public class BlockUuidGenerator extends DefaultUuidGenerator {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final int blockSize;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(this::newBlock);
+
+    public BlockUuidGenerator(String prefix, int blockSize) {
+        super(prefix);
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("BlockSize must be positive, was: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    public BlockUuidGenerator(int blockSize) {
+        this("ID-" + getHostName(), blockSize);
+    }
+
+    public BlockUuidGenerator() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @Override
+    public String generateUuid() {
+        Block block = blocks.get();
+        if (block.next == block.limit) {
+            block.next = reserveSequence(blockSize);
+            block.limit = block.next + blockSize;
+        }
+        return block.format(block.next++);
+    }
+
+    private Block newBlock() {
+        return new Block(getSeed());
+    }
+
+    /**
+     * The sequence numbers reserved by a thread, and the buffer to write the ids into.
+     */
+    private static final class Block {
+
+        private static final int MAX_DIGITS = 19;
+
+        private final char[] buffer;
+        private final int offset;
+        private long next;
+        private long limit;
+
+        Block(String seed) {
+            this.offset = seed.length();
+            this.buffer = new char[offset + MAX_DIGITS];
+            seed.getChars(0, offset, buffer, 0);
+        }
+
+        String format(long value) {
+            int end = offset + digits(value);
+            int pos = end;
+            do {
+                buffer[--pos] = (char) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            return new String(buffer, 0, end);
+        }
+
+        private static int digits(long value) {
+            int n = 1;
+            while (value >= 10) {
+                value /= 10;
+                n++;
+            }
+            return n;
+        }
+    }
+
+}
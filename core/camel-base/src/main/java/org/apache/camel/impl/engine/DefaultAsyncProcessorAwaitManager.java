@@ -18,7 +18,7 @@ package org.apache.camel.impl.engine;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
@@ -321,15 +321,15 @@ public class DefaultAsyncProcessorAwaitManager extends ServiceSupport implements
         }
 
         private MessageHistory getLastMessageHistory() {
-            LinkedList<MessageHistory> list = getMessageHistories();
+            List<MessageHistory> list = getMessageHistories();
             if (list == null || list.isEmpty()) {
                 return null;
             }
-            return list.getLast();
+            return list.get(list.size() - 1);
         }
 
-        private LinkedList<MessageHistory> getMessageHistories() {
-            return exchange.getProperty(Exchange.MESSAGE_HISTORY, LinkedList.class);
+        private List<MessageHistory> getMessageHistories() {
+            return exchange.getProperty(Exchange.MESSAGE_HISTORY, List.class);
         }
 
         @Override
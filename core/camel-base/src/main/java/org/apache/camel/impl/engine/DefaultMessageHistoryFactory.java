@@ -16,6 +16,11 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -25,6 +30,7 @@ import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.MessageHistoryFactory;
 import org.apache.camel.support.DefaultMessageHistory;
+import org.apache.camel.support.MessageHistoryRingBuffer;
 import org.apache.camel.support.PatternHelper;
 import org.apache.camel.support.service.ServiceSupport;
 
@@ -35,6 +41,9 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
     private boolean copyMessage;
     private String nodePattern;
     private volatile String[] nodePatternParts;
+    private final Predicate<NamedNode> nodeFilter = this::isNodeIncluded;
+    private int ringBufferSize;
+    private int sampleRate = 1;
 
     @Override
     public CamelContext getCamelContext() {
@@ -48,14 +57,8 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
 
     @Override
     public MessageHistory newMessageHistory(String routeId, NamedNode node, long timestamp, Exchange exchange) {
-        if (nodePatternParts != null) {
-            String name = node.getShortName();
-            for (String part : nodePatternParts) {
-                boolean match = PatternHelper.matchPattern(name, part);
-                if (!match) {
-                    return null;
-                }
-            }
+        if (!isNodeIncluded(node)) {
+            return null;
         }
 
         Message msg = null;
@@ -66,6 +69,31 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
         return new DefaultMessageHistory(routeId, node, timestamp, msg);
     }
 
+    @Override
+    public List<MessageHistory> newMessageHistoryList(Exchange exchange) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return MessageHistoryRingBuffer.notSampled();
+        }
+        if (ringBufferSize > 0) {
+            return new MessageHistoryRingBuffer(ringBufferSize, nodePatternParts != null ? nodeFilter : null);
+        }
+        return new LinkedList<>();
+    }
+
+    private boolean isNodeIncluded(NamedNode node) {
+        String[] parts = nodePatternParts;
+        if (parts != null) {
+            String name = node.getShortName();
+            for (String part : parts) {
+                boolean match = PatternHelper.matchPattern(name, part);
+                if (!match) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     @ManagedAttribute(description = "Whether message history is enabled")
     public boolean isEnabled() {
         return camelContext != null ? camelContext.isMessageHistory() : false;
@@ -98,6 +126,30 @@ public class DefaultMessageHistoryFactory extends ServiceSupport implements Mess
         }
     }
 
+    @Override
+    @ManagedAttribute(description = "Number of nodes kept in a ring buffer per exchange, or 0 to keep all nodes")
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of nodes kept in a ring buffer per exchange, or 0 to keep all nodes")
+    public void setRingBufferSize(int ringBufferSize) {
+        this.ringBufferSize = ringBufferSize;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Keep the message history of 1 in N exchanges")
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Keep the message history of 1 in N exchanges")
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
@@ -21,6 +21,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
@@ -44,6 +45,7 @@ public abstract class DefaultRoute extends ServiceSupport implements Route {
     private final List<Service> services = new ArrayList<>();
     private final RouteContext routeContext;
     private Date startDate;
+    private volatile long startupTime;
 
     public DefaultRoute(RouteContext routeContext, Endpoint endpoint) {
         this.routeContext = routeContext;
@@ -89,6 +91,20 @@ public abstract class DefaultRoute extends ServiceSupport implements Route {
         return new Date().getTime() - startDate.getTime();
     }
 
+    @Override
+    public long getStartupTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(startupTime);
+    }
+
+    /**
+     * Adds to the time it took to start the route
+     *
+     * @param nanos the time in nanoseconds
+     */
+    public void addStartupTime(long nanos) {
+        startupTime += nanos;
+    }
+
     @Override
     public Endpoint getEndpoint() {
         return endpoint;
@@ -135,6 +151,7 @@ public abstract class DefaultRoute extends ServiceSupport implements Route {
     @Override
     public void warmUp() {
         getServices().clear();
+        startupTime = 0;
     }
 
     /**
@@ -19,9 +19,12 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 
 import org.apache.camel.CamelContext;
@@ -53,6 +56,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private boolean offHeap;
+    private volatile DirectBufferPool bufferPool;
 
     @Override
     public CamelContext getCamelContext() {
@@ -159,6 +164,21 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    @Override
+    public void setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+
+    @Override
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
@@ -261,6 +281,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     @Override
     protected void doStart() throws Exception {
+        // the pool can also be used by cached output streams when stream caching is not enabled
+        if (offHeap) {
+            bufferPool = new DirectBufferPool(bufferSize);
+        }
+
         if (!enabled) {
             log.debug("StreamCaching is not enabled");
             return;
@@ -336,6 +361,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        if (bufferPool != null) {
+            bufferPool.clear();
+            bufferPool = null;
+        }
     }
 
     @Override
@@ -346,9 +376,61 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             + ", spoolThreshold=" + spoolThreshold
             + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
             + ", bufferSize=" + bufferSize
+            + ", offHeap=" + offHeap
             + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
+    /**
+     * A pool of direct buffers, which keeps up to {@link #MAX_POOLED} released buffers for reuse,
+     * as allocating direct buffers is more expensive than allocating byte arrays on the heap.
+     */
+    private static final class DirectBufferPool implements BufferPool {
+
+        private static final int MAX_POOLED = 1024;
+
+        private final int bufferSize;
+        private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private DirectBufferPool(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public ByteBuffer acquire() {
+            ByteBuffer buffer = buffers.poll();
+            if (buffer != null) {
+                size.decrementAndGet();
+                return buffer;
+            }
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        @Override
+        public void release(ByteBuffer buffer) {
+            if (!buffer.isDirect() || buffer.capacity() != bufferSize) {
+                // not from this pool
+                return;
+            }
+            if (size.incrementAndGet() <= MAX_POOLED) {
+                buffer.clear();
+                buffers.offer(buffer);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+
+        void clear() {
+            buffers.clear();
+            size.set(0);
+        }
+
+        @Override
+        public String toString() {
+            return "DirectBufferPool[bufferSize=" + bufferSize + ", size=" + size.get() + "]";
+        }
+    }
+
     private final class FixedThresholdSpoolRule implements SpoolRule {
 
         @Override
@@ -130,6 +130,23 @@ public class DefaultUuidGenerator implements UuidGenerator {
         return sb.toString();
     }
 
+    /**
+     * The seed which all the ids generated by this generator starts with
+     */
+    protected String getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reserves a block of sequence numbers
+     *
+     * @param size the number of sequence numbers to reserve
+     * @return the first sequence number in the block
+     */
+    protected long reserveSequence(int size) {
+        return sequence.getAndAdd(size);
+    }
+
     /**
      * Generate a unique ID - that is friendly for a URL or file system
      * 
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A high throughput {@link ReactiveExecutor} which has the same scheduling semantics as {@link DefaultReactiveExecutor}
+ * but is tuned for a very high number of tasks.
+ * <p/>
+ * Each thread has its own worker which uses array based ring deques (instead of linked lists) for its queues,
+ * and pools the deques and the task wrappers it creates, so scheduling a task does not allocate in the steady state.
+ * The statistics are kept per worker (thread confined) and only summed up when they are read (such as from JMX),
+ * which avoids contended shared atomic counters on the hot path. As the statistics are read without synchronization
+ * from another thread, the values are approximate.
+ * <p/>
+ * This executor can be used by setting it on the {@link org.apache.camel.CamelContext#setReactiveExecutor(ReactiveExecutor)}
+ * or by adding a <tt>META-INF/services/org/apache/camel/reactive-executor</tt> file to the classpath
+ * which refers to this class.
+ */
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class FastReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FastReactiveExecutor.class);
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::createWorker);
+
+    // the workers are only used for gathering statistics, and threads which are gone should not be kept around
+    private final Map<Thread, Worker> allWorkers = new WeakHashMap<>();
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+
+    private int poolSize = 64;
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Maximum number of task wrappers and queues to keep pooled per worker thread for reuse.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable, String description) {
+        Worker worker = workers.get();
+        worker.schedule(description != null ? worker.describe(runnable, description) : runnable, true, true, false);
+    }
+
+    @Override
+    public void schedule(Runnable runnable, String description) {
+        Worker worker = workers.get();
+        worker.schedule(description != null ? worker.describe(runnable, description) : runnable, true, false, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable, String description) {
+        Worker worker = workers.get();
+        worker.schedule(description != null ? worker.describe(runnable, description) : runnable, false, true, true);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    public void callback(AsyncCallback callback) {
+        Worker worker = workers.get();
+        worker.schedule(worker.callback(callback), true, false, false);
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        int answer = 0;
+        for (Worker worker : snapshot()) {
+            if (worker.running) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public long getPendingTasks() {
+        long answer = 0;
+        for (Worker worker : snapshot()) {
+            answer += worker.pendingTasks;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of executed tasks")
+    public long getExecutedTasks() {
+        long answer = 0;
+        for (Worker worker : snapshot()) {
+            answer += worker.executedTasks;
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Maximum number of task wrappers and queues pooled per worker")
+    public int getMaxPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // noop
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // noop
+    }
+
+    @Override
+    public String toString() {
+        return "FastReactiveExecutor";
+    }
+
+    private Worker createWorker() {
+        Worker worker = new Worker(poolSize);
+        synchronized (allWorkers) {
+            allWorkers.put(Thread.currentThread(), worker);
+        }
+        createdWorkers.incrementAndGet();
+        return worker;
+    }
+
+    private List<Worker> snapshot() {
+        synchronized (allWorkers) {
+            return new ArrayList<>(allWorkers.values());
+        }
+    }
+
+    /**
+     * A task with a description which is pooled by its worker and recycled when its about to run.
+     */
+    private static final class DescribedTask implements Runnable {
+        private Runnable task;
+        private String description;
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * A task that calls the callback which is pooled by its worker and recycled when its about to run.
+     */
+    private static final class CallbackTask implements Runnable {
+        private AsyncCallback callback;
+
+        @Override
+        public void run() {
+            callback.done(false);
+        }
+
+        @Override
+        public String toString() {
+            return "Callback[" + callback + "]";
+        }
+    }
+
+    private static final class Worker {
+
+        private final int poolSize;
+        private final ArrayDeque<DescribedTask> describedPool;
+        private final ArrayDeque<CallbackTask> callbackPool;
+        private final ArrayDeque<ArrayDeque<Runnable>> queuePool;
+        private final ArrayDeque<ArrayDeque<Runnable>> back = new ArrayDeque<>();
+        private ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        private volatile boolean running;
+
+        // statistics which are only updated by the owner thread
+        private long pendingTasks;
+        private long executedTasks;
+
+        Worker(int poolSize) {
+            this.poolSize = poolSize;
+            this.describedPool = new ArrayDeque<>(poolSize);
+            this.callbackPool = new ArrayDeque<>(poolSize);
+            this.queuePool = new ArrayDeque<>();
+        }
+
+        Runnable describe(Runnable runnable, String description) {
+            DescribedTask task = describedPool.poll();
+            if (task == null) {
+                task = new DescribedTask();
+            }
+            task.task = runnable;
+            task.description = description;
+            return task;
+        }
+
+        Runnable callback(AsyncCallback callback) {
+            CallbackTask task = callbackPool.poll();
+            if (task == null) {
+                task = new CallbackTask();
+            }
+            task.callback = callback;
+            return task;
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                if (!queue.isEmpty()) {
+                    back.push(queue);
+                    ArrayDeque<Runnable> pooled = queuePool.poll();
+                    queue = pooled != null ? pooled : new ArrayDeque<>();
+                }
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            pendingTasks++;
+            if (!running || sync) {
+                running = true;
+                try {
+                    for (;;) {
+                        final Runnable polled = queue.poll();
+                        if (polled == null) {
+                            if (!back.isEmpty()) {
+                                // the current queue is empty so it can be reused
+                                release(queue);
+                                queue = back.poll();
+                                continue;
+                            } else {
+                                break;
+                            }
+                        }
+                        run(polled);
+                    }
+                } finally {
+                    running = false;
+                }
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue.poll();
+            if (polled == null) {
+                return false;
+            }
+            run(polled);
+            return true;
+        }
+
+        private void run(Runnable polled) {
+            pendingTasks--;
+            executedTasks++;
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Running: {}", polled);
+            }
+            // unwrap and recycle pooled tasks before running, as the task may schedule new tasks
+            Runnable task = polled;
+            AsyncCallback callback = null;
+            if (polled instanceof DescribedTask) {
+                DescribedTask described = (DescribedTask) polled;
+                task = described.task;
+                described.task = null;
+                described.description = null;
+                if (describedPool.size() < poolSize) {
+                    describedPool.push(described);
+                }
+            } else if (polled instanceof CallbackTask) {
+                CallbackTask pooled = (CallbackTask) polled;
+                callback = pooled.callback;
+                pooled.callback = null;
+                if (callbackPool.size() < poolSize) {
+                    callbackPool.push(pooled);
+                }
+            }
+            try {
+                if (callback != null) {
+                    callback.done(false);
+                } else {
+                    task.run();
+                }
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to " + t.getMessage() + ". This exception is ignored.", t);
+            }
+        }
+
+        private void release(ArrayDeque<Runnable> empty) {
+            if (queuePool.size() < poolSize) {
+                queuePool.push(empty);
+            }
+        }
+    }
+
+}
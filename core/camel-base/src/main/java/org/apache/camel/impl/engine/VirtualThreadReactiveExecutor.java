@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.VirtualThreadPoolFactory;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} that routes each exchange on its own virtual thread, when the JVM supports virtual threads.
+ * <p/>
+ * When a new exchange is scheduled (via {@link #scheduleMain(Runnable, String)}) from a platform thread, then the work
+ * is handed over to a new virtual thread, which means the routing can call blocking APIs (such as JDBC or HTTP clients)
+ * without occupying a platform thread. Any further work for the exchange is then scheduled on the virtual thread
+ * using the same semantics as {@link DefaultReactiveExecutor}.
+ * <p/>
+ * If the JVM does not support virtual threads then this executor behaves as the {@link DefaultReactiveExecutor}.
+ * <p/>
+ * This executor can be used by setting it on the {@link CamelContext#setReactiveExecutor(ReactiveExecutor)}
+ * or by adding a <tt>META-INF/services/org/apache/camel/reactive-executor</tt> file to the classpath
+ * which refers to this class, so its resolved by the {@link ReactiveExecutorResolver}.
+ */
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class VirtualThreadReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadReactiveExecutor.class);
+
+    private final DefaultReactiveExecutor delegate = new DefaultReactiveExecutor();
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable, String description) {
+        if (executorService != null && !VirtualThreadPoolFactory.isVirtualThread()) {
+            executorService.execute(() -> delegate.scheduleMain(runnable, description));
+        } else {
+            delegate.scheduleMain(runnable, description);
+        }
+    }
+
+    @Override
+    public void schedule(Runnable runnable, String description) {
+        delegate.schedule(runnable, description);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable, String description) {
+        // must run synchronously on the current thread
+        delegate.scheduleSync(runnable, description);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return delegate.executeFromQueue();
+    }
+
+    @Override
+    public void callback(AsyncCallback callback) {
+        delegate.callback(callback);
+    }
+
+    @ManagedAttribute(description = "Whether virtual threads is in use")
+    public boolean isVirtualThreads() {
+        return executorService != null;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return delegate.getCreatedWorkers();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return delegate.getRunningWorkers();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public long getPendingTasks() {
+        return delegate.getPendingTasks();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(delegate);
+        if (VirtualThreadPoolFactory.isVirtualThreadsSupported()) {
+            ThreadPoolProfile profile = new ThreadPoolProfile(BaseExecutorServiceManager.VIRTUAL_THREAD_POOL_PROFILE);
+            profile.setVirtualThreads(true);
+            executorService = camelContext.getExecutorServiceManager().newThreadPool(this, "VirtualThreadReactiveExecutor", profile);
+            LOG.debug("Using virtual threads: {}", executorService);
+        } else {
+            LOG.info("Virtual threads is not supported on this JVM. Routing exchanges using platform threads.");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        ServiceHelper.stopService(delegate);
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadReactiveExecutor";
+    }
+}
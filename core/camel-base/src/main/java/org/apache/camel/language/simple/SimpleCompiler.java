@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.SimpleFunctionStart;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.builder.PredicateBuilder;
+import org.apache.camel.util.OgnlHelper;
+import org.apache.camel.util.StringHelper;
+
+/**
+ * Compiles the AST of a simple expression or predicate into expressions and predicates which
+ * access the exchange directly.
+ * <p/>
+ * When interpreting the AST then each node is turned into an expression, which for example means that a binary
+ * operator converts its result to the requested type, and logical operators creates new predicates when evaluated,
+ * and header and exchange property functions checks whether the name is a nested simple expression on every evaluation.
+ * The compiled predicates are created once, and the header and exchange property functions with plain names
+ * look up the value directly.
+ * <p/>
+ * Nodes which cannot be compiled (OGNL, nested functions, unary operators, etc.) falls back to be interpreted,
+ * so the compiled expression behaves the same as the interpreted expression.
+ */
+final class SimpleCompiler {
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the node as an expression, or creates the expression from the node if it cannot be compiled.
+     */
+    static Expression compileExpression(SimpleNode node, String expression) {
+        if (node instanceof SimpleFunctionStart) {
+            String function = ((SimpleFunctionStart) node).getFunctionText();
+            Expression answer = function != null ? compileFunction(function) : null;
+            if (answer != null) {
+                return answer;
+            }
+        }
+        return node.createExpression(expression);
+    }
+
+    /**
+     * Compiles the node as a predicate, or creates the predicate from the node if it cannot be compiled.
+     */
+    static Predicate compilePredicate(SimpleNode node, String expression) {
+        if (node instanceof BinaryExpression) {
+            BinaryExpression binary = (BinaryExpression) node;
+            if (binary.getLeft() != null && binary.getRight() != null) {
+                Predicate answer = binary.createPredicate(compileExpression(binary.getLeft(), expression),
+                        compileExpression(binary.getRight(), expression));
+                if (answer != null) {
+                    return answer;
+                }
+            }
+        } else if (node instanceof LogicalExpression) {
+            LogicalExpression logical = (LogicalExpression) node;
+            if (logical.getLeft() != null && logical.getRight() != null) {
+                Predicate left = compilePredicate(logical.getLeft(), expression);
+                Predicate right = compilePredicate(logical.getRight(), expression);
+                if (logical.getOperator() == LogicalOperatorType.AND) {
+                    return PredicateBuilder.and(left, right);
+                } else if (logical.getOperator() == LogicalOperatorType.OR) {
+                    return PredicateBuilder.or(left, right);
+                }
+            }
+        }
+
+        Expression answer = compileExpression(node, expression);
+        return answer != null ? ExpressionToPredicateAdapter.toPredicate(answer) : null;
+    }
+
+    /**
+     * Compiles the simple function
+     *
+     * @return the compiled function, or <tt>null</tt> if the function cannot be compiled
+     */
+    static Expression compileFunction(String function) {
+        // headerAs and headers is not a header function
+        if (!function.startsWith("headerAs(") && !function.equals("headers") && !function.equals("in.headers")) {
+            String key = key(function, true, "in.headers", "in.header", "headers", "header");
+            if (key != null) {
+                return new HeaderExpression(key);
+            }
+        }
+        String key = key(function, false, "exchangeProperty");
+        if (key != null) {
+            return new ExchangePropertyExpression(key);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the plain name of the header or exchange property, following the same syntax as the interpreted function.
+     *
+     * @param header whether its a header function, which also allows colon as separator and quoted names
+     * @return the name, or <tt>null</tt> if the function does not start with any of the prefixes, or the name is not plain
+     */
+    private static String key(String function, boolean header, String... prefixes) {
+        String remainder = null;
+        for (String prefix : prefixes) {
+            if (function.startsWith(prefix) && function.length() > prefix.length()) {
+                remainder = function.substring(prefix.length());
+                break;
+            }
+        }
+        if (remainder == null) {
+            return null;
+        }
+
+        // remove leading character (dot, colon or ?)
+        if (remainder.startsWith(".") || remainder.startsWith("?") || (header && remainder.startsWith(":"))) {
+            remainder = remainder.substring(1);
+        }
+        // remove starting and ending brackets
+        if (remainder.startsWith("[") && remainder.endsWith("]")) {
+            remainder = remainder.substring(1, remainder.length() - 1);
+        }
+        String key = header ? StringHelper.removeLeadingAndEndingQuotes(remainder) : remainder;
+
+        // OGNL, invalid syntax and names which may be a nested expression are interpreted
+        if (key.isEmpty() || key.indexOf('$') != -1
+                || OgnlHelper.isInvalidValidOgnlExpression(key) || OgnlHelper.isValidOgnlExpression(key)) {
+            return null;
+        }
+        return key;
+    }
+
+    private static final class HeaderExpression extends ExpressionAdapter {
+        private final String name;
+
+        HeaderExpression(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            Object header = exchange.getIn().getHeader(name);
+            if (header == null) {
+                // fall back on a property
+                header = exchange.getProperty(name);
+            }
+            return header;
+        }
+
+        @Override
+        public String toString() {
+            return "header(" + name + ")";
+        }
+    }
+
+    private static final class ExchangePropertyExpression extends ExpressionAdapter {
+        private final String name;
+
+        ExchangePropertyExpression(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            return exchange.getProperty(name);
+        }
+
+        @Override
+        public String toString() {
+            return "exchangeProperty(" + name + ")";
+        }
+    }
+
+}
@@ -41,10 +41,20 @@ public class SimpleExpressionParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private final boolean compiled;
 
     public SimpleExpressionParser(String expression, boolean allowEscape,
                                   Map<String, Expression> cacheExpression) {
+        this(expression, allowEscape, false, cacheExpression);
+    }
+
+    /**
+     * @param compiled whether to compile the parsed expression, see {@link SimpleLanguage#setCompiled(boolean)}
+     */
+    public SimpleExpressionParser(String expression, boolean allowEscape, boolean compiled,
+                                  Map<String, Expression> cacheExpression) {
         super(expression, allowEscape);
+        this.compiled = compiled;
         this.cacheExpression = cacheExpression;
     }
 
@@ -161,7 +171,7 @@ public class SimpleExpressionParser extends BaseSimpleParser {
     private List<Expression> createExpressions() {
         List<Expression> answer = new ArrayList<>();
         for (SimpleNode token : nodes) {
-            Expression exp = token.createExpression(expression);
+            Expression exp = compiled ? SimpleCompiler.compileExpression(token, expression) : token.createExpression(expression);
             if (exp != null) {
                 answer.add(exp);
             }
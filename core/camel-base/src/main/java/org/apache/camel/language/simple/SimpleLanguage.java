@@ -106,6 +106,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
     boolean allowEscape = true;
+    private boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -117,6 +118,29 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to compile the parsed expressions and predicates, so they access the exchange directly
+     * instead of interpreting each node of the expression when evaluated.
+     * <p/>
+     * Parts of the expression which cannot be compiled, such as OGNL and nested functions, are interpreted as usual.
+     */
+    public void setCompiled(boolean compiled) {
+        if (this.compiled != compiled) {
+            this.compiled = compiled;
+            // the cached expressions was parsed using the previous mode
+            if (cacheExpression != null) {
+                cacheExpression.clear();
+            }
+            if (cachePredicate != null) {
+                cachePredicate.clear();
+            }
+        }
+    }
+
     @Override
     public void init() {
         // setup cache which requires CamelContext to be set first
@@ -164,7 +188,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             expression = loadResource(expression);
 
-            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, cacheExpression);
+            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, compiled, cacheExpression);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
@@ -184,7 +208,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             expression = loadResource(expression);
 
-            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, cacheExpression);
+            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, compiled, cacheExpression);
             answer = parser.parseExpression();
 
             if (cacheExpression != null && answer != null) {
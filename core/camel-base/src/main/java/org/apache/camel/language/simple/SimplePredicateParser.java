@@ -56,9 +56,18 @@ public class SimplePredicateParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private final boolean compiled;
 
     public SimplePredicateParser(String expression, boolean allowEscape, Map<String, Expression> cacheExpression) {
+        this(expression, allowEscape, false, cacheExpression);
+    }
+
+    /**
+     * @param compiled whether to compile the parsed predicate, see {@link SimpleLanguage#setCompiled(boolean)}
+     */
+    public SimplePredicateParser(String expression, boolean allowEscape, boolean compiled, Map<String, Expression> cacheExpression) {
         super(expression, allowEscape);
+        this.compiled = compiled;
         this.cacheExpression = cacheExpression;
     }
 
@@ -441,6 +450,13 @@ public class SimplePredicateParser extends BaseSimpleParser {
     private List<Predicate> createPredicates() {
         List<Predicate> answer = new ArrayList<>();
         for (SimpleNode node : nodes) {
+            if (compiled) {
+                Predicate predicate = SimpleCompiler.compilePredicate(node, expression);
+                if (predicate != null) {
+                    answer.add(predicate);
+                }
+                continue;
+            }
             Expression exp = node.createExpression(expression);
             if (exp != null) {
                 Predicate predicate = ExpressionToPredicateAdapter.toPredicate(exp);
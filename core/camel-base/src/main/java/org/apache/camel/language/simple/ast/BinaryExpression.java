@@ -70,6 +70,14 @@ public class BinaryExpression extends BaseSimpleNode {
         return operator;
     }
 
+    public SimpleNode getLeft() {
+        return left;
+    }
+
+    public SimpleNode getRight() {
+        return right;
+    }
+
     @Override
     public Expression createExpression(String expression) {
         org.apache.camel.util.ObjectHelper.notNull(left, "left node", this);
@@ -78,45 +86,61 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(expression);
         final Expression rightExp = right.createExpression(expression);
 
+        if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
+            return createIsExpression(expression, leftExp, rightExp);
+        } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
+            return createRegexExpression(leftExp, rightExp);
+        } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
+            return createInExpression(leftExp, rightExp);
+        } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
+            return createRangeExpression(expression, leftExp, rightExp);
+        }
+
+        Predicate predicate = createPredicate(leftExp, rightExp);
+        if (predicate != null) {
+            return createExpression(leftExp, rightExp, predicate);
+        }
+
+        throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
+    }
+
+    /**
+     * Creates a {@link Predicate} which compares the left and right hand side expressions using the operator.
+     *
+     * @return the predicate, or <tt>null</tt> if the operator requires the right hand side to be evaluated first,
+     *         such as the <tt>is</tt>, <tt>regex</tt>, <tt>in</tt> and <tt>range</tt> operators
+     */
+    public Predicate createPredicate(Expression leftExp, Expression rightExp) {
         if (operator == BinaryOperatorType.EQ) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GT) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.isGreaterThan(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.GTE) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LT) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.isLessThan(leftExp, rightExp));
+            return PredicateBuilder.isLessThan(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.LTE) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.isNotEqualTo(leftExp, rightExp));
+            return PredicateBuilder.isNotEqualTo(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_EQ_IGNORE) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.contains(leftExp, rightExp));
+            return PredicateBuilder.contains(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp)));
+            return PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.CONTAINS_IGNORECASE) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
+            return PredicateBuilder.containsIgnoreCase(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.NOT_CONTAINS_IGNORECASE) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp)));
-        } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
-            return createIsExpression(expression, leftExp, rightExp);
-        } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
-            return createRegexExpression(leftExp, rightExp);
-        } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
-            return createInExpression(leftExp, rightExp);
-        } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
-            return createRangeExpression(expression, leftExp, rightExp);
+            return PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.STARTS_WITH) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.startsWith(leftExp, rightExp));
+            return PredicateBuilder.startsWith(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.ENDS_WITH) {
-            return createExpression(leftExp, rightExp, PredicateBuilder.endsWith(leftExp, rightExp));
+            return PredicateBuilder.endsWith(leftExp, rightExp);
         }
-
-        throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
+        return null;
     }
 
     private Expression createIsExpression(final String expression, final Expression leftExp, final Expression rightExp) {
@@ -52,6 +52,18 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
         return "${" + block + "}";
     }
 
+    /**
+     * Gets the text of the function, if its a simple literal function (without nested functions)
+     *
+     * @return the function text, or <tt>null</tt> if the function contains nested functions
+     */
+    public String getFunctionText() {
+        if (block.getChildren().size() == 1 && block.getChildren().get(0) instanceof LiteralNode) {
+            return ((LiteralNode) block.getChildren().get(0)).getText();
+        }
+        return null;
+    }
+
     @Override
     public Expression createExpression(String expression) {
         // a function can either be a simple literal function, or contain nested functions
@@ -18,12 +18,12 @@ package org.apache.camel.processor;
 
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
@@ -50,8 +50,10 @@ import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.MessageHistoryRingBuffer;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.UnitOfWorkHelper;
@@ -86,10 +88,21 @@ import org.slf4j.LoggerFactory;
  * {@link #process(org.apache.camel.Exchange, org.apache.camel.AsyncCallback)} method.
  * <p/>
  * The added advices can implement {@link Ordered} to control in which order the advices are executed.
+ * <p/>
+ * A batch of exchanges can be processed using {@link #processBatch(List, AsyncCallback)}, where the advices
+ * are executed for each exchange, and the exchanges which should continue are passed on as a batch.
  */
-public class CamelInternalProcessor extends DelegateAsyncProcessor {
+public class CamelInternalProcessor extends DelegateAsyncProcessor implements BatchProcessor {
+
+    private static final CamelInternalProcessorAdvice[] NO_ADVICES = new CamelInternalProcessorAdvice[0];
+    private static final int[] NO_STATES = new int[0];
 
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
+    // the advices precomposed as an array, with the index of their state (or -1 if they have no state),
+    // which is composed again when an advice is added, so routing does not iterate the list or keep unused state
+    private CamelInternalProcessorAdvice[] chain = NO_ADVICES;
+    private int[] stateIndexes = NO_STATES;
+    private int stateCount;
 
     public CamelInternalProcessor() {
     }
@@ -107,6 +120,19 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         advices.add(advice);
         // ensure advices are sorted so they are in the order we want
         advices.sort(OrderedComparator.get());
+        composeChain();
+    }
+
+    private void composeChain() {
+        CamelInternalProcessorAdvice[] newChain = advices.toArray(new CamelInternalProcessorAdvice[0]);
+        int[] newStateIndexes = new int[newChain.length];
+        int count = 0;
+        for (int i = 0; i < newChain.length; i++) {
+            newStateIndexes[i] = newChain[i].hasState() ? count++ : -1;
+        }
+        this.stateIndexes = newStateIndexes;
+        this.stateCount = count;
+        this.chain = newChain;
     }
 
     /**
@@ -147,14 +173,18 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return true;
         }
 
-        // optimise to use object array for states
-        final Object[] states = new Object[advices.size()];
+        final CamelInternalProcessorAdvice[] chain = this.chain;
+        final int[] stateIndexes = this.stateIndexes;
+        // the callback which will execute the advices in reverse order when done, and keeps the state of the advices
+        final AdviceCallback callback = new AdviceCallback(exchange, originalCallback, chain, stateIndexes, stateCount);
         // optimise for loop using index access to avoid creating iterator object
-        for (int i = 0; i < advices.size(); i++) {
-            CamelInternalProcessorAdvice task = advices.get(i);
+        for (int i = 0; i < chain.length; i++) {
+            CamelInternalProcessorAdvice task = chain[i];
             try {
                 Object state = task.before(exchange);
-                states[i] = state;
+                if (stateIndexes[i] >= 0) {
+                    callback.setState(stateIndexes[i], state);
+                }
             } catch (Throwable e) {
                 exchange.setException(e);
                 originalCallback.done(true);
@@ -162,39 +192,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
-        // create internal callback which will execute the advices in reverse order when done
-        AsyncCallback callback = doneSync -> {
-            try {
-                for (int i = advices.size() - 1; i >= 0; i--) {
-                    CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = states[i];
-                    try {
-                        task.after(exchange, state);
-                    } catch (Throwable e) {
-                        exchange.setException(e);
-                        // allow all advices to complete even if there was an exception
-                    }
-                }
-            } finally {
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ START +++
-                // ----------------------------------------------------------
-                // callback must be called
-                exchange.getContext().getReactiveExecutor().callback(originalCallback);
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ END +++
-                // ----------------------------------------------------------
-            }
-        };
-
         if (exchange.isTransacted()) {
             // must be synchronized for transacted exchanges
             if (log.isTraceEnabled()) {
-                if (exchange.isTransacted()) {
-                    log.trace("Transacted Exchange must be routed synchronously for exchangeId: {} -> {}", exchange.getExchangeId(), exchange);
-                } else {
-                    log.trace("Synchronous UnitOfWork Exchange must be routed synchronously for exchangeId: {} -> {}", exchange.getExchangeId(), exchange);
-                }
+                log.trace("Transacted Exchange must be routed synchronously for exchangeId: {} -> {}", exchange.getExchangeId(), exchange);
             }
             // ----------------------------------------------------------
             // CAMEL END USER - DEBUG ME HERE +++ START +++
@@ -230,19 +231,179 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // CAMEL END USER - DEBUG ME HERE +++ END +++
             // ----------------------------------------------------------
 
-            exchange.getContext().getReactiveExecutor().schedule(() -> {
-                // execute any after processor work (in current thread, not in the callback)
-                if (uow != null) {
-                    uow.afterProcess(processor, exchange, callback, false);
+            // execute any after processor work (in current thread, not in the callback)
+            if (uow != null) {
+                callback.uow = uow;
+                exchange.getContext().getReactiveExecutor().schedule(callback);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The callback which executes the after advices in reverse order, and the after processor work of the
+     * {@link UnitOfWork}. The state of the advices is kept in this callback, so a single object is created
+     * per exchange for the advices, regardless of the number of advices.
+     */
+    private final class AdviceCallback implements AsyncCallback, Runnable {
+
+        private final Exchange exchange;
+        private final AsyncCallback originalCallback;
+        private final CamelInternalProcessorAdvice[] chain;
+        private final int[] stateIndexes;
+        // the state when there is only one advice with state, otherwise the states are kept in the array
+        private Object state;
+        private final Object[] states;
+        private UnitOfWork uow;
+
+        AdviceCallback(Exchange exchange, AsyncCallback originalCallback, CamelInternalProcessorAdvice[] chain,
+                       int[] stateIndexes, int stateCount) {
+            this.exchange = exchange;
+            this.originalCallback = originalCallback;
+            this.chain = chain;
+            this.stateIndexes = stateIndexes;
+            this.states = stateCount > 1 ? new Object[stateCount] : null;
+        }
+
+        void setState(int index, Object value) {
+            if (states != null) {
+                states[index] = value;
+            } else {
+                state = value;
+            }
+        }
+
+        Object getState(int index) {
+            if (index < 0) {
+                return null;
+            }
+            return states != null ? states[index] : state;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void done(boolean doneSync) {
+            try {
+                for (int i = chain.length - 1; i >= 0; i--) {
+                    CamelInternalProcessorAdvice task = chain[i];
+                    try {
+                        task.after(exchange, getState(stateIndexes[i]));
+                    } catch (Throwable e) {
+                        exchange.setException(e);
+                        // allow all advices to complete even if there was an exception
+                    }
+                }
+            } finally {
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ START +++
+                // ----------------------------------------------------------
+                // callback must be called (unless part of a batch, where it is called when the batch is done)
+                if (originalCallback != null) {
+                    exchange.getContext().getReactiveExecutor().callback(originalCallback);
                 }
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ END +++
+                // ----------------------------------------------------------
+            }
+        }
+
+        @Override
+        public void run() {
+            uow.afterProcess(processor, exchange, this, false);
+
+            if (log.isTraceEnabled()) {
+                log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
+                        exchange.getExchangeId(), exchange);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "CamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId();
+        }
+    }
+
+    @Override
+    public boolean processBatch(List<Exchange> exchanges, AsyncCallback originalCallback) {
+        if (processor == null || exchanges.isEmpty()) {
+            originalCallback.done(true);
+            return true;
+        }
+        for (Exchange exchange : exchanges) {
+            // transacted exchanges must be routed synchronously, and the MDC is only for the current exchange
+            if (exchange.isTransacted() || exchange.getContext().isUseMDCLogging()) {
+                return AsyncProcessorHelper.processEach(this, exchanges, originalCallback);
+            }
+        }
 
-                if (log.isTraceEnabled()) {
-                    log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
-                             exchange.getExchangeId(), exchange);
+        final CamelInternalProcessorAdvice[] chain = this.chain;
+        final int[] stateIndexes = this.stateIndexes;
+        final int stateCount = this.stateCount;
+        final List<Exchange> batch = new ArrayList<>(exchanges.size());
+        final List<AdviceCallback> adviceCallbacks = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            if (!continueProcessing(exchange)) {
+                continue;
+            }
+            // the callback which will execute the advices in reverse order for this exchange, and keeps the state
+            // of the advices, where the original callback is only called when the whole batch is done
+            final AdviceCallback callback = new AdviceCallback(exchange, null, chain, stateIndexes, stateCount);
+            boolean failed = false;
+            for (int i = 0; i < chain.length && !failed; i++) {
+                CamelInternalProcessorAdvice task = chain[i];
+                try {
+                    Object state = task.before(exchange);
+                    if (stateIndexes[i] >= 0) {
+                        callback.setState(stateIndexes[i], state);
+                    }
+                } catch (Throwable e) {
+                    exchange.setException(e);
+                    failed = true;
                 }
-            }, "CamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId());
-            return false;
+            }
+            if (!failed) {
+                batch.add(exchange);
+                adviceCallbacks.add(callback);
+            }
+        }
+        if (batch.isEmpty()) {
+            originalCallback.done(true);
+            return true;
+        }
+
+        // allow unit of work to wrap callback in case it need to do some special work
+        final AsyncCallback[] callbacks = new AsyncCallback[batch.size()];
+        final UnitOfWork[] uows = new UnitOfWork[batch.size()];
+        for (int j = 0; j < batch.size(); j++) {
+            final Exchange exchange = batch.get(j);
+            final AdviceCallback callback = adviceCallbacks.get(j);
+            uows[j] = exchange.getUnitOfWork();
+            callbacks[j] = uows[j] != null ? uows[j].beforeProcess(processor, exchange, callback) : callback;
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Processing batch of {} exchanges", batch.size());
         }
+        AsyncProcessorHelper.processBatch(processor, batch, doneSync -> {
+            try {
+                for (AsyncCallback callback : callbacks) {
+                    callback.done(false);
+                }
+            } finally {
+                // callback must be called
+                batch.get(0).getContext().getReactiveExecutor().callback(originalCallback);
+            }
+        });
+
+        batch.get(0).getContext().getReactiveExecutor().schedule(() -> {
+            // execute any after processor work (in current thread, not in the callback)
+            for (int j = 0; j < uows.length; j++) {
+                if (uows[j] != null) {
+                    uows[j].afterProcess(processor, batch.get(j), callbacks[j], false);
+                }
+            }
+        }, "CamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - batch");
+        return false;
     }
 
     @Override
@@ -305,6 +466,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 uow.afterRoute(exchange, route);
             }
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -330,6 +496,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object state) throws Exception {
             inflightRepository.remove(exchange, id);
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -399,6 +570,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         private static boolean isCamelStopping(CamelContext context) {
             if (context != null) {
                 return context.isStopping() || context.isStopped();
@@ -453,6 +629,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // noop
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         @Override
         public int getOrder() {
             // we want tracer just before calling the processor
@@ -630,7 +811,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
      * Advice when Message History has been enabled.
      */
     @SuppressWarnings("unchecked")
-    public static class MessageHistoryAdvice implements CamelInternalProcessorAdvice<MessageHistory> {
+    public static class MessageHistoryAdvice implements CamelInternalProcessorAdvice<Object> {
 
         private final MessageHistoryFactory factory;
         private final NamedNode definition;
@@ -643,12 +824,16 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         }
 
         @Override
-        public MessageHistory before(Exchange exchange) throws Exception {
+        public Object before(Exchange exchange) throws Exception {
             List<MessageHistory> list = exchange.getProperty(Exchange.MESSAGE_HISTORY, List.class);
             if (list == null) {
-                list = new LinkedList<>();
+                list = factory.newMessageHistoryList(exchange);
                 exchange.setProperty(Exchange.MESSAGE_HISTORY, list);
             }
+            if (list instanceof MessageHistoryRingBuffer && !((MessageHistoryRingBuffer) list).isSampled()) {
+                // the exchange is not sampled
+                return null;
+            }
 
             // we may be routing outside a route in an onException or interceptor and if so then grab
             // route id from the exchange UoW state
@@ -660,6 +845,12 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 }
             }
 
+            if (list instanceof MessageHistoryRingBuffer) {
+                // the history is kept in the buffer, so the buffer is the state
+                MessageHistoryRingBuffer buffer = (MessageHistoryRingBuffer) list;
+                return buffer.add(targetRouteId, definition, System.currentTimeMillis()) ? buffer : null;
+            }
+
             MessageHistory history = factory.newMessageHistory(targetRouteId, definition, System.currentTimeMillis(), exchange);
             if (history != null) {
                 list.add(history);
@@ -668,9 +859,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         }
 
         @Override
-        public void after(Exchange exchange, MessageHistory history) throws Exception {
-            if (history != null) {
-                history.nodeProcessingDone();
+        public void after(Exchange exchange, Object state) throws Exception {
+            if (state instanceof MessageHistory) {
+                ((MessageHistory) state).nodeProcessingDone();
+            } else if (state instanceof MessageHistoryRingBuffer) {
+                ((MessageHistoryRingBuffer) state).nodeProcessingDone(definition);
             }
         }
     }
@@ -751,6 +944,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object data) throws Exception {
             // noop
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -792,6 +990,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             tracer.traceAfterNode(processorDefinition, exchange);
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         private static final class TracingAfterRoute extends SynchronizationAdapter {
 
             private final Tracer tracer;
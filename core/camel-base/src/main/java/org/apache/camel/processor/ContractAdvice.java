@@ -81,6 +81,11 @@ public class ContractAdvice implements CamelInternalProcessorAdvice {
         return null;
     }
     
+    @Override
+    public boolean hasState() {
+        return false;
+    }
+
     @Override
     public void after(Exchange exchange, Object data) throws Exception {
         if (exchange.isFailed()) {
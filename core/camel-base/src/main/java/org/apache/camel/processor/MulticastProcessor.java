@@ -153,6 +153,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
     private final long timeout;
     private final ConcurrentMap<PreparedErrorHandler, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInflight;
 
     public MulticastProcessor(CamelContext camelContext, Collection<Processor> processors) {
         this(camelContext, processors, null);
@@ -265,6 +266,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean paused = new AtomicBoolean();
 
         MulticastState(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback) {
             this.original = original;
@@ -315,7 +317,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                 // Schedule the processing of the next pair
                 if (hasNext) {
                     if (isParallelProcessing()) {
-                        schedule(this);
+                        scheduleNext();
                     }
                 } else {
                     allSent.set(true);
@@ -375,6 +377,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                             doDone(result.get(), true);
                         }
                     }
+                    resume();
                 } catch (Throwable e) {
                     original.setException(e);
                     // and do the done work
@@ -385,6 +388,29 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             }
         }
 
+        /**
+         * Schedules the processing of the next pair, unless the maximum number of inflight
+         * sub exchanges has been reached, in which case the processing is resumed when
+         * sub exchanges has been aggregated.
+         */
+        protected void scheduleNext() {
+            if (maxInflight > 0 && nbExchangeSent.get() - nbAggregated.get() >= maxInflight) {
+                paused.set(true);
+                // check again as the sub exchanges may have been aggregated in the meantime
+                if (nbExchangeSent.get() - nbAggregated.get() >= maxInflight || !paused.compareAndSet(true, false)) {
+                    return;
+                }
+            }
+            schedule(this);
+        }
+
+        protected void resume() {
+            if (paused.get() && !done.get() && nbExchangeSent.get() - nbAggregated.get() < maxInflight
+                    && paused.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -945,6 +971,22 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         return shareUnitOfWork;
     }
 
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges which can be inflight (sent but not yet aggregated)
+     * at the same time, when using parallel processing. When the limit is reached, then no further sub exchanges
+     * are created (such as reading the next part of the message when splitting in streaming mode) until
+     * the sub exchanges in progress has been completed and aggregated, which keeps the memory usage bounded.
+     * <p/>
+     * The default value is <tt>0</tt> which means unbounded.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     @Override
     public List<Processor> next() {
         if (!hasNext()) {
@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
@@ -31,6 +32,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
@@ -39,9 +41,12 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 
 /**
  * Creates a Pipeline pattern where the output of the previous step is sent as
- * input to the next step, reusing the same message exchanges
+ * input to the next step, reusing the same message exchanges.
+ * <p/>
+ * A batch of exchanges is routed step by step, where the exchanges which should continue are passed
+ * as a batch to the next step.
  */
-public class Pipeline extends AsyncProcessorSupport implements Navigate<Processor>, Traceable, IdAware {
+public class Pipeline extends AsyncProcessorSupport implements BatchProcessor, Navigate<Processor>, Traceable, IdAware {
 
     private final CamelContext camelContext;
     private List<AsyncProcessor> processors;
@@ -81,11 +86,9 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         if (exchange.isTransacted()) {
-            camelContext.getReactiveExecutor().scheduleSync(() -> Pipeline.this.doProcess(exchange, callback, processors.iterator(), true),
-                    "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]");
+            camelContext.getReactiveExecutor().scheduleSync(new PipelineTask(exchange, callback, processors.iterator(), true));
         } else {
-            camelContext.getReactiveExecutor().scheduleMain(() -> Pipeline.this.doProcess(exchange, callback, processors.iterator(), true),
-                    "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]");
+            camelContext.getReactiveExecutor().scheduleMain(new PipelineTask(exchange, callback, processors.iterator(), true));
         }
         return false;
     }
@@ -101,8 +104,7 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
             AsyncProcessor processor = processors.next();
 
             processor.process(exchange, doneSync ->
-                    camelContext.getReactiveExecutor().schedule(() -> doProcess(exchange, callback, processors, false),
-                            "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]"));
+                    camelContext.getReactiveExecutor().schedule(new PipelineTask(exchange, callback, processors, false)));
         } else {
             ExchangeHelper.copyResults(exchange, exchange);
 
@@ -115,15 +117,87 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
         }
     }
 
-    protected boolean continueRouting(Iterator<AsyncProcessor> it, Exchange exchange) {
+    @Override
+    public boolean processBatch(List<Exchange> exchanges, AsyncCallback callback) {
+        for (Exchange exchange : exchanges) {
+            if (exchange.isTransacted()) {
+                // must be routed synchronously one by one
+                return AsyncProcessorHelper.processEach(this, exchanges, callback);
+            }
+        }
+        camelContext.getReactiveExecutor().scheduleMain(() -> Pipeline.this.doProcessBatch(exchanges, callback, 0),
+                "Step[batch," + Pipeline.this + "]");
+        return false;
+    }
+
+    protected void doProcessBatch(List<Exchange> exchanges, AsyncCallback callback, int index) {
+        List<Exchange> next = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            if (index < processors.size() && !isStopped(exchange)
+                    && (index == 0 || continueProcessing(exchange, "so breaking out of pipeline", log))) {
+                // prepare for next run
+                ExchangeHelper.prepareOutToIn(exchange);
+                next.add(exchange);
+            } else {
+                ExchangeHelper.copyResults(exchange, exchange);
+                log.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+            }
+        }
+
+        if (next.isEmpty()) {
+            camelContext.getReactiveExecutor().callback(callback);
+        } else {
+            AsyncProcessorHelper.processBatch(processors.get(index), next, doneSync ->
+                    camelContext.getReactiveExecutor().schedule(() -> doProcessBatch(next, callback, index + 1),
+                            "Step[batch," + Pipeline.this + "]"));
+        }
+    }
+
+    private boolean isStopped(Exchange exchange) {
         Object stop = exchange.getProperty(Exchange.ROUTE_STOP);
         if (stop != null) {
             boolean doStop = exchange.getContext().getTypeConverter().convertTo(Boolean.class, stop);
             if (doStop) {
                 log.debug("ExchangeId: {} is marked to stop routing: {}", exchange.getExchangeId(), exchange);
-                return false;
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Task to process the next step, which is described only when needed (such as when logging),
+     * as the description includes all the steps of the pipeline.
+     */
+    private final class PipelineTask implements Runnable {
+
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final Iterator<AsyncProcessor> processors;
+        private final boolean first;
+
+        PipelineTask(Exchange exchange, AsyncCallback callback, Iterator<AsyncProcessor> processors, boolean first) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.processors = processors;
+            this.first = first;
+        }
+
+        @Override
+        public void run() {
+            doProcess(exchange, callback, processors, first);
+        }
+
+        @Override
+        public String toString() {
+            return "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]";
+        }
+    }
+
+    protected boolean continueRouting(Iterator<AsyncProcessor> it, Exchange exchange) {
+        if (isStopped(exchange)) {
+            return false;
+        }
         // continue if there are more processors to route
         boolean answer = it.hasNext();
         log.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), answer);
@@ -17,9 +17,11 @@
 package org.apache.camel.processor;
 
 import java.net.URISyntaxException;
+import java.util.List;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProducer;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.EndpointAware;
@@ -30,6 +32,7 @@ import org.apache.camel.Traceable;
 import org.apache.camel.impl.engine.DefaultProducerCache;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ProducerCache;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.EndpointHelper;
 import org.apache.camel.support.EventHelper;
@@ -43,7 +46,7 @@ import org.apache.camel.util.URISupport;
  *
  * @see SendDynamicProcessor
  */
-public class SendProcessor extends AsyncProcessorSupport implements Traceable, EndpointAware, IdAware {
+public class SendProcessor extends AsyncProcessorSupport implements BatchProcessor, Traceable, EndpointAware, IdAware {
 
     protected transient String traceLabelToString;
     protected final CamelContext camelContext;
@@ -167,6 +170,55 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
         }));
     }
     
+    @Override
+    public boolean processBatch(List<Exchange> exchanges, AsyncCallback callback) {
+        if (!isStarted() || !(producer instanceof BatchProcessor)) {
+            // the producer can only process the exchanges one by one
+            return AsyncProcessorHelper.processEach(this, exchanges, callback);
+        }
+
+        // we should preserve existing MEP so remember old MEP
+        final ExchangePattern[] existingPatterns = new ExchangePattern[exchanges.size()];
+        final boolean[] sending = new boolean[exchanges.size()];
+        boolean anySending = false;
+        for (int i = 0; i < exchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            existingPatterns[i] = exchange.getPattern();
+            counter++;
+            configureExchange(exchange, pattern);
+            sending[i] = EventHelper.notifyExchangeSending(exchange.getContext(), exchange, destination);
+            anySending |= sending[i];
+        }
+        // record timing for sending the exchanges using the producer
+        final StopWatch watch = anySending ? new StopWatch() : null;
+
+        log.debug(">>>> {} batch of {} exchanges", destination, exchanges.size());
+        try {
+            return ((BatchProcessor) producer).processBatch(exchanges, doneSync -> {
+                try {
+                    long timeTaken = watch != null ? watch.taken() : 0;
+                    for (int i = 0; i < exchanges.size(); i++) {
+                        Exchange target = exchanges.get(i);
+                        // restore previous MEP
+                        target.setPattern(existingPatterns[i]);
+                        // emit event that the exchange was sent to the endpoint
+                        if (sending[i]) {
+                            EventHelper.notifyExchangeSent(target.getContext(), target, destination, timeTaken);
+                        }
+                    }
+                } finally {
+                    callback.done(doneSync);
+                }
+            });
+        } catch (Throwable throwable) {
+            for (Exchange exchange : exchanges) {
+                exchange.setException(throwable);
+            }
+            callback.done(true);
+            return true;
+        }
+    }
+
     public Endpoint getDestination() {
         return destination;
     }
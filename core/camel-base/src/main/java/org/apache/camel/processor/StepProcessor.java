@@ -23,6 +23,7 @@ import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.EventHelper;
 
 public class StepProcessor extends Pipeline {
@@ -76,6 +77,12 @@ public class StepProcessor extends Pipeline {
         });
     }
 
+    @Override
+    public boolean processBatch(List<Exchange> exchanges, AsyncCallback callback) {
+        // the step id and step events are per exchange, so route the exchanges one by one
+        return AsyncProcessorHelper.processEach(this, exchanges, callback);
+    }
+
     @Override
     public String getTraceLabel() {
         return "step";
@@ -424,6 +424,18 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         return timePeriodMillis;
     }
 
+    protected CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    protected ScheduledExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    protected Expression getCorrelationExpression() {
+        return correlationExpression;
+    }
+
     @Override
     public String getTraceLabel() {
         return "throttle[" + maxRequestsPerPeriodExpression + " per: " + timePeriodMillis + "]";
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.ThrottlerRepository;
+import org.apache.camel.support.service.ServiceHelper;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a token bucket, that is implemented
+ * using the generic cell rate algorithm (GCRA).
+ * <p/>
+ * The only state per correlation key is the theoretical arrival time of the next request, which is updated using
+ * compare and set, so there are no locks, and no permit objects to be queued, which makes this throttler suitable
+ * for high throttle rates. The bucket is refilled at a steady rate of maxRequestsPerPeriod per time period and allows
+ * bursts of up to maxRequestsPerPeriod requests, whereas the {@link Throttler} allows at most maxRequestsPerPeriod
+ * requests within any rolling window of the time period.
+ * <p/>
+ * When the throttle rate is exceeded, a request reserves the next free slot and is delayed until the time of the slot,
+ * (or rejected when rejectExecution is enabled, in which case no slot is reserved).
+ * <p/>
+ * The state can be held in a {@link ThrottlerRepository}, which allows to enforce a throttle limit across a cluster of
+ * Camel applications that are sharing the repository. The keys in the repository are prefixed with the route id and the
+ * id of the throttler, so each throttler has its own state, and the throttlers in the different Camel applications must
+ * therefore use the same route and node ids to share a throttle limit.
+ */
+public class TokenBucketThrottler extends Throttler {
+
+    private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
+
+    private final Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private final ThrottlerRepository repository;
+    private String routeId;
+    private String repositoryKeyPrefix;
+    private volatile ScheduledFuture<?> cleanFuture;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression, final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor, final boolean rejectExecution,
+                                Expression correlation, ThrottlerRepository repository) {
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor, rejectExecution, correlation);
+        this.repository = repository;
+    }
+
+    public ThrottlerRepository getRepository() {
+        return repository;
+    }
+
+    public String getRouteId() {
+        return routeId;
+    }
+
+    /**
+     * Sets the id of the route, which is used together with the id of this throttler as prefix of the keys in the
+     * throttler repository.
+     */
+    public void setRouteId(String routeId) {
+        this.routeId = routeId;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (getCorrelationExpression() != null) {
+                key = getCorrelationExpression().evaluate(exchange, String.class);
+            }
+            ThrottlingState state = states.get(key);
+            if (state == null) {
+                state = states.computeIfAbsent(key, ThrottlingState::new);
+            }
+
+            int rate = state.calculateMaxRequestsPerPeriod(exchange);
+            while (rate == 0) {
+                // no requests are allowed until the rate is increased
+                if (isRejectExecution()) {
+                    throw new ThrottlerRejectedExecutionException("Exceeded the max throttle rate of 0 within " + getTimePeriodMillis() + "ms");
+                }
+                if (isAsyncDelayed() && !exchange.isTransacted()) {
+                    try {
+                        log.debug("Throttle rate is 0 but AsyncDelayed enabled, so checking the rate again asynchronously, exchangeId: {}", exchange.getExchangeId());
+                        getAsyncExecutor().schedule(() -> process(exchange, doneSync -> callback.done(false)), getTimePeriodMillis(), TimeUnit.MILLISECONDS);
+                        return false;
+                    } catch (RejectedExecutionException e) {
+                        if (!isCallerRunsWhenRejected()) {
+                            throw e;
+                        }
+                        log.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}", exchange.getExchangeId());
+                    }
+                }
+                Thread.sleep(getTimePeriodMillis());
+                rate = state.calculateMaxRequestsPerPeriod(exchange);
+            }
+
+            long delay = state.acquire(rate, !isRejectExecution());
+            if (delay <= 0) {
+                log.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+            } else if (isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException("Exceeded the max throttle rate of " + rate + " within " + getTimePeriodMillis() + "ms");
+            } else {
+                // the slot has been reserved so we only need to wait until its time
+                if (isAsyncDelayed() && !exchange.isTransacted()) {
+                    try {
+                        log.debug("Throttle rate exceeded but AsyncDelayed enabled, so delaying asynchronously, exchangeId: {}", exchange.getExchangeId());
+                        getAsyncExecutor().schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+                        return false;
+                    } catch (RejectedExecutionException e) {
+                        if (!isCallerRunsWhenRejected()) {
+                            throw e;
+                        }
+                        log.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}", exchange.getExchangeId());
+                    }
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+                log.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+            }
+
+            callback.done(true);
+            return true;
+
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().forceShutdown(this);
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: " + exchange;
+                log.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
+        } catch (final Throwable t) {
+            exchange.setException(t);
+            callback.done(true);
+            return true;
+        }
+    }
+
+    @Override
+    public int getCurrentMaximumRequestsPerPeriod() {
+        return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
+    }
+
+    /**
+     * Removes the state of the correlation keys which has not been used for a while
+     */
+    protected void clean() {
+        long now = System.nanoTime();
+        long cleanPeriod = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis() * 10);
+        states.values().removeIf(state -> now - state.lastUsed > cleanPeriod && (repository != null || state.time.get() - now < 0));
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // the throttlers which share the repository must not use the same keys
+        repositoryKeyPrefix = routeId + "/" + getId() + "/";
+        ServiceHelper.startService(repository);
+        if (getAsyncExecutor() != null) {
+            long period = getTimePeriodMillis() * 10;
+            cleanFuture = getAsyncExecutor().scheduleWithFixedDelay(this::clean, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanFuture != null) {
+            cleanFuture.cancel(false);
+            cleanFuture = null;
+        }
+        // the repository is not stopped as it is provided from outside and can be shared with other throttlers
+        super.doStop();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        states.clear();
+        super.doShutdown();
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + getMaximumRequestsPerPeriodExpression() + " per: " + getTimePeriodMillis() + " (token bucket)]";
+    }
+
+    @Override
+    public String toString() {
+        return "TokenBucketThrottler[requests: " + getMaximumRequestsPerPeriodExpression() + " per: " + getTimePeriodMillis() + " (ms)]";
+    }
+
+    private final class ThrottlingState {
+        // the key in the repository
+        private final String key;
+        // the theoretical arrival time of the next request when not using a repository
+        private final AtomicLong time = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+        private volatile long lastUsed;
+
+        ThrottlingState(String correlationKey) {
+            this.key = repositoryKeyPrefix + correlationKey;
+        }
+
+        int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression, as the throttle rate can be changed at any time.
+         */
+        int calculateMaxRequestsPerPeriod(Exchange exchange) {
+            Integer newThrottle = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+            if (newThrottle == null) {
+                if (throttleRate == 0) {
+                    throw new RuntimeExchangeException("The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsPerPeriodExpression(), exchange);
+                }
+                return throttleRate;
+            }
+            if (newThrottle != throttleRate) {
+                log.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate, newThrottle, exchange.getExchangeId());
+                throttleRate = newThrottle;
+            }
+            return newThrottle;
+        }
+
+        /**
+         * Acquires a request slot.
+         *
+         * @param rate    the throttle rate
+         * @param reserve whether to reserve the next free slot if the throttle rate is exceeded
+         * @return the delay in nanoseconds until the time of the slot, where zero or negative means the request
+         *         can be processed now. If the delay is positive and reserve is <tt>false</tt> then no slot was acquired.
+         */
+        long acquire(int rate, boolean reserve) {
+            long period = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+            long interval = period / rate;
+            lastUsed = System.nanoTime();
+            long now = repository != null ? repository.currentTimeNanos() : lastUsed;
+            while (true) {
+                long current = repository != null ? repository.get(key) : time.get();
+                // the bucket is full when the arrival time is in the past
+                long next = (current - now < 0 ? now : current) + interval;
+                // the request conforms if the bucket holds a token, which is when the next arrival time is at most a period ahead
+                long delay = next - period - now;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                boolean updated = repository != null ? repository.compareAndSet(key, current, next) : time.compareAndSet(current, next);
+                if (updated) {
+                    return delay;
+                }
+            }
+        }
+    }
+}
@@ -97,7 +97,9 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     public static final String COMPLETED_BY_TIMEOUT = "timeout";
     public static final String COMPLETED_BY_FORCE = "force";
 
-    private volatile Lock lock;
+    // the locks used for aggregation, where the correlation key selects the lock to use (lock striping)
+    private volatile Lock[] locks;
+    private final AtomicBoolean forceCompletionOfAllGroupsPending = new AtomicBoolean();
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final AsyncProcessor processor;
@@ -134,6 +136,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private final AtomicLong completedByBatchConsumer = new AtomicLong();
     private final AtomicLong completedByForce = new AtomicLong();
     private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong lockContentions = new AtomicLong();
+    private final AtomicLong lockWaitTime = new AtomicLong();
 
     // keep booking about redelivery
     private class RedeliveryData {
@@ -194,6 +198,16 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             return discarded.get();
         }
 
+        @Override
+        public long getLockContentions() {
+            return lockContentions.get();
+        }
+
+        @Override
+        public long getLockWaitTime() {
+            return TimeUnit.NANOSECONDS.toMillis(lockWaitTime.get());
+        }
+
         @Override
         public void reset() {
             totalIn.set(0);
@@ -205,6 +219,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             completedByBatchConsumer.set(0);
             completedByForce.set(0);
             discarded.set(0);
+            lockContentions.set(0);
+            lockWaitTime.set(0);
         }
 
         @Override
@@ -223,6 +239,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -240,6 +257,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private boolean forceCompletionOnStop;
     private boolean completeAllOnStop;
     private long completionTimeoutCheckerInterval = 1000;
+    private boolean completionTimeoutUseTimingWheel;
 
     private ProducerTemplate deadLetterProducerTemplate;
 
@@ -382,7 +400,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         copy.getIn().removeHeader(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        Lock lock = lockFor(key);
+        acquireLock(lock);
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
@@ -391,6 +410,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             lock.unlock();
         }
 
+        // force completion of all groups that was requested while holding the lock of a single correlation group
+        if (forceCompletionOfAllGroupsPending.compareAndSet(true, false)) {
+            forceCompletionOfAllGroups();
+        }
+
         // we are completed so do that work outside the lock
         if (aggregated != null) {
             // we are completed so submit to completion
@@ -421,7 +445,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
      * Aggregates the exchange with the given correlation key
      * <p/>
      * This method <b>must</b> be run synchronized as we cannot aggregate the same correlation key
-     * in parallel.
+     * in parallel. When using lock striping then only the lock of the given correlation key is held.
      * <p/>
      * The returned {@link Exchange} should be send downstream using the {@link #onSubmitCompletion(String, org.apache.camel.Exchange)}
      * method which sends out the aggregated and completed {@link Exchange}.
@@ -523,7 +547,13 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         // check for the special exchange property to force completion of all groups
         if (getAndRemoveBooleanProperty(answer, Exchange.AGGREGATION_COMPLETE_ALL_GROUPS)) {
-            forceCompletionOfAllGroups();
+            if (locks.length > 1) {
+                // cannot complete the other groups while holding the lock of this group,
+                // so its done when the lock has been released
+                forceCompletionOfAllGroupsPending.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1000,6 +1030,18 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public boolean isCompletionTimeoutUseTimingWheel() {
+        return completionTimeoutUseTimingWheel;
+    }
+
+    /**
+     * Whether to keep track of the completion timeouts in a timing wheel, instead of checking
+     * all the aggregated exchanges for timeouts every time the timeout checker runs.
+     */
+    public void setCompletionTimeoutUseTimingWheel(boolean completionTimeoutUseTimingWheel) {
+        this.completionTimeoutUseTimingWheel = completionTimeoutUseTimingWheel;
+    }
+
     public ExceptionHandler getExceptionHandler() {
         return exceptionHandler;
     }
@@ -1024,6 +1066,26 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of locks to use (lock striping), so exchanges with different correlation keys
+     * can be aggregated in parallel. The correlation key determines which lock to use, and the
+     * number is rounded up to a power of two.
+     * <p/>
+     * The default value of 0 uses a single lock, which means only one exchange is aggregated at any time.
+     * The {@link AggregationRepository} must support being accessed concurrently for different correlation keys,
+     * which the {@link MemoryAggregationRepository} does.
+     * <p/>
+     * This option is not in use when optimistic locking is enabled, and when using completionFromBatchConsumer
+     * or completionOnNewCorrelationGroup as these completions spans all the correlation groups.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1168,20 +1230,22 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless using lock striping where exchanges with different correlation keys update the map concurrently)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || locks.length > 1);
+            setUseTimingWheel(completionTimeoutUseTimingWheel);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
             // wait for lock to be created
-            if (lock != null) {
+            if (locks != null) {
                 // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
+                lockAll();
                 try {
                     super.purge();
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
         }
@@ -1243,7 +1307,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                lockAll();
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
@@ -1268,7 +1332,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1307,7 +1371,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     log.info("We are shutting down so stop recovering");
                     return;
                 }
-                lock.lock();
+                lockAll();
                 try {
                     // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                     // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1371,7 +1435,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1422,6 +1486,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             log.info("Optimistic locking is enabled");
         }
 
+        locks = createLocks();
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1491,13 +1557,81 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         aggregateController.onStart(this);
 
         if (optimisticLocking) {
-            lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
                 setOptimisticLockingExecutorService(camelContext.getExecutorServiceManager().newScheduledThreadPool(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR, 1));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        }
+    }
+
+    private Lock[] createLocks() {
+        if (optimisticLocking) {
+            return new Lock[]{NoLock.INSTANCE};
+        }
+        if (lockStripes <= 1) {
+            return new Lock[]{new ReentrantLock()};
+        }
+        if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+            log.info("Lock striping is not in use as completionFromBatchConsumer or completionOnNewCorrelationGroup is enabled");
+            return new Lock[]{new ReentrantLock()};
+        }
+        // round up to power of two so the lock can be selected by a bit mask
+        int size = Integer.highestOneBit(lockStripes - 1) << 1;
+        log.info("Using lock striping with {} locks", size);
+        Lock[] answer = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            answer[i] = new ReentrantLock();
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the lock to use for aggregating the given correlation key
+     */
+    private Lock lockFor(String key) {
+        Lock[] locks = this.locks;
+        if (locks.length == 1) {
+            return locks[0];
+        }
+        // spread the hash code as the lower bits are used to select the lock
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return locks[h & (locks.length - 1)];
+    }
+
+    /**
+     * Acquires the lock and keeps statistics if the lock is contended
+     */
+    private void acquireLock(Lock lock) {
+        if (lock.tryLock()) {
+            return;
+        }
+        if (getStatistics().isStatisticsEnabled()) {
+            long start = System.nanoTime();
+            lock.lock();
+            lockContentions.incrementAndGet();
+            lockWaitTime.addAndGet(System.nanoTime() - start);
         } else {
-            lock = new ReentrantLock();
+            lock.lock();
+        }
+    }
+
+    /**
+     * Acquires all the locks, which must be done for tasks spanning all the correlation groups.
+     * <p/>
+     * The locks are always acquired in the same order, and this must not be done by a thread
+     * that already holds one of the locks.
+     */
+    private void lockAll() {
+        for (Lock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] locks = this.locks;
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
         }
     }
 
@@ -1607,6 +1741,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = lockFor(key);
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1648,7 +1783,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1664,7 +1799,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         log.trace("Completed force completion of all groups task");
@@ -1679,6 +1814,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = lockFor(key);
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1716,7 +1852,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1728,7 +1864,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         log.trace("Completed force discarding of all groups task");
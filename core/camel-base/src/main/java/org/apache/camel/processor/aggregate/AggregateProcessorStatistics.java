@@ -71,6 +71,16 @@ public interface AggregateProcessorStatistics {
      */
     long getDiscarded();
 
+    /**
+     * Total number of times an incoming exchange had to wait for the aggregation lock to be released
+     */
+    long getLockContentions();
+
+    /**
+     * Total time in millis incoming exchanges have waited for the aggregation lock to be released
+     */
+    long getLockWaitTime();
+
     /**
      * Reset the counters
      */
@@ -0,0 +1,831 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.CamelObjectInputStream;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A {@link org.apache.camel.spi.AggregationRepository} which stores the {@link Exchange}s off-heap in direct memory,
+ * which keeps the heap (and the garbage collector) free from large numbers of in-flight aggregated exchanges.
+ * <p/>
+ * The exchanges are serialized (using {@link DefaultExchangeHolder}) into blocks of direct memory, and only a small
+ * index of the correlation keys is kept on the heap. The direct memory is limited by the maximum memory size option,
+ * and when the limit has been reached, then the exchanges are spilled to a file on the local disk instead.
+ * <p/>
+ * If a persistent file name is configured, then all the exchanges are also written to this file, which means the
+ * aggregated exchanges survive a restart, and completed exchanges which have not been confirmed can be recovered
+ * after a restart. The direct memory is then used to avoid reading the exchanges from the file.
+ * <p/>
+ * Only the message body, headers and the aggregation related exchange properties are stored.
+ */
+public class OffHeapAggregationRepository extends ServiceSupport implements RecoverableAggregationRepository {
+
+    private static final byte TYPE_AGGREGATED = 1;
+    private static final byte TYPE_COMPLETED = 2;
+    private static final String FROM_ENDPOINT = "CamelAggregatedFromEndpoint";
+
+    private final ConcurrentMap<String, Entry> aggregated = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Entry> completed = new ConcurrentHashMap<>();
+    // guards compaction of the file which moves the stored exchanges
+    private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
+    private OffHeapMemory memory;
+    private volatile RecordFile file;
+
+    private long maximumMemorySize = 64 * 1024 * 1024;
+    private String persistentFileName;
+    private String spoolDirectory;
+    private boolean sync;
+    private long compactionThreshold = 1024 * 1024;
+    private boolean allowSerializedHeaders;
+    private long recoveryInterval = 5000;
+    private boolean useRecovery = true;
+    private int maximumRedeliveries;
+    private String deadLetterUri;
+
+    public OffHeapAggregationRepository() {
+    }
+
+    /**
+     * Creates an aggregation repository which stores the exchanges in the persistent file,
+     * so they survive a restart.
+     *
+     * @param persistentFileName the persistent file name
+     */
+    public OffHeapAggregationRepository(String persistentFileName) {
+        this.persistentFileName = persistentFileName;
+    }
+
+    @Override
+    public Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        log.trace("Adding key [{}] -> {}", key, exchange);
+        byte[] old = store(aggregated, TYPE_AGGREGATED, key, marshal(exchange), true);
+        return old != null ? unmarshal(camelContext, old) : null;
+    }
+
+    @Override
+    public Exchange get(CamelContext camelContext, String key) {
+        byte[] data = load(aggregated, key);
+        Exchange answer = data != null ? unmarshal(camelContext, data) : null;
+        log.trace("Getting key [{}] -> {}", key, answer);
+        return answer;
+    }
+
+    @Override
+    public void remove(CamelContext camelContext, String key, Exchange exchange) {
+        log.trace("Removing key [{}]", key);
+        fileLock.readLock().lock();
+        try {
+            Entry entry = aggregated.remove(key);
+            if (entry != null) {
+                release(entry);
+            }
+        } finally {
+            fileLock.readLock().unlock();
+        }
+        // keep the exchange as completed until its confirmed, so it can be recovered
+        store(completed, TYPE_COMPLETED, exchange.getExchangeId(), marshal(exchange), false);
+        compactIfNeeded();
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        log.trace("Confirming exchangeId [{}]", exchangeId);
+        fileLock.readLock().lock();
+        try {
+            Entry entry = completed.remove(exchangeId);
+            if (entry != null) {
+                release(entry);
+            }
+        } finally {
+            fileLock.readLock().unlock();
+        }
+        compactIfNeeded();
+    }
+
+    @Override
+    public Set<String> getKeys() {
+        // do not allow edits to the set
+        return Collections.unmodifiableSet(new LinkedHashSet<>(aggregated.keySet()));
+    }
+
+    @Override
+    public Set<String> scan(CamelContext camelContext) {
+        Set<String> answer = new LinkedHashSet<>(completed.keySet());
+        if (answer.isEmpty()) {
+            log.trace("Scanned and found no exchange to recover.");
+        } else {
+            log.debug("Scanned and found {} exchange(s) to recover (note some of them may already be in progress).", answer.size());
+        }
+        return answer;
+    }
+
+    @Override
+    public Exchange recover(CamelContext camelContext, String exchangeId) {
+        byte[] data = load(completed, exchangeId);
+        Exchange answer = data != null ? unmarshal(camelContext, data) : null;
+        log.debug("Recovering exchangeId [{}] -> {}", exchangeId, answer);
+        return answer;
+    }
+
+    /**
+     * Number of bytes of direct memory currently used for storing exchanges
+     */
+    public long getMemoryUsed() {
+        return memory != null ? memory.getUsed() : 0;
+    }
+
+    /**
+     * Number of bytes of the file currently used for storing exchanges, which includes all the exchanges
+     * when using a persistent file, otherwise only the exchanges which have been spilled to the file.
+     */
+    public long getFileUsed() {
+        RecordFile current = file;
+        return current != null ? current.liveBytes : 0;
+    }
+
+    public long getMaximumMemorySize() {
+        return maximumMemorySize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of direct memory to use for storing exchanges, before the
+     * exchanges are spilled to a file. Setting this to 0 stores all the exchanges in the file.
+     * <p/>
+     * The default value is 64mb.
+     */
+    public void setMaximumMemorySize(long maximumMemorySize) {
+        this.maximumMemorySize = maximumMemorySize;
+    }
+
+    public String getPersistentFileName() {
+        return persistentFileName;
+    }
+
+    /**
+     * Sets the name of the file which all the exchanges are written to, so they survive a restart.
+     * <p/>
+     * If no file name is configured, then the exchanges are only spilled to a temporary file when the
+     * maximum memory size has been reached, which is deleted when the repository is stopped.
+     */
+    public void setPersistentFileName(String persistentFileName) {
+        this.persistentFileName = persistentFileName;
+    }
+
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    /**
+     * Sets the directory to use for the temporary spill file, when not using a persistent file.
+     * <p/>
+     * Is by default the temporary directory of the JVM.
+     */
+    public void setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to force the changes to the persistent file to the disk before returning.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the number of bytes of removed exchanges in the file, before the file is compacted.
+     * The file is only compacted if there are more bytes of removed exchanges than stored exchanges.
+     * <p/>
+     * The default value is 1mb.
+     */
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public boolean isAllowSerializedHeaders() {
+        return allowSerializedHeaders;
+    }
+
+    public void setAllowSerializedHeaders(boolean allowSerializedHeaders) {
+        this.allowSerializedHeaders = allowSerializedHeaders;
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval, TimeUnit timeUnit) {
+        this.recoveryInterval = timeUnit.toMillis(interval);
+    }
+
+    @Override
+    public void setRecoveryInterval(long interval) {
+        this.recoveryInterval = interval;
+    }
+
+    @Override
+    public long getRecoveryIntervalInMillis() {
+        return recoveryInterval;
+    }
+
+    @Override
+    public boolean isUseRecovery() {
+        return useRecovery;
+    }
+
+    @Override
+    public void setUseRecovery(boolean useRecovery) {
+        this.useRecovery = useRecovery;
+    }
+
+    @Override
+    public int getMaximumRedeliveries() {
+        return maximumRedeliveries;
+    }
+
+    @Override
+    public void setMaximumRedeliveries(int maximumRedeliveries) {
+        this.maximumRedeliveries = maximumRedeliveries;
+    }
+
+    @Override
+    public String getDeadLetterUri() {
+        return deadLetterUri;
+    }
+
+    @Override
+    public void setDeadLetterUri(String deadLetterUri) {
+        this.deadLetterUri = deadLetterUri;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        memory = new OffHeapMemory(maximumMemorySize);
+        if (persistentFileName != null) {
+            File target = new File(persistentFileName);
+            boolean exists = target.exists();
+            file = new RecordFile(target, false);
+            if (exists) {
+                file.replay(this::onReplay);
+                log.info("On startup there are {} aggregate exchanges (not completed) and {} completed exchanges to be recovered in file: {}",
+                        aggregated.size(), completed.size(), persistentFileName);
+                compactIfNeeded();
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        fileLock.writeLock().lock();
+        try {
+            aggregated.clear();
+            completed.clear();
+            if (file != null) {
+                file.close();
+                file = null;
+            }
+            if (memory != null) {
+                memory.clear();
+                memory = null;
+            }
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    private void onReplay(byte type, String key, long position, int offset, int length) {
+        Entry entry = new Entry(null, position, offset, length);
+        if (type == TYPE_AGGREGATED) {
+            aggregated.put(key, entry);
+        } else {
+            completed.put(key, entry);
+        }
+    }
+
+    /**
+     * Stores the data for the key, and returns the data which was previously stored for the key
+     * (if requested to read it).
+     */
+    private byte[] store(ConcurrentMap<String, Entry> index, byte type, String key, byte[] data, boolean readOld) {
+        Entry old;
+        byte[] answer = null;
+        fileLock.readLock().lock();
+        try {
+            ByteBuffer block = memory.allocate(data.length);
+            if (block != null) {
+                block.duplicate().put(data);
+            }
+            long position = -1;
+            int offset = 0;
+            if (persistentFileName != null || block == null) {
+                // write through to the persistent file, or spill to the file as we are out of memory
+                byte[] k = key.getBytes(StandardCharsets.UTF_8);
+                position = getOrCreateFile().append(type, k, data, sync);
+                offset = RecordFile.HEADER_SIZE + k.length;
+            }
+            old = index.put(key, new Entry(block, position, offset, data.length));
+            if (old != null) {
+                try {
+                    if (readOld) {
+                        answer = read(old);
+                    }
+                } finally {
+                    release(old);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error storing key " + key + " in file", e);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+        if (old != null) {
+            compactIfNeeded();
+        }
+        return answer;
+    }
+
+    private byte[] load(ConcurrentMap<String, Entry> index, String key) {
+        fileLock.readLock().lock();
+        try {
+            while (true) {
+                Entry entry = index.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                byte[] data = read(entry);
+                // the entry may have been replaced and its memory reused while reading
+                if (index.get(key) == entry) {
+                    return data;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error loading key " + key + " from file", e);
+        } finally {
+            fileLock.readLock().unlock();
+        }
+    }
+
+    private byte[] read(Entry entry) throws IOException {
+        byte[] data = new byte[entry.length];
+        if (entry.block != null) {
+            entry.block.duplicate().get(data);
+        } else {
+            file.read(entry.position + entry.offset, data);
+        }
+        return data;
+    }
+
+    private void release(Entry entry) {
+        if (entry.block != null) {
+            memory.free(entry.block);
+        }
+        if (entry.position >= 0) {
+            try {
+                file.remove(entry.position);
+            } catch (IOException e) {
+                throw new RuntimeCamelException("Error removing from file", e);
+            }
+        }
+    }
+
+    private RecordFile getOrCreateFile() throws IOException {
+        RecordFile answer = file;
+        if (answer == null) {
+            synchronized (this) {
+                answer = file;
+                if (answer == null) {
+                    File dir = new File(spoolDirectory != null ? spoolDirectory : System.getProperty("java.io.tmpdir"));
+                    dir.mkdirs();
+                    File spool = File.createTempFile("camel-aggregation-", ".spool", dir);
+                    log.debug("Spilling exchanges to file: {}", spool);
+                    answer = new RecordFile(spool, true);
+                    file = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Truncates the file if all the exchanges have been removed, or compacts the file if the removed exchanges
+     * takes up more space than the stored exchanges.
+     * <p/>
+     * This is done while holding the write lock, so the file is not changed while exchanges are being read from it.
+     */
+    private void compactIfNeeded() {
+        if (!isCompactionNeeded(file)) {
+            return;
+        }
+        fileLock.writeLock().lock();
+        try {
+            RecordFile current = file;
+            if (!isCompactionNeeded(current)) {
+                return;
+            }
+            if (current.liveBytes == 0) {
+                // nothing in use so start over
+                current.truncate();
+                return;
+            }
+            log.debug("Compacting file: {} with {} bytes in use and {} bytes removed", current.target, current.liveBytes, current.deadBytes);
+            File compacted = new File(current.target.getPath() + ".compact");
+            RecordFile next = new RecordFile(compacted, current.temporary);
+            // the new positions are only used when the compacted file has replaced the current file
+            Map<String, Entry> movedAggregated = new HashMap<>();
+            Map<String, Entry> movedCompleted = new HashMap<>();
+            try {
+                compactInto(aggregated, TYPE_AGGREGATED, current, next, movedAggregated);
+                compactInto(completed, TYPE_COMPLETED, current, next, movedCompleted);
+                next.channel.force(false);
+            } catch (IOException e) {
+                // keep using the current file
+                next.close();
+                FileUtil.deleteFile(compacted);
+                throw new RuntimeCamelException("Error compacting file " + current.target, e);
+            }
+            next.closeChannel();
+            current.closeChannel();
+            if (!FileUtil.renameFile(compacted, current.target, true)) {
+                // keep using the current file which has not been changed
+                FileUtil.deleteFile(compacted);
+                file = current.reopen(current.target);
+                log.warn("Cannot rename compacted file {} to {}. The file is not compacted.", compacted, current.target);
+                return;
+            }
+            file = next.reopen(current.target);
+            aggregated.putAll(movedAggregated);
+            completed.putAll(movedCompleted);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error compacting file", e);
+        } finally {
+            fileLock.writeLock().unlock();
+        }
+    }
+
+    private boolean isCompactionNeeded(RecordFile current) {
+        return current != null && current.deadBytes > 0
+                && (current.liveBytes == 0 || current.deadBytes >= compactionThreshold && current.deadBytes >= current.liveBytes);
+    }
+
+    private void compactInto(ConcurrentMap<String, Entry> index, byte type, RecordFile from, RecordFile to,
+                             Map<String, Entry> moved) throws IOException {
+        for (Map.Entry<String, Entry> e : index.entrySet()) {
+            Entry entry = e.getValue();
+            if (entry.position >= 0) {
+                byte[] data = new byte[entry.length];
+                from.read(entry.position + entry.offset, data);
+                byte[] k = e.getKey().getBytes(StandardCharsets.UTF_8);
+                long position = to.append(type, k, data, false);
+                moved.put(e.getKey(), new Entry(entry.block, position, entry.offset, entry.length));
+            }
+        }
+    }
+
+    private byte[] marshal(Exchange exchange) {
+        // use DefaultExchangeHolder to marshal to a serialized object
+        DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
+        // add the aggregation related properties as the only properties we want to retain
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_SIZE, exchange.getProperty(Exchange.AGGREGATED_SIZE, Integer.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_TIMEOUT, exchange.getProperty(Exchange.AGGREGATED_TIMEOUT, Long.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COMPLETED_BY, exchange.getProperty(Exchange.AGGREGATED_COMPLETED_BY, String.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_CORRELATION_KEY, exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, String.class));
+        DefaultExchangeHolder.addProperty(pe, Exchange.AGGREGATED_COLLECTION_GUARD, exchange.getProperty(Exchange.AGGREGATED_COLLECTION_GUARD, String.class));
+        if (exchange.getFromEndpoint() != null) {
+            DefaultExchangeHolder.addProperty(pe, FROM_ENDPOINT, exchange.getFromEndpoint().getEndpointUri());
+        }
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(pe);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error marshalling exchange " + exchange.getExchangeId(), e);
+        }
+        return bos.toByteArray();
+    }
+
+    private Exchange unmarshal(CamelContext camelContext, byte[] data) {
+        DefaultExchangeHolder pe;
+        try (ObjectInputStream ois = new CamelObjectInputStream(new ByteArrayInputStream(data), camelContext)) {
+            pe = (DefaultExchangeHolder) ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error unmarshalling exchange", e);
+        }
+        Exchange answer = new DefaultExchange(camelContext);
+        DefaultExchangeHolder.unmarshal(answer, pe);
+        // restore the from endpoint
+        String fromEndpointUri = (String) answer.removeProperty(FROM_ENDPOINT);
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.setFromEndpoint(fromEndpoint);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The on-heap index entry of a stored exchange, which is either in direct memory, in the file, or both.
+     */
+    private static final class Entry {
+        private final ByteBuffer block;
+        // the position of the record in the file, and the offset of the data in the record
+        private final long position;
+        private final int offset;
+        private final int length;
+
+        private Entry(ByteBuffer block, long position, int offset, int length) {
+            this.block = block;
+            this.position = position;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Allocates blocks of direct memory in power of two sizes from larger chunks, and reuses the freed blocks.
+     */
+    private static final class OffHeapMemory {
+        private static final int MIN_BLOCK_SHIFT = 6;
+        private static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+        private final long maximumSize;
+        private final int chunkSize;
+        private final ArrayDeque<ByteBuffer>[] free;
+        private ByteBuffer chunk;
+        private long allocated;
+        private long used;
+
+        @SuppressWarnings("unchecked")
+        private OffHeapMemory(long maximumSize) {
+            this.maximumSize = maximumSize;
+            this.chunkSize = (int) Math.min(MAX_CHUNK_SIZE, Long.highestOneBit(Math.max(0, maximumSize)));
+            this.free = new ArrayDeque[Integer.SIZE];
+        }
+
+        synchronized ByteBuffer allocate(int size) {
+            if (size > chunkSize) {
+                return null;
+            }
+            int shift = Math.max(MIN_BLOCK_SHIFT, Integer.SIZE - Integer.numberOfLeadingZeros(size - 1));
+            int blockSize = 1 << shift;
+            if (blockSize > chunkSize) {
+                return null;
+            }
+            ByteBuffer answer;
+            ArrayDeque<ByteBuffer> blocks = free[shift];
+            if (blocks != null && !blocks.isEmpty()) {
+                answer = blocks.pop();
+            } else {
+                if (chunk == null || chunk.remaining() < blockSize) {
+                    if (allocated + chunkSize > maximumSize) {
+                        return null;
+                    }
+                    chunk = ByteBuffer.allocateDirect(chunkSize);
+                    allocated += chunkSize;
+                }
+                chunk.limit(chunk.position() + blockSize);
+                answer = chunk.slice();
+                chunk.position(chunk.limit());
+                chunk.limit(chunk.capacity());
+            }
+            used += blockSize;
+            return answer;
+        }
+
+        synchronized void free(ByteBuffer block) {
+            int shift = Integer.numberOfTrailingZeros(block.capacity());
+            if (free[shift] == null) {
+                free[shift] = new ArrayDeque<>();
+            }
+            free[shift].push(block);
+            used -= block.capacity();
+        }
+
+        synchronized long getUsed() {
+            return used;
+        }
+
+        synchronized void clear() {
+            // the direct memory is released when the buffers are garbage collected
+            for (int i = 0; i < free.length; i++) {
+                free[i] = null;
+            }
+            chunk = null;
+            allocated = 0;
+            used = 0;
+        }
+    }
+
+    /**
+     * A file of records which is appended to, where each record is marked as removed in the file when it has been removed.
+     * <p/>
+     * A record consists of the record length, type, whether the record is removed, the key and the data.
+     */
+    private static final class RecordFile {
+        private static final int HEADER_SIZE = 10;
+
+        private final boolean temporary;
+        private final RandomAccessFile raf;
+        private final FileChannel channel;
+        private final File target;
+        private long size;
+        private volatile long liveBytes;
+        private volatile long deadBytes;
+
+        private RecordFile(File target, boolean temporary) throws IOException {
+            this.target = target;
+            this.temporary = temporary;
+            File parent = target.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            this.raf = new RandomAccessFile(target, "rw");
+            this.channel = raf.getChannel();
+            if (temporary) {
+                target.deleteOnExit();
+            }
+        }
+
+        /**
+         * Appends the record and returns the position of the record
+         */
+        synchronized long append(byte type, byte[] k, byte[] data, boolean sync) throws IOException {
+            int length = HEADER_SIZE + k.length + data.length;
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            buffer.putInt(length - 4);
+            buffer.put(type);
+            buffer.put((byte) 1);
+            buffer.putInt(k.length);
+            buffer.put(k);
+            buffer.put(data);
+            buffer.flip();
+            long start = size;
+            write(buffer, start);
+            if (sync) {
+                channel.force(false);
+            }
+            size += length;
+            liveBytes += length;
+            return start;
+        }
+
+        void read(long position, byte[] data) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                int n = channel.read(buffer, position + buffer.position());
+                if (n < 0) {
+                    throw new EOFException("Unexpected end of file " + target);
+                }
+            }
+        }
+
+        /**
+         * Marks the record at the given position as removed
+         */
+        synchronized void remove(long position) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(4);
+            readFully(buffer, position);
+            int length = buffer.getInt(0) + 4;
+            write(ByteBuffer.wrap(new byte[]{0}), position + 5);
+            liveBytes -= length;
+            deadBytes += length;
+        }
+
+        /**
+         * Removes all the records from the file
+         */
+        synchronized void truncate() throws IOException {
+            channel.truncate(0);
+            size = 0;
+            liveBytes = 0;
+            deadBytes = 0;
+        }
+
+        /**
+         * Reads the records that are not removed, and truncates the file after the last complete record
+         */
+        synchronized void replay(ReplayCallback callback) throws IOException {
+            long position = 0;
+            long end = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (position + HEADER_SIZE <= end) {
+                header.clear();
+                readFully(header, position);
+                int length = header.getInt(0) + 4;
+                byte type = header.get(4);
+                boolean live = header.get(5) == 1;
+                int keyLength = header.getInt(6);
+                if (length < HEADER_SIZE + keyLength || position + length > end) {
+                    // incomplete record, for example if we crashed while writing it
+                    break;
+                }
+                if (live) {
+                    byte[] k = new byte[keyLength];
+                    readFully(ByteBuffer.wrap(k), position + HEADER_SIZE);
+                    int offset = HEADER_SIZE + keyLength;
+                    callback.onRecord(type, new String(k, StandardCharsets.UTF_8), position, offset, length - offset);
+                    liveBytes += length;
+                } else {
+                    deadBytes += length;
+                }
+                position += length;
+            }
+            if (position < end) {
+                channel.truncate(position);
+            }
+            size = position;
+        }
+
+        /**
+         * Opens the given file, which has the same records as this file, after this file has been closed
+         */
+        RecordFile reopen(File file) throws IOException {
+            RecordFile answer = new RecordFile(file, temporary);
+            answer.size = size;
+            answer.liveBytes = liveBytes;
+            answer.deadBytes = deadBytes;
+            return answer;
+        }
+
+        void closeChannel() {
+            IOHelper.close(channel, raf);
+        }
+
+        void close() {
+            closeChannel();
+            if (temporary) {
+                FileUtil.deleteFile(target);
+            }
+        }
+
+        private void write(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of file " + target);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReplayCallback {
+        void onRecord(byte type, String key, long position, int offset, int length);
+    }
+
+}
@@ -79,6 +79,8 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
     @XmlAttribute
     private Boolean optimisticLocking;
     @XmlAttribute
+    private Integer lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -100,6 +102,8 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
     @Metadata(defaultValue = "1000")
     private Long completionTimeoutCheckerInterval = 1000L;
     @XmlAttribute
+    private Boolean completionTimeoutUseTimingWheel;
+    @XmlAttribute
     private Boolean completionFromBatchConsumer;
     @XmlAttribute
     private Boolean completionOnNewCorrelationGroup;
@@ -346,6 +350,14 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public Boolean getCompletionTimeoutUseTimingWheel() {
+        return completionTimeoutUseTimingWheel;
+    }
+
+    public void setCompletionTimeoutUseTimingWheel(Boolean completionTimeoutUseTimingWheel) {
+        this.completionTimeoutUseTimingWheel = completionTimeoutUseTimingWheel;
+    }
+
     public ExpressionSubElementDefinition getCompletionPredicate() {
         return completionPredicate;
     }
@@ -433,6 +445,14 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
         this.optimisticLocking = optimisticLocking;
     }
 
+    public Integer getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(Integer lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public Boolean getParallelProcessing() {
         return parallelProcessing;
     }
@@ -768,6 +788,23 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
         return this;
     }
 
+    /**
+     * Whether the background task that checks for timeouts should keep track
+     * of the timeouts in a timing wheel, instead of checking all the
+     * aggregated exchanges every time it runs.
+     * <p/>
+     * This is recommended when there is a large number of aggregated
+     * exchanges in progress (such as hundreds of thousands), as the cost of
+     * checking for timeouts then does not depend on the number of aggregated
+     * exchanges.
+     *
+     * @return the builder
+     */
+    public AggregateDefinition completionTimeoutUseTimingWheel() {
+        setCompletionTimeoutUseTimingWheel(true);
+        return this;
+    }
+
     /**
      * Sets the AggregationStrategy to use with a fluent builder.
      */
@@ -1000,6 +1037,20 @@ public class AggregateDefinition extends ProcessorDefinition<AggregateDefinition
         return this;
     }
 
+    /**
+     * Sets the number of locks to use (lock striping), which allows exchanges
+     * with different correlation keys to be aggregated in parallel. The
+     * correlation key determines which lock to use. By default a single lock
+     * is used. The aggregationRepository being used must support being
+     * accessed concurrently for different correlation keys. Lock striping is
+     * not in use together with optimisticLocking, completionFromBatchConsumer
+     * or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
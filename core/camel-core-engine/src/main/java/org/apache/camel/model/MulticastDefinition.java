@@ -57,6 +57,9 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
     @XmlAttribute
     @Metadata(defaultValue = "0")
     private Long timeout;
+    @XmlAttribute
+    @Metadata(defaultValue = "0")
+    private Integer maxInflight;
     @XmlTransient
     private AggregationStrategy aggregationStrategy;
     @XmlAttribute
@@ -353,6 +356,24 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
         return this;
     }
 
+    /**
+     * Sets the maximum number of sub messages which can be in progress at the
+     * same time, when using parallel processing. A sub message is in progress
+     * from when it is created until its reply has been aggregated. When the
+     * limit is reached, the Multicast pauses creating the sub messages
+     * until replies has been aggregated. This can be used to keep the memory
+     * usage bounded when processing large messages, instead of creating
+     * the sub messages as fast as possible, which are then queued by the thread pool.
+     * The default value is 0 which means unbounded.
+     *
+     * @param maxInflight the maximum number of sub messages in progress
+     * @return the builder
+     */
+    public MulticastDefinition maxInflight(int maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and
      * each of the sub messages. Multicast will by default not share unit of
@@ -472,6 +493,24 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
         this.timeout = timeout;
     }
 
+    public Integer getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub messages which can be in progress at the
+     * same time, when using parallel processing. A sub message is in progress
+     * from when it is created until its reply has been aggregated. When the
+     * limit is reached, the Multicast pauses creating the sub messages
+     * until replies has been aggregated. This can be used to keep the memory
+     * usage bounded when processing large messages, instead of creating
+     * the sub messages as fast as possible, which are then queued by the thread pool.
+     * The default value is 0 which means unbounded.
+     */
+    public void setMaxInflight(Integer maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getOnPrepareRef() {
         return onPrepareRef;
     }
@@ -0,0 +1,457 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExpressionFactory;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.ErrorHandlerBuilderRef;
+import org.apache.camel.builder.ExpressionClause;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.SimpleBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.language.ExpressionDefinition;
+import org.apache.camel.model.language.SimpleExpression;
+import org.apache.camel.reifier.errorhandler.ErrorHandlerReifier;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Generates the Java source code of a {@link RoutesBuilder} which creates a snapshot of the given route definitions.
+ * <p/>
+ * This is used at build time to avoid parsing the XML routes (using JAXB) or running the
+ * {@link RouteBuilder#configure()} methods when Camel is starting up, as the generated class creates the
+ * route definitions using plain Java code, which is fast to load. The route definitions are reified
+ * into the runtime processors when the routes are started, as usual.
+ * <p/>
+ * Only route definitions which are fully defined by the model can be snapshotted, i.e. routes which refers to
+ * java objects such as a custom {@link org.apache.camel.Processor}, a bean instance, or a Java DSL expression
+ * (other than the simple language) cannot be snapshotted, as these objects cannot be created by the generated code.
+ * In these cases an {@link IllegalArgumentException} is thrown with details about which option cannot be snapshotted.
+ */
+public final class RoutesSnapshotGenerator {
+
+    private static final String MODEL_PACKAGE = "org.apache.camel.model.";
+
+    private final StringBuilder code = new StringBuilder();
+    private final Map<Object, String> ancestors = new IdentityHashMap<>();
+    private String routeId;
+    private String nodeId;
+    private int counter;
+
+    private RoutesSnapshotGenerator() {
+    }
+
+    /**
+     * Generates the source code of the snapshot of the routes from the given XML resources and route builder classes.
+     *
+     * @param className           the fully qualified name of the class to generate
+     * @param xmlResources        the XML resources with routes to load, such as <tt>classpath:routes.xml</tt>
+     * @param routeBuilderClasses the fully qualified names of the {@link RouteBuilder} classes to load
+     * @return the source code
+     * @throws Exception is thrown if error loading the routes, or the routes cannot be snapshotted
+     */
+    public static String generate(String className, List<String> xmlResources, List<String> routeBuilderClasses) throws Exception {
+        List<RouteDefinition> routes = new ArrayList<>();
+        CamelContext context = new DefaultCamelContext();
+        try {
+            // refer to the default error handler, as the routes should use the error handler of the runtime context
+            context.adapt(ExtendedCamelContext.class).setErrorHandlerFactory(new ErrorHandlerBuilderRef(ErrorHandlerReifier.DEFAULT_ERROR_HANDLER_BUILDER));
+            if (xmlResources != null) {
+                for (String uri : xmlResources) {
+                    InputStream is = ResourceHelper.resolveMandatoryResourceAsInputStream(context, uri);
+                    try {
+                        routes.addAll(ModelHelper.loadRoutesDefinition(context, is).getRoutes());
+                    } finally {
+                        IOHelper.close(is);
+                    }
+                }
+            }
+            if (routeBuilderClasses != null) {
+                for (String name : routeBuilderClasses) {
+                    Class<?> type = context.getClassResolver().resolveMandatoryClass(name);
+                    Object builder = context.getInjector().newInstance(type);
+                    if (!(builder instanceof RouteBuilder)) {
+                        throw new IllegalArgumentException("Class " + name + " is not a RouteBuilder class");
+                    }
+                    RouteBuilder routeBuilder = (RouteBuilder) builder;
+                    routes.addAll(routeBuilder.configureRoutes(context).getRoutes());
+                    if (!routeBuilder.configureRests(context).getRests().isEmpty()) {
+                        throw new IllegalArgumentException("Cannot snapshot the rest-dsl in RouteBuilder class " + name);
+                    }
+                }
+            }
+        } finally {
+            context.stop();
+        }
+        return generate(className, routes);
+    }
+
+    /**
+     * Generates the source code of the snapshot of the given routes.
+     *
+     * @param className the fully qualified name of the class to generate
+     * @param routes    the routes
+     * @return the source code
+     * @throws IllegalArgumentException is thrown if the routes cannot be snapshotted
+     */
+    public static String generate(String className, List<RouteDefinition> routes) {
+        ObjectHelper.notNull(className, "className");
+        return new RoutesSnapshotGenerator().doGenerate(className, routes);
+    }
+
+    private String doGenerate(String className, List<RouteDefinition> routes) {
+        int pos = className.lastIndexOf('.');
+        String packageName = pos > 0 ? className.substring(0, pos) : null;
+        String simpleName = className.substring(pos + 1);
+
+        code.append("/* Generated by camel routes snapshot - do not edit this file! */\n");
+        if (packageName != null) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        code.append("public final class ").append(simpleName).append(" implements org.apache.camel.RoutesBuilder {\n\n");
+        code.append("    @Override\n");
+        code.append("    public void addRoutesToCamelContext(org.apache.camel.CamelContext context) throws Exception {\n");
+        code.append("        context.getExtension(org.apache.camel.model.Model.class).addRouteDefinitions(createRouteDefinitions());\n");
+        code.append("    }\n\n");
+        code.append("    public static java.util.List<org.apache.camel.model.RouteDefinition> createRouteDefinitions() {\n");
+        code.append("        java.util.List<org.apache.camel.model.RouteDefinition> answer = new java.util.ArrayList<>(")
+            .append(routes.size()).append(");\n");
+        for (int i = 0; i < routes.size(); i++) {
+            code.append("        answer.add(route").append(i).append("());\n");
+        }
+        code.append("        return answer;\n");
+        code.append("    }\n");
+
+        // use a method per route to keep the size of the methods down
+        for (int i = 0; i < routes.size(); i++) {
+            RouteDefinition route = routes.get(i);
+            routeId = route.getId();
+            nodeId = routeId;
+            counter = 0;
+            code.append("\n    private static org.apache.camel.model.RouteDefinition route").append(i).append("() {\n");
+            String name = writeValue(route, "route");
+            code.append("        return ").append(name).append(";\n");
+            code.append("    }\n");
+        }
+        code.append("}\n");
+        return code.toString();
+    }
+
+    private String writeValue(Object value, String option) {
+        if (value == null) {
+            return "null";
+        } else if (value instanceof String) {
+            return quote((String) value);
+        } else if (value instanceof Boolean) {
+            return "java.lang.Boolean." + (((Boolean) value) ? "TRUE" : "FALSE");
+        } else if (value instanceof Integer) {
+            return "java.lang.Integer.valueOf(" + value + ")";
+        } else if (value instanceof Long) {
+            return "java.lang.Long.valueOf(" + value + "L)";
+        } else if (value instanceof Short) {
+            return "java.lang.Short.valueOf((short) " + value + ")";
+        } else if (value instanceof Byte) {
+            return "java.lang.Byte.valueOf((byte) " + value + ")";
+        } else if (value instanceof Double || value instanceof Float) {
+            return value.getClass().getName() + ".valueOf(\"" + value + "\")";
+        } else if (value instanceof Character) {
+            return "java.lang.Character.valueOf((char) " + (int) (Character) value + ")";
+        } else if (value instanceof Enum) {
+            Enum<?> e = (Enum<?>) value;
+            return typeName(e.getDeclaringClass(), option) + "." + e.name();
+        } else if (value instanceof Class) {
+            Class<?> type = (Class<?>) value;
+            return (type.isPrimitive() ? type.getName() : typeName(type, option)) + ".class";
+        } else if (value instanceof QName) {
+            QName name = (QName) value;
+            return "new javax.xml.namespace.QName(" + quote(name.getNamespaceURI()) + ", " + quote(name.getLocalPart())
+                + ", " + quote(name.getPrefix()) + ")";
+        } else if (value.getClass() == ErrorHandlerBuilderRef.class) {
+            return "new org.apache.camel.builder.ErrorHandlerBuilderRef(" + quote(((ErrorHandlerBuilderRef) value).getRef()) + ")";
+        } else if (ancestors.containsKey(value)) {
+            // a back reference such as the parent of an output
+            return ancestors.get(value);
+        } else if (value instanceof List || value instanceof Set) {
+            String name = declare(value instanceof List ? "java.util.List" : "java.util.Set",
+                value instanceof List ? "java.util.ArrayList" : "java.util.LinkedHashSet");
+            for (Object element : (Collection<?>) value) {
+                statement(name + ".add(" + writeValue(element, option) + ")");
+            }
+            return name;
+        } else if (value instanceof Map) {
+            String name = declare("java.util.Map", "java.util.LinkedHashMap");
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                statement(name + ".put(" + writeValue(entry.getKey(), option) + ", " + writeValue(entry.getValue(), option) + ")");
+            }
+            return name;
+        } else if (value.getClass() == ExpressionDefinition.class) {
+            Object expression = resolveExpression((ExpressionDefinition) value);
+            if (expression != value) {
+                return writeValue(expression, option);
+            }
+        }
+        if (!value.getClass().getName().startsWith(MODEL_PACKAGE)) {
+            throw cannotSnapshot(option, value);
+        }
+        return writeDefinition(value);
+    }
+
+    private String writeDefinition(Object definition) {
+        Class<?> type = definition.getClass();
+        String typeName = typeName(type, null);
+        Object defaults;
+        try {
+            Constructor<?> constructor = type.getConstructor();
+            if (Modifier.isAbstract(type.getModifiers())) {
+                throw new IllegalArgumentException("Cannot snapshot " + type.getName() + " as it is abstract");
+            }
+            defaults = constructor.newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Cannot snapshot " + type.getName() + " as it has no public default constructor", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot snapshot " + type.getName() + " due " + e.getMessage(), e);
+        }
+
+        String previousNodeId = nodeId;
+        if (definition instanceof OptionalIdentifiedDefinition && ((OptionalIdentifiedDefinition<?>) definition).getId() != null) {
+            nodeId = ((OptionalIdentifiedDefinition<?>) definition).getId();
+        }
+
+        String name = declare(typeName, typeName);
+        ancestors.put(definition, name);
+        try {
+            List<String> written = new ArrayList<>();
+            for (PropertyDescriptor pd : properties(type)) {
+                Method read = pd.getReadMethod();
+                Method write = pd.getWriteMethod();
+                if (read == null || write == null) {
+                    continue;
+                }
+                written.add(pd.getName());
+                Object value = invoke(read, definition);
+                if (isDefault(definition, pd.getName(), value, invoke(read, defaults))) {
+                    continue;
+                }
+                String expression = writeValue(value, pd.getName());
+                Class<?> parameterType = write.getParameterTypes()[0];
+                if (!parameterType.isPrimitive() && (value == null || parameterType != value.getClass())) {
+                    // cast to select the setter in case it is overloaded
+                    expression = "(" + typeName(parameterType, pd.getName()) + ") " + expression;
+                }
+                statement(name + "." + write.getName() + "(" + expression + ")");
+            }
+            writeFields(definition, defaults, name, written);
+        } finally {
+            ancestors.remove(definition);
+            nodeId = previousNodeId;
+        }
+        return name;
+    }
+
+    /**
+     * Writes the state which is held in fields that are not covered by the properties
+     */
+    private void writeFields(Object definition, Object defaults, String name, List<String> written) {
+        for (Class<?> clazz = definition.getClass(); clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) || written.contains(field.getName())) {
+                    // transient fields are only used while building the routes using the java dsl
+                    continue;
+                }
+                field.setAccessible(true);
+                Object value;
+                Object defaultValue;
+                try {
+                    value = field.get(definition);
+                    defaultValue = field.get(defaults);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException("Cannot snapshot " + clazz.getName() + "." + field.getName(), e);
+                }
+                if (definition instanceof ProcessorDefinition && "blocks".equals(field.getName())) {
+                    // the blocks are only used while building the routes using the java dsl
+                    continue;
+                } else if (definition instanceof ProcessorDefinition && "index".equals(field.getName())) {
+                    // the index is assigned when the definition is created by the snapshot
+                    continue;
+                } else if (definition instanceof RouteDefinition && "prepared".equals(field.getName())) {
+                    if (((RouteDefinition) definition).isPrepared()) {
+                        statement(name + ".markPrepared()");
+                    }
+                } else if (definition instanceof RouteDefinition && "contextScopedErrorHandler".equals(field.getName())) {
+                    if (!((RouteDefinition) definition).isContextScopedErrorHandler()) {
+                        // setting the error handler marks it as route scoped
+                        statement(name + ".errorHandler(" + name + ".getErrorHandlerFactory())");
+                    }
+                } else if (definition instanceof TryDefinition && "initialized".equals(field.getName())) {
+                    // the catch and finally clauses are initialized from the outputs on demand
+                    continue;
+                } else if (value instanceof Collection && field.getType().isAssignableFrom(List.class)
+                        && Modifier.isFinal(field.getModifiers())) {
+                    // a live list which can only be accessed from its getter
+                    String getter = "get" + Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+                    for (Object element : (Collection<?>) value) {
+                        statement(name + "." + getter + "().add(" + writeValue(element, field.getName()) + ")");
+                    }
+                } else if (definition instanceof ExpressionDefinition && value instanceof SimpleBuilder
+                        && ((SimpleBuilder) value).getText().equals(((ExpressionDefinition) definition).getExpression())) {
+                    // the java dsl keeps the simple builder, however it can be created again from the expression text
+                    continue;
+                } else if (value != null && !Objects.equals(value, defaultValue) && !isEmpty(value)) {
+                    throw cannotSnapshot(field.getName(), value);
+                }
+            }
+        }
+    }
+
+    private boolean isDefault(Object definition, String name, Object value, Object defaultValue) {
+        if ("customId".equals(name) && definition instanceof OptionalIdentifiedDefinition
+                && ((OptionalIdentifiedDefinition<?>) definition).getId() != null) {
+            // setting the id marks it as custom so we must write the actual value
+            return Boolean.TRUE.equals(value);
+        }
+        if (value instanceof ErrorHandlerBuilderRef && defaultValue instanceof ErrorHandlerBuilderRef) {
+            return Objects.equals(((ErrorHandlerBuilderRef) value).getRef(), ((ErrorHandlerBuilderRef) defaultValue).getRef());
+        }
+        return Objects.equals(value, defaultValue);
+    }
+
+    /**
+     * Resolves the model of an expression which is defined using the Java DSL
+     */
+    private static Object resolveExpression(ExpressionDefinition expression) {
+        if (expression.getExpressionType() != null) {
+            return expression.getExpressionType();
+        }
+        Object value = expression.getPredicate() != null ? expression.getPredicate() : expression.getExpressionValue();
+        if (value instanceof ExpressionClause) {
+            ExpressionFactory factory = ((ExpressionClause<?>) value).getExpressionType();
+            if (factory instanceof ExpressionDefinition) {
+                return factory;
+            }
+        } else if (value instanceof SimpleBuilder) {
+            SimpleBuilder builder = (SimpleBuilder) value;
+            SimpleExpression answer = new SimpleExpression(builder.getText());
+            answer.setResultType(builder.getResultType());
+            return answer;
+        }
+        return expression;
+    }
+
+    private static List<PropertyDescriptor> properties(Class<?> type) {
+        BeanInfo info;
+        try {
+            info = Introspector.getBeanInfo(type, Object.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot introspect " + type.getName(), e);
+        }
+        List<PropertyDescriptor> answer = new ArrayList<>(Arrays.asList(info.getPropertyDescriptors()));
+        // the custom id must be set after the id, as setting the id marks it as custom
+        answer.sort((a, b) -> Boolean.compare("customId".equals(a.getName()), "customId".equals(b.getName())));
+        return answer;
+    }
+
+    private static Object invoke(Method method, Object target) {
+        try {
+            return method.invoke(target);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot snapshot " + target.getClass().getName() + "." + method.getName(), e);
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        return (value instanceof Collection && ((Collection<?>) value).isEmpty()) || (value instanceof Map && ((Map<?, ?>) value).isEmpty());
+    }
+
+    private String typeName(Class<?> type, String option) {
+        if (!Modifier.isPublic(type.getModifiers()) || type.getCanonicalName() == null) {
+            throw new IllegalArgumentException("Cannot snapshot option " + option + " on node " + nodeId + " in route " + routeId
+                + " as the type " + type.getName() + " is not a public class");
+        }
+        return type.getCanonicalName();
+    }
+
+    private IllegalArgumentException cannotSnapshot(String option, Object value) {
+        return new IllegalArgumentException("Cannot snapshot option " + option + " on node " + nodeId + " in route " + routeId
+            + " as the value of type " + value.getClass().getName() + " is not part of the route model: " + value);
+    }
+
+    private String declare(String type, String implementation) {
+        String name = "v" + counter++;
+        statement(type + " " + name + " = new " + implementation + "()");
+        return name;
+    }
+
+    private void statement(String statement) {
+        code.append("        ").append(statement).append(";\n");
+    }
+
+    private static String quote(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (ch < 0x20 || ch > 0x7e) {
+                    sb.append(String.format("\\u%04x", (int) ch));
+                } else {
+                    sb.append(ch);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+}
@@ -60,6 +60,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(defaultValue = "0")
     private Long timeout;
     @XmlAttribute
+    @Metadata(defaultValue = "0")
+    private Integer maxInflight;
+    @XmlAttribute
     private String onPrepareRef;
     @XmlTransient
     private Processor onPrepare;
@@ -344,6 +347,24 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of sub messages which can be in progress at the
+     * same time, when using parallel processing. A sub message is in progress
+     * from when it is created until its reply has been aggregated. When the
+     * limit is reached, the Splitter pauses splitting the message in streaming mode
+     * until replies has been aggregated. This can be used to keep the memory
+     * usage bounded when processing large messages, instead of creating
+     * the sub messages as fast as possible, which are then queued by the thread pool.
+     * The default value is 0 which means unbounded.
+     *
+     * @param maxInflight the maximum number of sub messages in progress
+     * @return the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and
      * each of the sub messages. Splitter will by default not share unit of work
@@ -497,6 +518,24 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public Integer getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub messages which can be in progress at the
+     * same time, when using parallel processing. A sub message is in progress
+     * from when it is created until its reply has been aggregated. When the
+     * limit is reached, the Splitter pauses splitting the message in streaming mode
+     * until replies has been aggregated. This can be used to keep the memory
+     * usage bounded when processing large messages, instead of creating
+     * the sub messages as fast as possible, which are then queued by the thread pool.
+     * The default value is 0 which means unbounded.
+     */
+    public void setMaxInflight(Integer maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getOnPrepareRef() {
         return onPrepareRef;
     }
@@ -30,6 +30,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.builder.ExpressionBuilder;
 import org.apache.camel.model.language.ExpressionDefinition;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.ThrottlerRepository;
 
 /**
  * Controls the rate at which messages are passed to the next node in the route
@@ -56,6 +57,12 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     private Boolean callerRunsWhenRejected;
     @XmlAttribute
     private Boolean rejectExecution;
+    @XmlAttribute
+    private Boolean tokenBucket;
+    @XmlTransient
+    private ThrottlerRepository throttlerRepository;
+    @XmlAttribute
+    private String throttlerRepositoryRef;
 
     public ThrottleDefinition() {
     }
@@ -160,6 +167,47 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Whether to use a token bucket, which refills at a steady rate of the maximum requests per time period and allows
+     * bursts of up to the maximum requests, instead of allowing at most the maximum requests within any rolling window of
+     * the time period.
+     * <p/>
+     * The token bucket has no locks, and only holds a single value as state per correlation key, which makes it suitable
+     * for high throttle rates. The token bucket is always used when using a throttler repository.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket() {
+        setTokenBucket(true);
+        return this;
+    }
+
+    /**
+     * To use a repository to hold the state of the token bucket, which allows to enforce the throttle limit across
+     * a cluster of Camel applications which are using the same repository.
+     *
+     * @param throttlerRepository the repository
+     * @return the builder
+     */
+    public ThrottleDefinition throttlerRepository(ThrottlerRepository throttlerRepository) {
+        setThrottlerRepository(throttlerRepository);
+        return this;
+    }
+
+    /**
+     * To use a repository to hold the state of the token bucket, which allows to enforce the throttle limit across
+     * a cluster of Camel applications which are using the same repository.
+     *
+     * @param throttlerRepositoryRef reference to the repository to lookup in the registry
+     * @return the builder
+     */
+    public ThrottleDefinition throttlerRepositoryRef(String throttlerRepositoryRef) {
+        setThrottlerRepositoryRef(throttlerRepositoryRef);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -250,6 +298,30 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public Boolean getTokenBucket() {
+        return tokenBucket;
+    }
+
+    public void setTokenBucket(Boolean tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
+    public ThrottlerRepository getThrottlerRepository() {
+        return throttlerRepository;
+    }
+
+    public void setThrottlerRepository(ThrottlerRepository throttlerRepository) {
+        this.throttlerRepository = throttlerRepository;
+    }
+
+    public String getThrottlerRepositoryRef() {
+        return throttlerRepositoryRef;
+    }
+
+    public void setThrottlerRepositoryRef(String throttlerRepositoryRef) {
+        this.throttlerRepositoryRef = throttlerRepositoryRef;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle
      * grouping. The Exchange which has the same correlation key is throttled
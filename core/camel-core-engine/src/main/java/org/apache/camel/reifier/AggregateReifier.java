@@ -112,6 +112,9 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (definition.getOptimisticLocking() != null) {
             answer.setOptimisticLocking(definition.getOptimisticLocking());
         }
+        if (definition.getLockStripes() != null) {
+            answer.setLockStripes(definition.getLockStripes());
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = definition.getCompletionPredicate().createPredicate(routeContext);
             answer.setCompletionPredicate(predicate);
@@ -178,6 +181,9 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (definition.getCompletionTimeoutCheckerInterval() != null) {
             answer.setCompletionTimeoutCheckerInterval(definition.getCompletionTimeoutCheckerInterval());
         }
+        if (definition.getCompletionTimeoutUseTimingWheel() != null) {
+            answer.setCompletionTimeoutUseTimingWheel(definition.getCompletionTimeoutUseTimingWheel());
+        }
         return answer;
     }
 
@@ -25,7 +25,9 @@ import org.apache.camel.model.ProcessorDefinitionHelper;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.model.language.ExpressionDefinition;
 import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.TokenBucketThrottler;
 import org.apache.camel.spi.RouteContext;
+import org.apache.camel.spi.ThrottlerRepository;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
@@ -53,8 +55,21 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
             correlation = definition.getCorrelationExpression().createExpression(routeContext);
         }
 
+        ThrottlerRepository repository = definition.getThrottlerRepository();
+        if (repository == null && definition.getThrottlerRepositoryRef() != null) {
+            repository = routeContext.mandatoryLookup(definition.getThrottlerRepositoryRef(), ThrottlerRepository.class);
+        }
+        boolean tokenBucket = repository != null || (definition.getTokenBucket() != null && definition.getTokenBucket());
+
         boolean reject = definition.getRejectExecution() != null && definition.getRejectExecution();
-        Throttler answer = new Throttler(routeContext.getCamelContext(), maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        Throttler answer;
+        if (tokenBucket) {
+            TokenBucketThrottler throttler = new TokenBucketThrottler(routeContext.getCamelContext(), maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation, repository);
+            throttler.setRouteId(routeContext.getRouteId());
+            answer = throttler;
+        } else {
+            answer = new Throttler(routeContext.getCamelContext(), maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        }
 
         answer.setAsyncDelayed(async);
         if (definition.getCallerRunsWhenRejected() == null) {
@@ -16,12 +16,16 @@
  */
 package org.apache.camel.reifier.errorhandler;
 
+import java.util.List;
+
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.ErrorHandlerFactory;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.builder.NoErrorHandlerBuilder;
 import org.apache.camel.spi.RouteContext;
+import org.apache.camel.support.AsyncProcessorHelper;
 import org.apache.camel.support.processor.DelegateAsyncProcessor;
 
 public class NoErrorHandlerReifier extends ErrorHandlerReifier<NoErrorHandlerBuilder> {
@@ -32,26 +36,46 @@ public class NoErrorHandlerReifier extends ErrorHandlerReifier<NoErrorHandlerBui
 
     @Override
     public Processor createErrorHandler(RouteContext routeContext, Processor processor) throws Exception {
-        return new DelegateAsyncProcessor(processor) {
-            @Override
-            public boolean process(final Exchange exchange, final AsyncCallback callback) {
-                return super.process(exchange, new AsyncCallback() {
-                    @Override
-                    public void done(boolean doneSync) {
+        return new NoErrorHandler(processor);
+    }
+
+    private static final class NoErrorHandler extends DelegateAsyncProcessor implements BatchProcessor {
+
+        NoErrorHandler(Processor processor) {
+            super(processor);
+        }
+
+        @Override
+        public boolean process(final Exchange exchange, final AsyncCallback callback) {
+            return super.process(exchange, new AsyncCallback() {
+                @Override
+                public void done(boolean doneSync) {
+                    exchange.removeProperty(Exchange.REDELIVERY_EXHAUSTED);
+                    callback.done(doneSync);
+                }
+            });
+        }
+
+        @Override
+        public boolean processBatch(final List<Exchange> exchanges, final AsyncCallback callback) {
+            return AsyncProcessorHelper.processBatch(processor, exchanges, new AsyncCallback() {
+                @Override
+                public void done(boolean doneSync) {
+                    for (Exchange exchange : exchanges) {
                         exchange.removeProperty(Exchange.REDELIVERY_EXHAUSTED);
-                        callback.done(doneSync);
                     }
-                });
-            }
-
-            @Override
-            public String toString() {
-                if (processor == null) {
-                    // if no output then dont do any description
-                    return "";
+                    callback.done(doneSync);
                 }
-                return "NoErrorHandler[" + processor + "]";
+            });
+        }
+
+        @Override
+        public String toString() {
+            if (processor == null) {
+                // if no output then dont do any description
+                return "";
             }
-        };
+            return "NoErrorHandler[" + processor + "]";
+        }
     }
 }
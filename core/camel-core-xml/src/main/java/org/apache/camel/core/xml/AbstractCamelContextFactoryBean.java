@@ -593,6 +593,10 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         if (spoolCipher != null) {
             getContext().getStreamCachingStrategy().setSpoolCipher(spoolCipher);
         }
+        Boolean offHeap = CamelContextHelper.parseBoolean(getContext(), streamCaching.getOffHeap());
+        if (offHeap != null) {
+            getContext().getStreamCachingStrategy().setOffHeap(offHeap);
+        }
         Boolean remove = CamelContextHelper.parseBoolean(getContext(), streamCaching.getRemoveSpoolDirectoryWhenStopping());
         if (remove != null) {
             getContext().getStreamCachingStrategy().setRemoveSpoolDirectoryWhenStopping(remove);
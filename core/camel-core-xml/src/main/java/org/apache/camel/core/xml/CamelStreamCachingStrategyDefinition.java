@@ -48,6 +48,8 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     private String spoolRules;
     @XmlAttribute
     private String bufferSize;
+    @XmlAttribute @Metadata(defaultValue = "false")
+    private String offHeap;
     @XmlAttribute @Metadata(defaultValue = "true")
     private String removeSpoolDirectoryWhenStopping;
     @XmlAttribute
@@ -157,6 +159,20 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.bufferSize = bufferSize;
     }
 
+    public String getOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Sets whether to cache the streams off heap, using pooled direct buffers for in-memory stream caches,
+     * and memory mapped files for reading stream caches spooled to disk.
+     * <p/>
+     * This option is default <tt>false</tt>
+     */
+    public void setOffHeap(String offHeap) {
+        this.offHeap = offHeap;
+    }
+
     public String getRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
     }
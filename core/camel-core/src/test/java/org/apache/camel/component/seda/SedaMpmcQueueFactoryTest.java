@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class SedaMpmcQueueFactoryTest extends ContextTestSupport {
+    private final MpmcArrayBlockingQueueFactory<Exchange> mpmcQueueFactory = new MpmcArrayBlockingQueueFactory<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("mpmcQueueFactory", mpmcQueueFactory);
+        return context;
+    }
+
+    @Test
+    public void testMpmcQueueFactory() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:mpmcQueue?queueFactory=#mpmcQueueFactory", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        MpmcArrayBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(MpmcArrayBlockingQueue.class, queue);
+        assertEquals("remainingCapacity - default", SedaConstants.QUEUE_SIZE, blockingQueue.remainingCapacity());
+    }
+
+    @Test
+    public void testMpmcQueueFactoryAndSize() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:mpmcQueue100?queueFactory=#mpmcQueueFactory&size=100", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        MpmcArrayBlockingQueue<Exchange> blockingQueue = assertIsInstanceOf(MpmcArrayBlockingQueue.class, queue);
+        assertEquals("remainingCapacity - custom", 100, blockingQueue.remainingCapacity());
+    }
+
+    @Test
+    public void testQueue() throws Exception {
+        MpmcArrayBlockingQueue<String> queue = new MpmcArrayBlockingQueue<>(3);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertFalse(queue.offer("D"));
+        assertFalse(queue.offer("D", 10, TimeUnit.MILLISECONDS));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+
+        assertTrue(queue.remove("A"));
+        assertFalse(queue.remove("A"));
+        assertEquals("B", queue.peek());
+
+        List<String> list = new ArrayList<>();
+        queue.iterator().forEachRemaining(list::add);
+        assertEquals("[B, C]", list.toString());
+
+        // wraps around the ring
+        assertTrue(queue.offer("D"));
+        assertEquals("B", queue.poll());
+
+        list.clear();
+        assertEquals(2, queue.drainTo(list));
+        assertEquals("[C, D]", list.toString());
+        assertTrue(queue.isEmpty());
+        assertEquals(3, queue.remainingCapacity());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        final int threads = 4;
+        final int messages = 10000;
+        final MpmcArrayBlockingQueue<Long> queue = new MpmcArrayBlockingQueue<>(16);
+        final AtomicLong sum = new AtomicLong();
+        final CountDownLatch latch = new CountDownLatch(threads * messages);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    while (latch.getCount() > 0) {
+                        Long value = queue.poll(100, TimeUnit.MILLISECONDS);
+                        if (value != null) {
+                            sum.addAndGet(value);
+                            latch.countDown();
+                        }
+                    }
+                    return null;
+                });
+                executor.submit(() -> {
+                    for (long j = 1; j <= messages; j++) {
+                        queue.put(j);
+                    }
+                    return null;
+                });
+            }
+            assertTrue(latch.await(20, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * (long) messages * (messages + 1) / 2, sum.get());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("seda:start?queueFactory=#mpmcQueueFactory&size=50&blockWhenFull=true", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?queueFactory=#mpmcQueueFactory&size=50&concurrentConsumers=4")
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapCachedOutputStreamTest extends ContextTestSupport {
+
+    private static final String SMALL_STRING = "This is a small string which is kept in memory";
+    private static final String LARGE_STRING = "This is a test string and it has enough"
+        + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setOffHeap(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/cachedir-offheap");
+        context.getStreamCachingStrategy().setSpoolThreshold(64);
+        // use small buffers so the content spans several buffers
+        context.getStreamCachingStrategy().setBufferSize(16);
+        return context;
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        deleteDirectory("target/cachedir-offheap");
+        createDirectory("target/cachedir-offheap");
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCacheStreamInMemory() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(SMALL_STRING.getBytes("UTF-8"));
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the ByteBufferInputStreamCache", cache instanceof ByteBufferInputStreamCache);
+        assertTrue(cache.inMemory());
+        assertEquals(SMALL_STRING.length(), cache.length());
+        assertEquals(SMALL_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        // can be read again after reset
+        cache.reset();
+        assertEquals(SMALL_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        IOHelper.close(cos);
+        exchange.getUnitOfWork().done(exchange);
+
+        // the buffers has been released so the cache cannot be read
+        try {
+            ((InputStream) cache).read();
+            fail("Should have thrown an exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            cache.reset();
+            fail("Should have thrown an exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCacheStreamToMappedFile() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(LARGE_STRING.getBytes("UTF-8"));
+
+        File file = new File("target/cachedir-offheap");
+        String[] files = file.list();
+        assertEquals("we should have a temp file", 1, files.length);
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the ByteBufferInputStreamCache", cache instanceof ByteBufferInputStreamCache);
+        assertFalse(cache.inMemory());
+        assertEquals(LARGE_STRING.length(), cache.length());
+        assertEquals(LARGE_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(LARGE_STRING, new String(bos.toByteArray(), "UTF-8"));
+
+        IOHelper.close(cos);
+        exchange.getUnitOfWork().done(exchange);
+
+        // the file has been unmapped and deleted
+        files = file.list();
+        assertEquals("we should have no temp file", 0, files.length);
+        try {
+            ((InputStream) cache).read();
+            fail("Should have thrown an exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testUnmap() throws Exception {
+        assertTrue("Memory mapped files should be unmapped on this JVM", FileInputStreamCache.TempFileManager.isMappingSupported());
+
+        File file = new File("target/cachedir-offheap/mapped.tmp");
+        Files.write(file.toPath(), LARGE_STRING.getBytes("UTF-8"));
+        ByteBuffer buffer;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+        }
+        assertEquals('T', buffer.get(0));
+
+        // the buffer must not be accessed after it has been unmapped
+        assertTrue(FileInputStreamCache.TempFileManager.unmap(buffer));
+        assertTrue(file.delete());
+    }
+
+    @Test
+    public void testCopyStreamCache() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(SMALL_STRING.getBytes("UTF-8"));
+
+        StreamCache cache = cos.newStreamCache();
+        InputStream is = (InputStream) cache;
+        assertEquals('T', is.read());
+
+        // the copy is read independently of the original
+        Exchange copyExchange = exchange.copy();
+        copyExchange.setUnitOfWork(new DefaultUnitOfWork(copyExchange));
+        StreamCache copy = cache.copy(copyExchange);
+        assertEquals(SMALL_STRING, context.getTypeConverter().convertTo(String.class, copy));
+        assertEquals(SMALL_STRING.substring(1), context.getTypeConverter().convertTo(String.class, cache));
+
+        IOHelper.close(cos);
+        exchange.getUnitOfWork().done(exchange);
+
+        // the copy can still be read as its exchange is not done
+        copy.reset();
+        assertEquals(SMALL_STRING, context.getTypeConverter().convertTo(String.class, copy));
+
+        copyExchange.getUnitOfWork().done(copyExchange);
+        try {
+            ((InputStream) copy).read();
+            fail("Should have thrown an exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCopyStreamCacheAfterExchangeDone() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(SMALL_STRING.getBytes("UTF-8"));
+        StreamCache cache = cos.newStreamCache();
+        assertEquals(SMALL_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        IOHelper.close(cos);
+        exchange.getUnitOfWork().done(exchange);
+
+        // the buffers has been returned to the pool and may be reused by another exchange
+        Exchange copyExchange = exchange.copy();
+        copyExchange.setUnitOfWork(new DefaultUnitOfWork(copyExchange));
+        try {
+            cache.copy(copyExchange);
+            fail("Should have thrown an exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCacheStreamToFileWithCipher() throws Exception {
+        context.getStreamCachingStrategy().setSpoolCipher("RC4");
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(LARGE_STRING.getBytes("UTF-8"));
+
+        // encrypted spool files are not memory mapped
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the FileInputStreamCache", cache instanceof FileInputStreamCache);
+        assertEquals(LARGE_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        IOHelper.close(cos);
+        exchange.getUnitOfWork().done(exchange);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.impl.engine.BlockUuidGenerator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockUuidGeneratorTest extends Assert {
+
+    @Test
+    public void testGenerateUUID() {
+        BlockUuidGenerator uuidGenerator = new BlockUuidGenerator("ID-foo", 4);
+
+        String seed = null;
+        for (int i = 1; i <= 10; i++) {
+            String id = uuidGenerator.generateUuid();
+            assertTrue(id, id.startsWith("ID-foo-"));
+            assertTrue(id, id.endsWith("-" + i));
+            if (seed == null) {
+                seed = id.substring(0, id.length() - 1);
+            }
+            assertEquals(seed + i, id);
+        }
+    }
+
+    @Test
+    public void testUniqueAcrossThreads() throws Exception {
+        BlockUuidGenerator uuidGenerator = new BlockUuidGenerator(16);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    for (int i = 0; i < 10000; i++) {
+                        assertTrue(ids.add(uuidGenerator.generateUuid()));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(40000, ids.size());
+    }
+
+    @Test
+    public void testInvalidBlockSize() {
+        try {
+            new BlockUuidGenerator(0);
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -45,4 +45,31 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testInflightBrowseDisabled() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(false);
+        repo.addRoute("foo");
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        assertEquals(2, repo.size());
+        assertEquals(1, repo.size("foo"));
+
+        // the exchanges are counted but not kept
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        assertEquals(1, repo.size());
+        assertEquals(0, repo.size("foo"));
+
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.BaseExecutorServiceManager;
+import org.apache.camel.impl.engine.VirtualThreadReactiveExecutor;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.support.VirtualThreadPoolFactory;
+import org.junit.Test;
+
+public class VirtualThreadReactiveExecutorRouteTest extends ContextTestSupport {
+
+    private final VirtualThreadReactiveExecutor executor = new VirtualThreadReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testVirtualThreadReactiveExecutor() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        assertSame(executor, context.getReactiveExecutor());
+        assertEquals(VirtualThreadPoolFactory.isVirtualThreadsSupported(), executor.isVirtualThreads());
+    }
+
+    @Test
+    public void testVirtualThreadPoolProfile() throws Exception {
+        ThreadPoolProfile profile = context.getExecutorServiceManager().getThreadPoolProfile(BaseExecutorServiceManager.VIRTUAL_THREAD_POOL_PROFILE);
+        assertNotNull(profile);
+        assertTrue(profile.getVirtualThreads());
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cheese", BaseExecutorServiceManager.VIRTUAL_THREAD_POOL_PROFILE);
+        assertNotNull(pool);
+        assertEquals("Hello", pool.submit(() -> "Hello").get());
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    public void testVirtualThreadPoolFactoryUsesCurrentThreadPoolFactory() throws Exception {
+        BaseExecutorServiceManager manager = (BaseExecutorServiceManager) context.getExecutorServiceManager();
+        VirtualThreadPoolFactory factory = (VirtualThreadPoolFactory) manager.getVirtualThreadPoolFactory();
+        assertSame(manager.getThreadPoolFactory(), factory.getFallbackThreadPoolFactory());
+
+        // changing the thread pool factory afterwards should be used as fallback
+        ThreadPoolFactory custom = new DefaultThreadPoolFactory();
+        manager.setThreadPoolFactory(custom);
+        factory = (VirtualThreadPoolFactory) manager.getVirtualThreadPoolFactory();
+        assertSame(custom, factory.getFallbackThreadPoolFactory());
+
+        // but a custom virtual thread pool factory is kept
+        VirtualThreadPoolFactory customVirtual = new VirtualThreadPoolFactory();
+        manager.setVirtualThreadPoolFactory(customVirtual);
+        manager.setThreadPoolFactory(new DefaultThreadPoolFactory());
+        assertSame(customVirtual, manager.getVirtualThreadPoolFactory());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .threads().executorServiceRef(BaseExecutorServiceManager.VIRTUAL_THREAD_POOL_PROFILE)
+                    .to("log:foo")
+                    .to("mock:result");
+            }
+        };
+    }
+}
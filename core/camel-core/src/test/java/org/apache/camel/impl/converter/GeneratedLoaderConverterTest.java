@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.time.Duration;
+
+import org.apache.camel.TypeConverter;
+import org.apache.camel.converter.DurationConverter;
+import org.apache.camel.converter.MyBean;
+import org.apache.camel.converter.myconverter.StaticMethodWithExchangeTestConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.SimpleTypeConverter;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GeneratedLoaderConverterTest extends Assert {
+
+    private final TypeConverterRegistry registry = new DefaultTypeConverter(null, null, null, false);
+    private final AnnotationTypeConverterLoader loader = new AnnotationTypeConverterLoader(null);
+
+    @Test
+    public void testGeneratedLoaderUsed() throws Exception {
+        // the loader of this converter class is generated by the camel annotation processor
+        assertTrue(loader.loadGeneratedLoader(registry, DurationConverter.class));
+
+        // the type converter is registered by the generated loader instead of using reflection
+        TypeConverter tc = registry.lookup(Duration.class, String.class);
+        assertTrue(tc instanceof SimpleTypeConverter);
+        assertEquals(Duration.ofSeconds(5), tc.convertTo(Duration.class, "PT5S"));
+    }
+
+    @Test
+    public void testReflectionWithoutGeneratedLoader() throws Exception {
+        assertFalse(loader.loadGeneratedLoader(registry, StaticMethodWithExchangeTestConverter.class));
+        assertNull(registry.lookup(MyBean.class, String.class));
+
+        loader.loadConverterMethods(registry, StaticMethodWithExchangeTestConverter.class);
+        TypeConverter tc = registry.lookup(MyBean.class, String.class);
+        assertNotNull(tc);
+        assertFalse(tc instanceof SimpleTypeConverter);
+    }
+
+}
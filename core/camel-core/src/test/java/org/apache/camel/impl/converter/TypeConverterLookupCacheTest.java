@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.lang.reflect.Array;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.Test;
+
+public class TypeConverterLookupCacheTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testCacheHitAndMiss() throws Exception {
+        TypeConverterRegistry.Statistics stats = context.getTypeConverterRegistry().getStatistics();
+        stats.reset();
+
+        assertEquals(3, context.getTypeConverter().convertTo(Integer.class, "3").intValue());
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(0, stats.getCacheHitCounter());
+
+        assertEquals(7, context.getTypeConverter().convertTo(Integer.class, "7").intValue());
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(1, stats.getCacheHitCounter());
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+        TypeConverterRegistry.Statistics stats = context.getTypeConverterRegistry().getStatistics();
+        stats.reset();
+
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, new MyCustomer()));
+        assertEquals(1, stats.getCacheMissCounter());
+
+        // there is no type converter which is cached
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, new MyCustomer()));
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(1, stats.getCacheHitCounter());
+
+        // adding a type converter for a super type should remove it from the cache
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, Object.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return type.cast(new MyOrder());
+            }
+        });
+        assertNotNull(context.getTypeConverter().tryConvertTo(MyOrder.class, new MyCustomer()));
+        assertEquals(2, stats.getCacheMissCounter());
+    }
+
+    @Test
+    public void testMissCache() throws Exception {
+        TypeConverterRegistry.Statistics stats = context.getTypeConverterRegistry().getStatistics();
+        stats.reset();
+
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, new MyCustomer()));
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, new MyCustomer()));
+        assertEquals(2, stats.getMissCounter());
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(1, stats.getCacheHitCounter());
+
+        // a new fallback type converter may be able to convert
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return type == MyOrder.class ? type.cast(new MyOrder()) : null;
+            }
+        }, false);
+        assertNotNull(context.getTypeConverter().convertTo(MyOrder.class, new MyCustomer()));
+    }
+
+    @Test
+    public void testMaximumSize() throws Exception {
+        TypeConverter converter = new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return null;
+            }
+        };
+        // array types of different dimensions gives more type pairs than the cache can hold
+        Class<?>[] types = new Class<?>[70];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = Array.newInstance(String.class, new int[i + 1]).getClass();
+        }
+
+        TypeConverterLookupCache cache = new TypeConverterLookupCache();
+        for (Class<?> toType : types) {
+            for (Class<?> fromType : types) {
+                cache.put(toType, fromType, converter, cache.generation());
+            }
+        }
+        assertEquals(TypeConverterLookupCache.MAXIMUM_SIZE, cache.size());
+        assertSame(converter, cache.get(types[0], types[0]));
+        assertNull(cache.get(types[69], types[69]));
+    }
+
+    private static class MyCustomer {
+    }
+
+    private static class MyOrder {
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.junit.Test;
+
+/**
+ * Runs the tests from {@link SimpleTest} using compiled simple expressions and predicates.
+ */
+public class SimpleCompiledTest extends SimpleTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        ((SimpleLanguage) context.resolveLanguage("simple")).setCompiled(true);
+        return context;
+    }
+
+    @Test
+    public void testCompiledHeaderAndProperty() throws Exception {
+        assertExpression("${header.foo}", "abc");
+        assertExpression("${in.header[foo]}", "abc");
+        assertExpression("${headers:bar}", 123);
+        assertExpression("${header.foobar}", "cba");
+        assertExpression("${exchangeProperty.foobar}", "cba");
+        assertExpression("${exchangeProperty[foobar]}", "cba");
+        assertExpression("${header.unknown}", null);
+        assertExpression("Hello ${header.foo} and ${exchangeProperty.foobar}", "Hello abc and cba");
+    }
+
+    @Test
+    public void testCompiledPredicate() throws Exception {
+        assertPredicate("${header.foo} == 'abc' && ${header.bar} > 100", true);
+        assertPredicate("${header.foo} == 'abc' && ${header.bar} > 200", false);
+        assertPredicate("${header.foo} == 'xyz' || ${exchangeProperty.foobar} contains 'b'", true);
+        assertPredicate("${header.bar} range '100..200' && ${header.foo} regex '^a.*'", true);
+
+        // the binary and logical operators are compiled into predicates
+        Predicate predicate = context.resolveLanguage("simple").createPredicate("${header.foo} == 'abc' && ${header.bar} > 100");
+        assertFalse(predicate instanceof ExpressionToPredicateAdapter);
+    }
+
+}
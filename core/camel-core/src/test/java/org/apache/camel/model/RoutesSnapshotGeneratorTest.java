@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.ErrorHandlerBuilderRef;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assume.assumeNotNull;
+
+public class RoutesSnapshotGeneratorTest extends ContextTestSupport {
+
+    private static final String XML = "classpath:org/apache/camel/model/routesSnapshot.xml";
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/routes-snapshot");
+        super.setUp();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testSnapshotXmlRoutes() throws Exception {
+        String source = RoutesSnapshotGenerator.generate("org.apache.camel.generated.XmlRoutesSnapshot", Collections.singletonList(XML), null);
+        Class<?> type = compile("org.apache.camel.generated.XmlRoutesSnapshot", source);
+
+        // the snapshot should be the same model as when loading the xml routes
+        List<RouteDefinition> routes = createRouteDefinitions(type);
+        List<RouteDefinition> expected;
+        try (InputStream is = getClass().getResourceAsStream("routesSnapshot.xml")) {
+            expected = ModelHelper.loadRoutesDefinition(context, is).getRoutes();
+        }
+        assertEquals(expected.size(), routes.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(ModelHelper.dumpModelAsXml(context, expected.get(i)), ModelHelper.dumpModelAsXml(context, routes.get(i)));
+        }
+
+        context.addRoutes((RoutesBuilder) type.newInstance());
+        context.start();
+        assertEquals(2, context.getRoutes().size());
+        assertEquals("Snapshot of the foo route", context.getRouteDefinition("foo").getDescriptionText());
+
+        getMockEndpoint("mock:gold").expectedBodiesReceived("Camel");
+        getMockEndpoint("mock:gold").expectedHeaderReceived("greeting", "Hello Camel");
+        getMockEndpoint("mock:other").expectedBodiesReceived("World");
+        getMockEndpoint("mock:vip").expectedMessageCount(1);
+
+        template.sendBodyAndHeader("direct:foo", "Camel", "type", "gold");
+        template.sendBodyAndHeader("direct:foo", "World", "type", "silver");
+        template.sendBody("direct:bar", "<order vip='true'/>");
+        template.sendBody("direct:bar", "<order vip='false'/>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSnapshotRouteBuilder() throws Exception {
+        String source = RoutesSnapshotGenerator.generate("org.apache.camel.generated.JavaRoutesSnapshot", null,
+            Collections.singletonList(MyRouteBuilder.class.getName()));
+        Class<?> type = compile("org.apache.camel.generated.JavaRoutesSnapshot", source);
+
+        List<RouteDefinition> routes = createRouteDefinitions(type);
+        assertEquals(1, routes.size());
+        assertEquals("cheese", routes.get(0).getId());
+        assertTrue("Should be prepared", routes.get(0).isPrepared());
+
+        context.addRoutes((RoutesBuilder) type.newInstance());
+        context.start();
+
+        getMockEndpoint("mock:big").expectedBodiesReceived("Hello 123");
+        getMockEndpoint("mock:small").expectedBodiesReceived("Hello 1");
+
+        template.sendBody("direct:cheese", "123");
+        template.sendBody("direct:cheese", "1");
+        template.sendBody("direct:cheese", "");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSnapshotRouteScopedErrorHandler() throws Exception {
+        RouteDefinition route = new RouteDefinition("direct:start").routeId("myRoute");
+        route.errorHandler(new ErrorHandlerBuilderRef("myErrorHandler"));
+        route.to("mock:result");
+        assertFalse(route.isContextScopedErrorHandler());
+
+        String source = RoutesSnapshotGenerator.generate("org.apache.camel.generated.ErrorHandlerRoutesSnapshot", Collections.singletonList(route));
+        Class<?> type = compile("org.apache.camel.generated.ErrorHandlerRoutesSnapshot", source);
+
+        List<RouteDefinition> routes = createRouteDefinitions(type);
+        assertEquals(1, routes.size());
+        assertFalse("Should be route scoped error handler", routes.get(0).isContextScopedErrorHandler());
+        assertEquals("myErrorHandler", ((ErrorHandlerBuilderRef) routes.get(0).getErrorHandlerFactory()).getRef());
+    }
+
+    @Test
+    public void testCannotSnapshotProcessor() throws Exception {
+        RouteDefinition route = new RouteDefinition("direct:start").routeId("myRoute");
+        route.process(exchange -> exchange.getIn().setBody("Bye World")).id("myProcessor");
+        try {
+            RoutesSnapshotGenerator.generate("MySnapshot", Collections.singletonList(route));
+            fail("Should have thrown exception");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Cannot snapshot option processor on node myProcessor in route myRoute"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<RouteDefinition> createRouteDefinitions(Class<?> type) throws Exception {
+        return (List<RouteDefinition>) type.getMethod("createRouteDefinitions").invoke(null);
+    }
+
+    private Class<?> compile(String className, String source) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+
+        File dir = new File("target/routes-snapshot");
+        File file = new File(dir, className.replace('.', '/') + ".java");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        int result = compiler.run(null, null, null, "-classpath", classpath, "-d", dir.getPath(), file.getPath());
+        assertEquals("Should compile:\n" + source, 0, result);
+
+        ClassLoader loader = new URLClassLoader(new URL[] {dir.toURI().toURL()}, getClass().getClassLoader());
+        return loader.loadClass(className);
+    }
+
+    public static class MyRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:cheese").routeId("cheese")
+                .filter(simple("${body.length} > 0"))
+                    .setBody(simple("Hello ${body}"))
+                    .choice()
+                        .when().simple("${body.length} > 7").to("mock:big")
+                        .otherwise().to("mock:small");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class MessageHistoryRingBufferTest extends ContextTestSupport {
+
+    @Test
+    public void testRingBuffer() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        Exchange out = template.request("direct:start", e -> {
+            e.getMessage().setBody("Hello World");
+        });
+
+        assertMockEndpointsSatisfied();
+
+        // only the 3 most recent nodes are kept
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertNotNull(history);
+        assertEquals(3, history.size());
+        assertEquals("c", history.get(0).getNode().getId());
+        assertEquals("d", history.get(1).getNode().getId());
+        assertEquals("result", history.get(2).getNode().getId());
+        assertEquals("start", history.get(0).getRouteId());
+        for (MessageHistory mh : history) {
+            assertTrue(mh.getTime() > 0);
+            assertTrue(mh.getElapsed() >= 0);
+        }
+
+        // the history is copied with the exchange
+        Exchange copy = out.copy();
+        List<MessageHistory> copied = copy.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertNotSame(history, copied);
+        assertEquals(3, copied.size());
+        assertEquals("c", copied.get(0).getNode().getId());
+    }
+
+    @Test
+    public void testSampling() throws Exception {
+        context.setMessageHistorySampleRate(Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, context.getMessageHistoryFactory().getSampleRate());
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        Exchange out = template.request("direct:start", e -> {
+            e.getMessage().setBody("Hello World");
+        });
+
+        assertMockEndpointsSatisfied();
+
+        // the exchange is (almost certainly) not sampled
+        List<MessageHistory> history = out.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertNotNull(history);
+        assertEquals(0, history.size());
+        assertEquals(0, out.copy().getProperty(Exchange.MESSAGE_HISTORY, List.class).size());
+    }
+
+    @Test
+    public void testErrorHandlerLogMessageHistory() throws Exception {
+        getMockEndpoint("mock:dead").expectedMessageCount(1);
+
+        template.sendBody("direct:kaboom", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        Exchange dead = getMockEndpoint("mock:dead").getReceivedExchanges().get(0);
+        List<MessageHistory> history = dead.getProperty(Exchange.MESSAGE_HISTORY, List.class);
+        assertEquals(3, history.size());
+        assertEquals("boom", history.get(2).getNode().getId());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                context.setMessageHistory(true);
+                context.setMessageHistoryRingBufferSize(3);
+
+                from("direct:start").routeId("start")
+                    .setHeader("a", constant("a")).id("a")
+                    .setHeader("b", constant("b")).id("b")
+                    .setHeader("c", constant("c")).id("c")
+                    .setHeader("d", constant("d")).id("d")
+                    .to("mock:result").id("result");
+
+                from("direct:kaboom").routeId("kaboom")
+                    .errorHandler(deadLetterChannel("mock:dead"))
+                    .setHeader("a", constant("a")).id("a2")
+                    .setHeader("b", constant("b")).id("b2")
+                    .setHeader("c", constant("c")).id("c2")
+                    .throwException(new IllegalArgumentException("Forced")).id("boom");
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class MulticastParallelMaxInflightTest extends ContextTestSupport {
+
+    private final AtomicInteger processing = new AtomicInteger();
+    private final AtomicInteger maxProcessing = new AtomicInteger();
+
+    @Test
+    public void testMulticastParallelMaxInflight() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        getMockEndpoint("mock:sub").expectedBodiesReceivedInAnyOrder("A", "B", "C", "D", "E", "F");
+
+        template.sendBody("direct:start", "Hello");
+
+        assertMockEndpointsSatisfied();
+        assertTrue("Should not process more than 2 but was " + maxProcessing.get(), maxProcessing.get() <= 2);
+
+        // the replies are aggregated in the order they are done, so sort them to compare
+        char[] replies = mock.getReceivedExchanges().get(0).getIn().getBody(String.class).toCharArray();
+        Arrays.sort(replies);
+        assertEquals("ABCDEF", new String(replies));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .multicast((oldExchange, newExchange) -> {
+                        if (oldExchange != null) {
+                            newExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + newExchange.getIn().getBody(String.class));
+                        }
+                        return newExchange;
+                    }).parallelProcessing().maxInflight(2)
+                        .to("direct:a", "direct:b", "direct:c", "direct:d", "direct:e", "direct:f")
+                    .end()
+                    .to("mock:result");
+
+                for (String name : new String[] {"a", "b", "c", "d", "e", "f"}) {
+                    // the first sub messages are the slowest
+                    int delay = ("f".charAt(0) - name.charAt(0)) * 10;
+                    from("direct:" + name)
+                        .process(exchange -> {
+                            maxProcessing.accumulateAndGet(processing.incrementAndGet(), Math::max);
+                            Thread.sleep(delay);
+                            processing.decrementAndGet();
+                        })
+                        .setBody(constant(name.toUpperCase()))
+                        .to("mock:sub");
+                }
+            }
+        };
+    }
+}
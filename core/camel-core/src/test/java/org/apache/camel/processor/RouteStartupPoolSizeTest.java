@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.Test;
+
+public class RouteStartupPoolSizeTest extends ContextTestSupport {
+
+    private final List<String> startOrder = new CopyOnWriteArrayList<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger activeProcessors = new AtomicInteger();
+    private final AtomicInteger maxActiveProcessors = new AtomicInteger();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteStartupPoolSize(4);
+        context.addEndpoint("slow:first", new SlowStartEndpoint("slow:first", "first"));
+        for (int i = 1; i <= 4; i++) {
+            context.addEndpoint("slow:" + i, new SlowStartEndpoint("slow:" + i, "route" + i));
+        }
+        context.addEndpoint("slow:last", new SlowStartEndpoint("slow:last", "last"));
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupPoolSize() throws Exception {
+        assertEquals(6, context.getRoutes().size());
+        assertEquals(6, startOrder.size());
+        // the routes with explicit startup order are started in their order, before and after the others
+        assertEquals("first", startOrder.get(0));
+        assertEquals("last", startOrder.get(5));
+        // and the consumers of the routes without explicit startup order were started concurrently
+        assertTrue("Should start consumers concurrently", maxActive.get() > 1);
+        // but the routes are warmed up one at a time
+        assertEquals(1, maxActiveProcessors.get());
+
+        assertTrue(context.getRoute("route1").getStartupTimeMillis() >= 100);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("slow:first").routeId("first").startupOrder(1).process(new SlowStartProcessor()).to("mock:first");
+
+                for (int i = 1; i <= 4; i++) {
+                    from("slow:" + i).routeId("route" + i).process(new SlowStartProcessor()).to("mock:result");
+                }
+
+                from("slow:last").routeId("last").startupOrder(5000).process(new SlowStartProcessor()).to("mock:result");
+            }
+        };
+    }
+
+    private final class SlowStartEndpoint extends DefaultEndpoint {
+
+        private final String name;
+
+        SlowStartEndpoint(String uri, String name) {
+            super(uri, null);
+            this.name = name;
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            throw new UnsupportedOperationException("Producer not supported");
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            return new DefaultConsumer(this, processor) {
+                @Override
+                protected void doStart() throws Exception {
+                    super.doStart();
+                    int current = active.incrementAndGet();
+                    maxActive.accumulateAndGet(current, Math::max);
+                    Thread.sleep(200);
+                    active.decrementAndGet();
+                    startOrder.add(name);
+                }
+            };
+        }
+    }
+
+    private final class SlowStartProcessor extends ServiceSupport implements Processor {
+
+        @Override
+        protected void doStart() throws Exception {
+            int current = activeProcessors.incrementAndGet();
+            maxActiveProcessors.accumulateAndGet(current, Math::max);
+            Thread.sleep(50);
+            activeProcessors.decrementAndGet();
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            // noop
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+    }
+}
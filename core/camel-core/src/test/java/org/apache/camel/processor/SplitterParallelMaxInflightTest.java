@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int MAX_INFLIGHT = 5;
+
+    private final AtomicInteger produced = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxAhead = new AtomicInteger();
+    private final AtomicInteger processing = new AtomicInteger();
+    private final AtomicInteger maxProcessing = new AtomicInteger();
+
+    @Test
+    public void testSplitParallelStreamingMaxInflight() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(SIZE);
+
+        template.sendBody("direct:start", new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return produced.get() < SIZE;
+            }
+
+            @Override
+            public Integer next() {
+                int ahead = produced.incrementAndGet() - aggregated.get();
+                maxAhead.accumulateAndGet(ahead, Math::max);
+                return produced.get();
+            }
+        });
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(SIZE, aggregated.get());
+        assertTrue("Should not read ahead more than " + MAX_INFLIGHT + " but was " + maxAhead.get(), maxAhead.get() <= MAX_INFLIGHT);
+        assertTrue("Should not process more than " + MAX_INFLIGHT + " but was " + maxProcessing.get(), maxProcessing.get() <= MAX_INFLIGHT);
+        // the thread pool should be in use
+        assertTrue("Should process in parallel", maxProcessing.get() > 1);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AggregationStrategy count = (oldExchange, newExchange) -> {
+                    aggregated.incrementAndGet();
+                    if (oldExchange == null) {
+                        newExchange.getIn().setBody(1);
+                        return newExchange;
+                    }
+                    oldExchange.getIn().setBody(oldExchange.getIn().getBody(Integer.class) + 1);
+                    return oldExchange;
+                };
+
+                from("direct:start")
+                    .split(body(), count).parallelProcessing().streaming().maxInflight(MAX_INFLIGHT)
+                        .process(exchange -> {
+                            maxProcessing.accumulateAndGet(processing.incrementAndGet(), Math::max);
+                            Thread.sleep(5);
+                            processing.decrementAndGet();
+                        })
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.JndiRegistry;
+import org.apache.camel.support.processor.throttle.MemoryThrottlerRepository;
+import org.junit.Test;
+
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+
+    private final MemoryThrottlerRepository repository = new MemoryThrottlerRepository();
+    private final AtomicInteger rate = new AtomicInteger();
+    private volatile Thread processingThread;
+
+    @Test
+    public void testBurstThenThrottled() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(6);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertMockEndpointsSatisfied();
+        // a burst of 3 and then a message every 100 millis
+        assertTrue("Should be throttled, was " + elapsed + " millis", elapsed >= 250);
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+        getMockEndpoint("mock:error").expectedMessageCount(3);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:reject", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSharedRepository() throws Exception {
+        // the two throttlers have their own throttle limit in the repository
+        getMockEndpoint("mock:result").expectedBodiesReceived("A", "B", "D");
+        getMockEndpoint("mock:error").expectedBodiesReceived("C", "E");
+
+        template.sendBody("direct:shared1", "A");
+        template.sendBody("direct:shared1", "B");
+        template.sendBody("direct:shared1", "C");
+        template.sendBody("direct:shared2", "D");
+        template.sendBody("direct:shared2", "E");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSharedRepositoryAcrossCamelContexts() throws Exception {
+        // another Camel application in the cluster with the same route and throttler
+        CamelContext other = new DefaultCamelContext();
+        other.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:shared1").routeId("shared1")
+                    .throttle(2).timePeriodMillis(10000).throttlerRepository(repository).rejectExecution(true).id("sharedThrottle1")
+                    .to("mock:other");
+            }
+        });
+        other.start();
+        try {
+            getMockEndpoint("mock:result").expectedBodiesReceived("A");
+            getMockEndpoint("mock:error").expectedBodiesReceived("C");
+            MockEndpoint mock = other.getEndpoint("mock:other", MockEndpoint.class);
+            mock.expectedBodiesReceived("B");
+
+            template.sendBody("direct:shared1", "A");
+            other.createProducerTemplate().sendBody("direct:shared1", "B");
+            try {
+                other.createProducerTemplate().sendBody("direct:shared1", "D");
+                fail("Should have thrown exception");
+            } catch (CamelExecutionException e) {
+                assertIsInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+            }
+            template.sendBody("direct:shared1", "C");
+
+            assertMockEndpointsSatisfied();
+            mock.assertIsSatisfied();
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testSharedRepositoryNotStoppedWithRoute() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A", "B");
+        getMockEndpoint("mock:error").expectedBodiesReceived("C");
+
+        template.sendBody("direct:shared1", "A");
+        context.getRouteController().stopRoute("shared2");
+
+        // the other route is still using the repository and its state
+        assertTrue(repository.isStarted());
+        template.sendBody("direct:shared1", "B");
+        template.sendBody("direct:shared1", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAsyncDelayedRateZero() throws Exception {
+        rate.set(0);
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello");
+
+        Thread caller = Thread.currentThread();
+        Future<Object> reply = template.asyncRequestBody("direct:rate", "Hello");
+        Thread.sleep(100);
+        // allow the request which is waiting for the rate to increase
+        rate.set(1);
+
+        assertEquals("Hello", reply.get(5, TimeUnit.SECONDS));
+        assertMockEndpointsSatisfied();
+        // the request was not waiting in the thread which sent it
+        assertNotSame(caller, processingThread);
+        assertTrue("Should be processed by the throttler thread pool, was " + processingThread.getName(), processingThread.getName().contains("Throttle"));
+    }
+
+    @Test
+    public void testAsyncDelayed() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(6);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("seda:async", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry jndi = super.createRegistry();
+        jndi.bind("myThrottlerRepository", repository);
+        return jndi;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:start").throttle(3).timePeriodMillis(300).tokenBucket().to("mock:result");
+
+                from("direct:reject").throttle(2).timePeriodMillis(10000).tokenBucket().rejectExecution(true).to("mock:result");
+
+                from("direct:shared1").routeId("shared1")
+                    .throttle(2).timePeriodMillis(10000).throttlerRepositoryRef("myThrottlerRepository").rejectExecution(true).id("sharedThrottle1")
+                    .to("mock:result");
+                from("direct:shared2").routeId("shared2")
+                    .throttle(1).timePeriodMillis(10000).throttlerRepositoryRef("myThrottlerRepository").rejectExecution(true)
+                    .to("mock:result");
+
+                from("direct:rate").throttle(method(rate, "get")).timePeriodMillis(50).tokenBucket().asyncDelayed()
+                    .process(e -> processingThread = Thread.currentThread())
+                    .to("mock:result");
+
+                from("seda:async").throttle(2).timePeriodMillis(200).tokenBucket().asyncDelayed().to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.junit.Test;
+
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testAggregateDifferentCorrelationKeysInParallel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("B1+B2");
+
+        // the aggregation of A is blocked until the latch is released
+        Future<Object> future = template.asyncRequestBodyAndHeader("direct:start", "A1", "id", "A");
+
+        // which should not block B from being aggregated
+        template.sendBodyAndHeader("direct:start", "B1", "id", "B");
+        template.sendBodyAndHeader("direct:start", "B2", "id", "B");
+        assertMockEndpointsSatisfied();
+
+        resetMocks();
+        mock.expectedBodiesReceived("A1+A2");
+
+        latch.countDown();
+        future.get(5, TimeUnit.SECONDS);
+        template.sendBodyAndHeader("direct:start", "A2", "id", "A");
+        assertMockEndpointsSatisfied();
+
+        AggregateProcessor ap = context.getProcessor("aggregate", AggregateProcessor.class);
+        assertEquals(16, ap.getLockStripes());
+        assertEquals(4, ap.getStatistics().getTotalIn());
+        assertEquals(2, ap.getStatistics().getTotalCompleted());
+    }
+
+    @Test
+    public void testAggregateConcurrentPerCorrelationKey() throws Exception {
+        latch.countDown();
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final String id = "" + (i % 5);
+            tasks.add(new Callable<Object>() {
+                public Object call() throws Exception {
+                    template.sendBodyAndHeader("direct:start", "X", "id", id);
+                    return null;
+                }
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals("X+X", exchange.getIn().getBody(String.class));
+        }
+
+        AggregateProcessor ap = context.getProcessor("aggregate", AggregateProcessor.class);
+        assertEquals(200, ap.getStatistics().getTotalIn());
+        assertEquals(100, ap.getStatistics().getTotalCompleted());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        final AggregationStrategy strategy = new BodyInAggregatingStrategy() {
+            @Override
+            public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+                if ("A1".equals(newExchange.getIn().getBody())) {
+                    try {
+                        latch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                }
+                return super.aggregate(oldExchange, newExchange);
+            }
+        };
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .aggregate(header("id"), strategy).id("aggregate").lockStripes(16).completionSize(2)
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.AggregateProcessor;
+import org.junit.Test;
+
+public class AggregateTimeoutTimingWheelTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateTimeoutTimingWheel() throws Exception {
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedBodiesReceivedInAnyOrder("A+B+C", "D+E");
+        result.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", "1");
+        template.sendBodyAndHeader("direct:start", "D", "id", "2");
+        template.sendBodyAndHeader("direct:start", "B", "id", "1");
+        template.sendBodyAndHeader("direct:start", "E", "id", "2");
+        template.sendBodyAndHeader("direct:start", "C", "id", "1");
+
+        assertMockEndpointsSatisfied();
+
+        AggregateProcessor ap = context.getProcessor("aggregate", AggregateProcessor.class);
+        assertTrue(ap.isCompletionTimeoutUseTimingWheel());
+        assertEquals(2, ap.getStatistics().getCompletedByTimeout());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy()).id("aggregate")
+                        .completionTimeout(200).completionTimeoutCheckerInterval(50).completionTimeoutUseTimingWheel()
+                        .to("mock:result");
+            }
+        };
+    }
+}
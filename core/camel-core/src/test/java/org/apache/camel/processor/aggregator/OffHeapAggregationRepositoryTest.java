@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.io.File;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.OffHeapAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapAggregationRepositoryTest extends ContextTestSupport {
+
+    private static final String FILE_NAME = "target/data/offheap/aggregation.dat";
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/offheap");
+        super.setUp();
+    }
+
+    @Test
+    public void testAddGetRemoveConfirm() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.start();
+
+        Exchange exchange = createExchange("Hello World");
+        assertNull(repo.add(context, "foo", exchange));
+        assertTrue(repo.getMemoryUsed() > 0);
+        assertEquals(0, repo.getFileUsed());
+
+        Exchange answer = repo.get(context, "foo");
+        assertEquals("Hello World", answer.getIn().getBody());
+        assertEquals("123", answer.getIn().getHeader("id"));
+        assertEquals(exchange.getExchangeId(), answer.getExchangeId());
+        assertEquals(2, answer.getProperty(Exchange.AGGREGATED_SIZE));
+        assertTrue(repo.getKeys().contains("foo"));
+
+        Exchange old = repo.add(context, "foo", createExchange("Bye World"));
+        assertEquals("Hello World", old.getIn().getBody());
+        assertEquals("Bye World", repo.get(context, "foo").getIn().getBody());
+
+        repo.remove(context, "foo", answer);
+        assertNull(repo.get(context, "foo"));
+        assertTrue(repo.getKeys().isEmpty());
+        assertTrue(repo.scan(context).contains(answer.getExchangeId()));
+        assertEquals("Hello World", repo.recover(context, answer.getExchangeId()).getIn().getBody());
+
+        repo.confirm(context, answer.getExchangeId());
+        assertTrue(repo.scan(context).isEmpty());
+        assertEquals(0, repo.getMemoryUsed());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testSpillToFile() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setMaximumMemorySize(0);
+        repo.setSpoolDirectory("target/data/offheap");
+        repo.start();
+
+        for (int i = 0; i < 10; i++) {
+            repo.add(context, "key" + i, createExchange("Message " + i));
+        }
+        assertEquals(0, repo.getMemoryUsed());
+        assertTrue(repo.getFileUsed() > 0);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Message " + i, repo.get(context, "key" + i).getIn().getBody());
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Exchange exchange = repo.get(context, "key" + i);
+            repo.remove(context, "key" + i, exchange);
+            repo.confirm(context, exchange.getExchangeId());
+        }
+        assertEquals(0, repo.getFileUsed());
+
+        repo.stop();
+        assertEquals(0, new File("target/data/offheap").list().length);
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+        repo.setMaximumMemorySize(0);
+        repo.setCompactionThreshold(0);
+        repo.setSpoolDirectory("target/data/offheap");
+        repo.start();
+
+        repo.add(context, "foo", createExchange("Foo"));
+        for (int i = 0; i < 20; i++) {
+            Exchange old = repo.add(context, "bar", createExchange("Bar " + i));
+            assertEquals(i > 0 ? "Bar " + (i - 1) : null, old != null ? old.getIn().getBody() : null);
+            assertEquals("Foo", repo.get(context, "foo").getIn().getBody());
+            assertEquals("Bar " + i, repo.get(context, "bar").getIn().getBody());
+        }
+
+        // the file is compacted when there are more removed than used bytes
+        long used = repo.getFileUsed();
+        File spool = new File("target/data/offheap").listFiles()[0];
+        assertTrue("File should be compacted", spool.length() < 2 * used);
+        assertEquals("Foo", repo.get(context, "foo").getIn().getBody());
+
+        // the file is truncated when all exchanges have been removed
+        Exchange foo = repo.get(context, "foo");
+        Exchange bar = repo.get(context, "bar");
+        repo.remove(context, "foo", foo);
+        repo.remove(context, "bar", bar);
+        repo.confirm(context, foo.getExchangeId());
+        repo.confirm(context, bar.getExchangeId());
+        assertEquals(0, repo.getFileUsed());
+        assertEquals(0, spool.length());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testPersistentFileSurvivesRestart() throws Exception {
+        OffHeapAggregationRepository repo = new OffHeapAggregationRepository(FILE_NAME);
+        repo.start();
+
+        repo.add(context, "foo", createExchange("Foo"));
+        repo.add(context, "bar", createExchange("Bar"));
+        Exchange completed = createExchange("Completed");
+        repo.add(context, "baz", completed);
+        repo.remove(context, "baz", completed);
+        repo.stop();
+
+        repo = new OffHeapAggregationRepository(FILE_NAME);
+        repo.start();
+
+        assertEquals(2, repo.getKeys().size());
+        assertEquals("Foo", repo.get(context, "foo").getIn().getBody());
+        assertEquals("Bar", repo.get(context, "bar").getIn().getBody());
+        assertNull(repo.get(context, "baz"));
+        assertTrue(repo.scan(context).contains(completed.getExchangeId()));
+        assertEquals("Completed", repo.recover(context, completed.getExchangeId()).getIn().getBody());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceived("A+B+C", "D+E+F");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "D", "id", 456);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+        template.sendBodyAndHeader("direct:start", "E", "id", 456);
+        template.sendBodyAndHeader("direct:start", "C", "id", 123);
+        template.sendBodyAndHeader("direct:start", "F", "id", 456);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private Exchange createExchange(String body) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+        exchange.getIn().setHeader("id", "123");
+        exchange.setProperty(Exchange.AGGREGATED_SIZE, 2);
+        return exchange;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                OffHeapAggregationRepository repo = new OffHeapAggregationRepository();
+                // use a very small memory budget so the exchanges are spilled to the file
+                repo.setMaximumMemorySize(512);
+                repo.setSpoolDirectory("target/data/offheap");
+
+                from("direct:start")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy()).aggregationRepository(repo).completionSize(3)
+                        .to("mock:aggregated");
+            }
+        };
+    }
+}
@@ -202,4 +202,97 @@ public class DefaultTimeoutMapTest extends Assert {
         map.stop();
     }
 
+    @Test
+    public void testTimingWheelPurge() throws Exception {
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        map.setUseTimingWheel(true);
+        map.start();
+        assertTrue(map.isUseTimingWheel());
+
+        map.put("A", 123, 50);
+        map.put("B", 456, 5000);
+        assertEquals(2, map.size());
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1, map.size()));
+        assertNull(map.get("A"));
+        assertEquals(456, (int) map.get("B"));
+
+        map.stop();
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelExpiredInCorrectOrder() throws Exception {
+        final List<String> keys = new ArrayList<>();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
+        map.setUseTimingWheel(true);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+        map.start();
+
+        map.put("A", 1, 50);
+        map.put("B", 2, 30);
+        map.put("C", 3, 40);
+        map.put("D", 4, 20);
+        // is not expired
+        map.put("F", 6, 800);
+
+        Thread.sleep(250);
+
+        assertEquals("[D, B, C, A]", keys.toString());
+        assertEquals(1, map.size());
+
+        map.stop();
+    }
+
+    @Test
+    public void testTimingWheelLongTimeouts() throws Exception {
+        final List<String> keys = new ArrayList<>();
+        final long[] now = {System.currentTimeMillis()};
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<String, Integer>(executor, 100) {
+            @Override
+            protected long currentTime() {
+                return now[0];
+            }
+        };
+        map.setUseTimingWheel(true);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        map.put("A", 1, 5000);
+        map.put("B", 2, TimeUnit.HOURS.toMillis(1));
+        map.put("C", 3, TimeUnit.DAYS.toMillis(24));
+        map.put("D", 4, TimeUnit.HOURS.toMillis(2));
+        map.put("E", 5, 5000);
+        map.remove("E");
+
+        now[0] += 6000;
+        map.purge();
+        assertEquals("[A]", keys.toString());
+
+        // accessing the entry updates the expire time
+        now[0] += TimeUnit.MINUTES.toMillis(59);
+        assertEquals(2, (int) map.get("B"));
+        now[0] += TimeUnit.MINUTES.toMillis(2);
+        map.purge();
+        assertEquals("[A]", keys.toString());
+
+        now[0] += TimeUnit.HOURS.toMillis(1);
+        map.purge();
+        assertEquals("[A, B, D]", keys.toString());
+
+        now[0] += TimeUnit.DAYS.toMillis(24);
+        map.purge();
+        assertEquals("[A, B, D, C]", keys.toString());
+        assertEquals(0, map.size());
+    }
+
 }
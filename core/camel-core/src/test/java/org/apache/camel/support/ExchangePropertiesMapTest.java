@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.MessageHistory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExchangePropertiesMapTest extends Assert {
+
+    @Test
+    public void testSlotsAndMap() {
+        ExchangePropertiesMap map = new ExchangePropertiesMap();
+        assertTrue(map.isEmpty());
+
+        map.put(Exchange.SPLIT_INDEX, 3);
+        map.put("foo", "bar");
+        assertEquals(2, map.size());
+        assertEquals(3, map.get(Exchange.SPLIT_INDEX));
+        assertEquals("bar", map.get("foo"));
+        assertTrue(map.containsKey(Exchange.SPLIT_INDEX));
+        assertFalse(map.containsKey(Exchange.SPLIT_SIZE));
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put(Exchange.SPLIT_INDEX, 3);
+        expected.put("foo", "bar");
+        assertEquals(expected, map);
+        assertEquals(expected, new HashMap<>(map));
+
+        assertEquals(3, map.remove(Exchange.SPLIT_INDEX));
+        assertNull(map.remove(Exchange.SPLIT_INDEX));
+        assertEquals(1, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        ExchangePropertiesMap map = new ExchangePropertiesMap();
+        map.put(Exchange.SPLIT_INDEX, 1);
+        map.put("foo", "bar");
+
+        ExchangePropertiesMap copy = map.copy();
+        assertEquals(map, copy);
+
+        copy.put("foo", "baz");
+        copy.put(Exchange.SPLIT_INDEX, 2);
+        assertEquals("bar", map.get("foo"));
+        assertEquals(1, map.get(Exchange.SPLIT_INDEX));
+        assertEquals("baz", copy.get("foo"));
+        assertEquals(2, copy.get(Exchange.SPLIT_INDEX));
+
+        map.remove("foo");
+        assertNull(map.get("foo"));
+        assertEquals("baz", copy.get("foo"));
+    }
+
+    @Test
+    public void testCopyMessageHistory() {
+        List<MessageHistory> history = new LinkedList<>();
+        ExchangePropertiesMap map = new ExchangePropertiesMap();
+        map.put(Exchange.MESSAGE_HISTORY, history);
+
+        ExchangePropertiesMap copy = map.copy();
+        assertNotSame(history, copy.get(Exchange.MESSAGE_HISTORY));
+        assertEquals(history, copy.get(Exchange.MESSAGE_HISTORY));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        ExchangePropertiesMap map = new ExchangePropertiesMap();
+        map.put(Exchange.CREATED_TIMESTAMP, "now");
+        map.put(Exchange.SPLIT_INDEX, 1);
+        map.put("foo", "bar");
+        map.put("beer", "cold");
+
+        Iterator<String> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            String key = it.next();
+            if (!key.equals("beer")) {
+                it.remove();
+            }
+        }
+        assertEquals(1, map.size());
+        assertEquals("cold", map.get("beer"));
+
+        map.entrySet().iterator().next().setValue("warm");
+        assertEquals("warm", map.get("beer"));
+    }
+
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        final ExchangePropertiesMap map = new ExchangePropertiesMap();
+        final ExchangePropertiesMap copy = map.copy();
+        final int threads = 8;
+        final int count = 500;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < count; i++) {
+                        map.put("key-" + thread + "-" + i, i);
+                        map.put(Exchange.SPLIT_INDEX, i);
+                        map.put(Exchange.CORRELATION_ID, "id-" + thread);
+                        map.copy();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * count + 2, map.size());
+        assertEquals(threads * count + 2, map.entrySet().stream().count());
+        assertTrue(copy.isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue() {
+        new ExchangePropertiesMap().put("foo", null);
+    }
+
+}
@@ -1721,6 +1721,38 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedAMQPEndpointConsumerBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedAMQPEndpointConsumerBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -3649,6 +3681,38 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedAMQPEndpointProducerBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedAMQPEndpointProducerBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -4865,6 +4929,38 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedAMQPEndpointBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedAMQPEndpointBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -1727,6 +1727,38 @@ public interface ActiveMQEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedActiveMQEndpointConsumerBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedActiveMQEndpointConsumerBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -3662,6 +3694,38 @@ public interface ActiveMQEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedActiveMQEndpointProducerBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedActiveMQEndpointProducerBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -4887,6 +4951,38 @@ public interface ActiveMQEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedActiveMQEndpointBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedActiveMQEndpointBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -265,6 +265,42 @@ public interface DisruptorEndpointBuilderFactory {
             doSetProperty("exchangePattern", exchangePattern);
             return this;
         }
+        /**
+         * The maximum number of exchanges a consumer thread takes from the
+         * ringbuffer and routes together as a batch. The batch ends when there
+         * are no more exchanges available in the ringbuffer (end of batch), so
+         * the consumer does not wait for a batch to fill up. The batch is only
+         * routed as a whole by processors which support batches (such as when
+         * using no error handler), and is otherwise routed one exchange at a
+         * time.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder maxBatchSize(
+                int maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges a consumer thread takes from the
+         * ringbuffer and routes together as a batch. The batch ends when there
+         * are no more exchanges available in the ringbuffer (end of batch), so
+         * the consumer does not wait for a batch to fill up. The batch is only
+         * routed as a whole by processors which support batches (such as when
+         * using no error handler), and is otherwise routed one exchange at a
+         * time.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         */
+        default AdvancedDisruptorEndpointConsumerBuilder maxBatchSize(
+                String maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
         /**
          * Whether the endpoint should use basic property binding (Camel 2.x) or
          * the newer property binding with additional capabilities.
@@ -1721,6 +1721,38 @@ public interface JmsEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedJmsEndpointConsumerBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedJmsEndpointConsumerBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -3648,6 +3680,38 @@ public interface JmsEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedJmsEndpointProducerBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedJmsEndpointProducerBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
@@ -4864,6 +4928,38 @@ public interface JmsEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option is a: <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedJmsEndpointBuilder requestTimeoutUseTimingWheel(
+                boolean requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         * 
+         * The option will be converted to a <code>boolean</code> type.
+         * 
+         * Group: advanced
+         */
+        default AdvancedJmsEndpointBuilder requestTimeoutUseTimingWheel(
+                String requestTimeoutUseTimingWheel) {
+            doSetProperty("requestTimeoutUseTimingWheel", requestTimeoutUseTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used, or Camel
          * is allowed to use asynchronous processing (if supported).
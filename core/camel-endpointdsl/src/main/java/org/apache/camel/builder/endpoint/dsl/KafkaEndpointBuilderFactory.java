@@ -782,6 +782,60 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * When processing records concurrently (see processingThreads) then this
+         * option controls which records must be processed in order. With
+         * partition then the records of a partition are processed one after
+         * another, and with key then only the records with the same key (in a
+         * partition) are processed one after another.
+         * 
+         * The option is a: <code>java.lang.String</code> type.
+         * 
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder processingOrder(
+                String processingOrder) {
+            doSetProperty("processingOrder", processingOrder);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the polled records
+         * concurrently. By default the records are processed one after another
+         * by the consumer thread which polls the records from the kafka server.
+         * When using concurrent processing then the records are still processed
+         * in order per partition or per key, as configured with the
+         * processingOrder option, and the offsets are only committed up to the
+         * record where all the previous records of the partition have been
+         * processed. This cannot be used together with allowManualCommit.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the polled records
+         * concurrently. By default the records are processed one after another
+         * by the consumer thread which polls the records from the kafka server.
+         * When using concurrent processing then the records are still processed
+         * in order per partition or per key, as configured with the
+         * processingOrder option, and the offsets are only committed up to the
+         * record where all the previous records of the partition have been
+         * processed. This cannot be used together with allowManualCommit.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                String processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * beginning : read from beginning end : read from end This is replacing
@@ -2783,6 +2837,40 @@ public interface KafkaEndpointBuilderFactory {
         default KafkaEndpointProducerBuilder basic() {
             return (KafkaEndpointProducerBuilder) this;
         }
+        /**
+         * To use a custom KafkaProducerResultMapper to map the results of
+         * sending the records to Kafka onto the exchange. The mapper is called
+         * once all the records of the exchange has been sent, and by default the
+         * record metadata is stored on a header (see the recordMetadata option)
+         * and the exchange is failed if any of the records failed.
+         * 
+         * The option is a:
+         * <code>org.apache.camel.component.kafka.KafkaProducerResultMapper</code> type.
+         * 
+         * Group: producer (advanced)
+         */
+        default AdvancedKafkaEndpointProducerBuilder producerResultMapper(
+                Object producerResultMapper) {
+            doSetProperty("producerResultMapper", producerResultMapper);
+            return this;
+        }
+        /**
+         * To use a custom KafkaProducerResultMapper to map the results of
+         * sending the records to Kafka onto the exchange. The mapper is called
+         * once all the records of the exchange has been sent, and by default the
+         * record metadata is stored on a header (see the recordMetadata option)
+         * and the exchange is failed if any of the records failed.
+         * 
+         * The option will be converted to a
+         * <code>org.apache.camel.component.kafka.KafkaProducerResultMapper</code> type.
+         * 
+         * Group: producer (advanced)
+         */
+        default AdvancedKafkaEndpointProducerBuilder producerResultMapper(
+                String producerResultMapper) {
+            doSetProperty("producerResultMapper", producerResultMapper);
+            return this;
+        }
         /**
          * Whether the endpoint should use basic property binding (Camel 2.x) or
          * the newer property binding with additional capabilities.
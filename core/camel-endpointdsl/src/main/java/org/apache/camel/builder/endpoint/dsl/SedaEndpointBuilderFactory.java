@@ -228,6 +228,42 @@ public interface SedaEndpointBuilderFactory {
             doSetProperty("limitConcurrentConsumers", limitConcurrentConsumers);
             return this;
         }
+        /**
+         * The maximum number of exchanges the consumer takes from the queue and
+         * routes together as a batch. The exchanges which are already on the
+         * queue are taken in the same batch, so the consumer does not wait for
+         * a batch to fill up. The batch is only routed as a whole by processors
+         * which support batches (such as when using no error handler), and is
+         * otherwise routed one exchange at a time. Batches are only used when
+         * there is a single consumer, and multiple consumers is not in use.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxBatchSize(
+                int maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges the consumer takes from the queue and
+         * routes together as a batch. The exchanges which are already on the
+         * queue are taken in the same batch, so the consumer does not wait for
+         * a batch to fill up. The batch is only routed as a whole by processors
+         * which support batches (such as when using no error handler), and is
+         * otherwise routed one exchange at a time. Batches are only used when
+         * there is a single consumer, and multiple consumers is not in use.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: consumer (advanced)
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxBatchSize(
+                String maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
         /**
          * Specifies whether multiple consumers are allowed. If enabled, you can
          * use SEDA for Publish-Subscribe messaging. That is, you can send a
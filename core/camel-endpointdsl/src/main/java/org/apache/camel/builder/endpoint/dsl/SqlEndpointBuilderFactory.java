@@ -1343,6 +1343,64 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("batch", batch);
             return this;
         }
+        /**
+         * If set greater than zero, then concurrent exchanges sent to the
+         * producer are grouped together and executed as a single JDBC batch
+         * (group commit), where each exchange gets its own update count or
+         * error. This option sets the maximum number of exchanges in a group.
+         * This cannot be used together with batch.
+         * 
+         * The option is a: <code>int</code> type.
+         * 
+         * Group: producer
+         */
+        default SqlEndpointProducerBuilder groupCommitSize(
+                int groupCommitSize) {
+            doSetProperty("groupCommitSize", groupCommitSize);
+            return this;
+        }
+        /**
+         * If set greater than zero, then concurrent exchanges sent to the
+         * producer are grouped together and executed as a single JDBC batch
+         * (group commit), where each exchange gets its own update count or
+         * error. This option sets the maximum number of exchanges in a group.
+         * This cannot be used together with batch.
+         * 
+         * The option will be converted to a <code>int</code> type.
+         * 
+         * Group: producer
+         */
+        default SqlEndpointProducerBuilder groupCommitSize(
+                String groupCommitSize) {
+            doSetProperty("groupCommitSize", groupCommitSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more exchanges to join a group,
+         * before the group is executed, when using groupCommitSize.
+         * 
+         * The option is a: <code>long</code> type.
+         * 
+         * Group: producer
+         */
+        default SqlEndpointProducerBuilder groupCommitTimeout(
+                long groupCommitTimeout) {
+            doSetProperty("groupCommitTimeout", groupCommitTimeout);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more exchanges to join a group,
+         * before the group is executed, when using groupCommitSize.
+         * 
+         * The option will be converted to a <code>long</code> type.
+         * 
+         * Group: producer
+         */
+        default SqlEndpointProducerBuilder groupCommitTimeout(
+                String groupCommitTimeout) {
+            doSetProperty("groupCommitTimeout", groupCommitTimeout);
+            return this;
+        }
         /**
          * Whether the producer should be started lazy (on the first message).
          * By starting lazy you can use this to allow CamelContext and routes to
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.headersmap;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.spi.HeadersMapFactory;
+
+/**
+ * A headers {@link Map} which shares its content with the map it was copied from, until either map is changed,
+ * at which point the changed map makes its own copy of the content (copy-on-write).
+ * <p/>
+ * The content is stored in a map created by the delegate {@link HeadersMapFactory}, which means this map is case insensitive
+ * if the delegate is case insensitive.
+ *
+ * @see CopyOnWriteHeadersMapFactory
+ */
+public class CopyOnWriteHeadersMap extends AbstractMap<String, Object> {
+
+    private final HeadersMapFactory factory;
+    private Map<String, Object> map;
+    private volatile boolean shared;
+    private Set<Entry<String, Object>> entrySet;
+
+    CopyOnWriteHeadersMap(HeadersMapFactory factory, Map<String, Object> map) {
+        this.factory = factory;
+        this.map = map;
+    }
+
+    /**
+     * Creates a copy of this map which shares the content until either map is changed.
+     */
+    CopyOnWriteHeadersMap copy() {
+        CopyOnWriteHeadersMap answer = new CopyOnWriteHeadersMap(factory, map);
+        answer.shared = true;
+        shared = true;
+        return answer;
+    }
+
+    /**
+     * Whether the content is currently shared with other maps.
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return mutableMap().put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        if (!m.isEmpty()) {
+            mutableMap().putAll(m);
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (shared && !map.containsKey(key)) {
+            // avoid copying when there is nothing to remove
+            return null;
+        }
+        return mutableMap().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            // no need to copy the content that is being cleared
+            map = factory.newMap();
+            shared = false;
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Map<String, Object> mutableMap() {
+        if (shared) {
+            map = factory.newMap(map);
+            shared = false;
+        }
+        return map;
+    }
+
+    /**
+     * Entry set view which iterates the current content, and where changes are applied via the map (copy-on-write)
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            final Map<String, Object> iterated = map;
+            final Iterator<Entry<String, Object>> it = iterated.entrySet().iterator();
+            return new Iterator<Entry<String, Object>>() {
+                private String last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    Entry<String, Object> entry = it.next();
+                    last = entry.getKey();
+                    return new SimpleEntry<String, Object>(entry) {
+                        @Override
+                        public Object setValue(Object value) {
+                            super.setValue(value);
+                            return put(getKey(), value);
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    if (map == iterated && !shared) {
+                        it.remove();
+                    } else {
+                        // the content is shared (or has been copied) so remove via the map
+                        CopyOnWriteHeadersMap.this.remove(last);
+                    }
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteHeadersMap.this.clear();
+        }
+    }
+
+}
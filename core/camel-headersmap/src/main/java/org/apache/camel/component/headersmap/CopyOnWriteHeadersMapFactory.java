@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.headersmap;
+
+import java.util.Map;
+
+import org.apache.camel.spi.HeadersMapFactory;
+
+/**
+ * A {@link HeadersMapFactory} which creates {@link CopyOnWriteHeadersMap} maps, where a copy of a map shares the content
+ * with the map it was copied from until either of the maps is changed.
+ * <p/>
+ * This makes copying the headers cheap for EIPs such as Multicast, Recipient List, Wire Tap and the Splitter,
+ * when the copied exchanges only read the headers.
+ * <p/>
+ * The content is stored in maps created by the delegate factory, which by default is {@link FastHeadersMapFactory}.
+ */
+public class CopyOnWriteHeadersMapFactory implements HeadersMapFactory {
+
+    private final HeadersMapFactory delegate;
+
+    public CopyOnWriteHeadersMapFactory() {
+        this(new FastHeadersMapFactory());
+    }
+
+    public CopyOnWriteHeadersMapFactory(HeadersMapFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new CopyOnWriteHeadersMap(delegate, delegate.newMap());
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        if (map instanceof CopyOnWriteHeadersMap) {
+            return ((CopyOnWriteHeadersMap) map).copy();
+        }
+        return new CopyOnWriteHeadersMap(delegate, delegate.newMap(map));
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof CopyOnWriteHeadersMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return delegate.isCaseInsensitive();
+    }
+
+    @Override
+    public String toString() {
+        return "CopyOnWriteHeadersMapFactory[" + delegate.getClass().getSimpleName() + "]";
+    }
+}
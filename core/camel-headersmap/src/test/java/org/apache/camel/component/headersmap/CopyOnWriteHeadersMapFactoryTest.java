@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.headersmap;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CopyOnWriteHeadersMapFactoryTest extends Assert {
+
+    private final CopyOnWriteHeadersMapFactory factory = new CopyOnWriteHeadersMapFactory();
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = factory.newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertTrue(factory.isCaseInsensitive());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> map = factory.newMap();
+        map.put("Foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> copy = factory.newMap(map);
+        assertTrue(((CopyOnWriteHeadersMap) map).isShared());
+        assertTrue(((CopyOnWriteHeadersMap) copy).isShared());
+        assertEquals("cheese", copy.get("FOO"));
+        assertEquals(123, copy.get("BAR"));
+
+        // reading or removing unknown keys should not copy
+        copy.remove("unknown");
+        assertTrue(((CopyOnWriteHeadersMap) copy).isShared());
+
+        copy.put("foo", "wine");
+        assertFalse(((CopyOnWriteHeadersMap) copy).isShared());
+        assertEquals("wine", copy.get("Foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        map.remove("BAR");
+        assertNull(map.get("bar"));
+        assertEquals(123, copy.get("bar"));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        Map<String, Object> map = factory.newMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+        map.put("beer", "cold");
+
+        Map<String, Object> copy = factory.newMap(map);
+        Iterator<String> it = copy.keySet().iterator();
+        while (it.hasNext()) {
+            if (!it.next().equals("beer")) {
+                it.remove();
+            }
+        }
+        assertEquals(1, copy.size());
+        assertEquals(3, map.size());
+
+        it = map.keySet().iterator();
+        it.next();
+        it.remove();
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testClear() {
+        Map<String, Object> map = factory.newMap();
+        map.put("foo", "cheese");
+
+        Map<String, Object> copy = factory.newMap(map);
+        copy.clear();
+        assertTrue(copy.isEmpty());
+        assertEquals("cheese", map.get("foo"));
+    }
+
+    @Test
+    public void testIsInstance() {
+        Map<String, Object> map = factory.newMap();
+
+        Map<String, Object> other = factory.newMap(new HashMap<>());
+        other.put("Foo", "cheese");
+
+        assertTrue(factory.isInstanceOf(map));
+        assertTrue(factory.isInstanceOf(other));
+        assertFalse(factory.isInstanceOf(new HashMap<>()));
+        assertFalse(factory.isInstanceOf(new FastHeadersMapFactory().newMap()));
+    }
+
+}
@@ -38,7 +38,6 @@ import org.apache.camel.NoSuchLanguageException;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.PropertyBindingException;
 import org.apache.camel.RoutesBuilder;
-import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.model.HystrixConfigurationDefinition;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
@@ -214,6 +213,11 @@ public abstract class BaseMainSupport extends ServiceSupport {
         return routeBuilderClasses;
     }
 
+    /**
+     * Sets classes names that implement {@link RoutesBuilder} such as a RouteBuilder, or a snapshot of the routes
+     * generated at build time by the routes-snapshot goal of the camel-maven-plugin.
+     * You can use comma to separate multiple classes.
+     */
     public void setRouteBuilderClasses(String builders) {
         this.routeBuilderClasses = builders;
     }
@@ -405,10 +409,11 @@ public abstract class BaseMainSupport extends ServiceSupport {
                 Class<?> routeClazz = camelContext.getClassResolver().resolveClass(routeClass);
                 // lets use Camel's injector so the class has some support for dependency injection
                 Object builder = camelContext.getInjector().newInstance(routeClazz);
-                if (builder instanceof RouteBuilder) {
-                    getRoutesBuilders().add((RouteBuilder) builder);
+                // a RoutesBuilder is also allowed such as a routes snapshot generated by the camel-maven-plugin
+                if (builder instanceof RoutesBuilder) {
+                    getRoutesBuilders().add((RoutesBuilder) builder);
                 } else {
-                    LOG.warn("Class {} is not a RouteBuilder class", routeClazz);
+                    LOG.warn("Class {} is not a RoutesBuilder class", routeClazz);
                 }
             }
         }
@@ -39,6 +39,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private int producerTemplateCacheSize = 1000;
     private int consumerTemplateCacheSize = 1000;
     private boolean loadTypeConverters = true;
+    private int routeStartupPoolSize;
     private int logDebugMaxChars;
     private boolean streamCachingEnabled;
     private String streamCachingSpoolDirectory;
@@ -48,12 +49,16 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
+    private boolean streamCachingOffHeap;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean backlogTracing;
     private boolean tracing;
     private String tracingPattern;
     private boolean messageHistory = true;
+    private int messageHistoryRingBufferSize;
+    private int messageHistorySampleRate = 1;
+    private boolean inflightRepositoryBrowseEnabled = true;
     private boolean logMask;
     private boolean logExhaustedMessageBody;
     private boolean autoStartup = true;
@@ -252,6 +257,20 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadTypeConverters = loadTypeConverters;
     }
 
+    public int getRouteStartupPoolSize() {
+        return routeStartupPoolSize;
+    }
+
+    /**
+     * Number of threads to use for starting routes concurrently, which can speedup starting Camel
+     * when there are many routes, or routes with endpoints that take time to start.
+     * Routes with an explicit startupOrder are still started one at a time in their startup order.
+     * The default is 0 to start the routes one at a time.
+     */
+    public void setRouteStartupPoolSize(int routeStartupPoolSize) {
+        this.routeStartupPoolSize = routeStartupPoolSize;
+    }
+
     public int getLogDebugMaxChars() {
         return logDebugMaxChars;
     }
@@ -368,6 +387,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingBufferSize = streamCachingBufferSize;
     }
 
+    public boolean isStreamCachingOffHeap() {
+        return streamCachingOffHeap;
+    }
+
+    /**
+     * Sets whether to cache streams off heap, where in-memory stream caches are held in pooled direct buffers,
+     * and stream caches spooled to disk are read using memory mapped files.
+     *
+     * The stream caches must not be used after the exchange is done, as the buffers are then reused.
+     * This option is default false.
+     */
+    public void setStreamCachingOffHeap(boolean streamCachingOffHeap) {
+        this.streamCachingOffHeap = streamCachingOffHeap;
+    }
+
     public boolean isStreamCachingRemoveSpoolDirectoryWhenStopping() {
         return streamCachingRemoveSpoolDirectoryWhenStopping;
     }
@@ -444,6 +478,48 @@ public abstract class DefaultConfigurationProperties<T> {
         this.messageHistory = messageHistory;
     }
 
+    public int getMessageHistoryRingBufferSize() {
+        return messageHistoryRingBufferSize;
+    }
+
+    /**
+     * Sets the number of nodes to keep in the message history of each exchange. When set, then the message history
+     * is kept in a compact ring buffer which keeps the most recent nodes.
+     *
+     * Default is 0, which keeps the message history of all the nodes.
+     */
+    public void setMessageHistoryRingBufferSize(int messageHistoryRingBufferSize) {
+        this.messageHistoryRingBufferSize = messageHistoryRingBufferSize;
+    }
+
+    public int getMessageHistorySampleRate() {
+        return messageHistorySampleRate;
+    }
+
+    /**
+     * Sets to only keep the message history of (on average) 1 in N exchanges, to reduce the overhead of message history
+     * under high load.
+     *
+     * Default is 1, which keeps the message history of every exchange.
+     */
+    public void setMessageHistorySampleRate(int messageHistorySampleRate) {
+        this.messageHistorySampleRate = messageHistorySampleRate;
+    }
+
+    public boolean isInflightRepositoryBrowseEnabled() {
+        return inflightRepositoryBrowseEnabled;
+    }
+
+    /**
+     * Sets whether the inflight repository should allow browsing each inflight exchange.
+     *
+     * This is by default enabled. When disabled then only the number of inflight exchanges is counted,
+     * which has less overhead when routing exchanges concurrently.
+     */
+    public void setInflightRepositoryBrowseEnabled(boolean inflightRepositoryBrowseEnabled) {
+        this.inflightRepositoryBrowseEnabled = inflightRepositoryBrowseEnabled;
+    }
+
     public boolean isLogMask() {
         return logMask;
     }
@@ -842,6 +918,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Number of threads to use for starting routes concurrently, which can speedup starting Camel
+     * when there are many routes, or routes with endpoints that take time to start.
+     * Routes with an explicit startupOrder are still started one at a time in their startup order.
+     * The default is 0 to start the routes one at a time.
+     */
+    public T withRouteStartupPoolSize(int routeStartupPoolSize) {
+        this.routeStartupPoolSize = routeStartupPoolSize;
+        return (T) this;
+    }
+
     /**
      * Is used to limit the maximum length of the logging Camel message bodies. If the message body
      * is longer than the limit, the log message is clipped. Use -1 to have unlimited length.
@@ -931,6 +1018,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether to cache streams off heap, where in-memory stream caches are held in pooled direct buffers,
+     * and stream caches spooled to disk are read using memory mapped files.
+     *
+     * The stream caches must not be used after the exchange is done, as the buffers are then reused.
+     * This option is default false.
+     */
+    public T withStreamCachingOffHeap(boolean streamCachingOffHeap) {
+        this.streamCachingOffHeap = streamCachingOffHeap;
+        return (T) this;
+    }
+
     /**
      * Whether to remove stream caching temporary directory when stopping.
      * This option is default true.
@@ -978,6 +1077,39 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the number of nodes to keep in the message history of each exchange. When set, then the message history
+     * is kept in a compact ring buffer which keeps the most recent nodes.
+     *
+     * Default is 0, which keeps the message history of all the nodes.
+     */
+    public T withMessageHistoryRingBufferSize(int messageHistoryRingBufferSize) {
+        this.messageHistoryRingBufferSize = messageHistoryRingBufferSize;
+        return (T) this;
+    }
+
+    /**
+     * Sets to only keep the message history of (on average) 1 in N exchanges, to reduce the overhead of message history
+     * under high load.
+     *
+     * Default is 1, which keeps the message history of every exchange.
+     */
+    public T withMessageHistorySampleRate(int messageHistorySampleRate) {
+        this.messageHistorySampleRate = messageHistorySampleRate;
+        return (T) this;
+    }
+
+    /**
+     * Sets whether the inflight repository should allow browsing each inflight exchange.
+     *
+     * This is by default enabled. When disabled then only the number of inflight exchanges is counted,
+     * which has less overhead when routing exchanges concurrently.
+     */
+    public T withInflightRepositoryBrowseEnabled(boolean inflightRepositoryBrowseEnabled) {
+        this.inflightRepositoryBrowseEnabled = inflightRepositoryBrowseEnabled;
+        return (T) this;
+    }
+
     /**
      * Sets whether log mask is enabled or not.
      *
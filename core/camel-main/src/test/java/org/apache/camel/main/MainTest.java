@@ -48,6 +48,22 @@ public class MainTest extends Assert {
         main.stop();
     }
 
+    @Test
+    public void testMessageHistoryConfiguration() throws Exception {
+        Main main = new Main();
+        main.addRoutesBuilder(new MyRouteBuilder());
+        main.configure().withMessageHistoryRingBufferSize(5).withMessageHistorySampleRate(10);
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+
+        assertEquals(5, camelContext.getMessageHistoryRingBufferSize());
+        assertEquals(10, camelContext.getMessageHistorySampleRate());
+        assertEquals(5, camelContext.getMessageHistoryFactory().getRingBufferSize());
+
+        main.stop();
+    }
+
     @Test
     public void testDisableHangupSupport() throws Exception {
         // lets make a simple route
@@ -69,6 +69,9 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Optimistic locking")
     boolean isOptimisticLocking();
 
+    @ManagedAttribute(description = "Number of locks used for lock striping, where 0 is using a single lock")
+    int getLockStripes();
+
     @ManagedAttribute(description = "Whether or not to eager check for completion when a new incoming Exchange has been received")
     boolean isEagerCheckCompletion();
 
@@ -141,6 +144,12 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Total number of exchanged discarded")
     long getDiscarded();
 
+    @ManagedAttribute(description = "Total number of times an incoming exchange had to wait for the aggregation lock")
+    long getLockContentions();
+
+    @ManagedAttribute(description = "Total time in millis incoming exchanges have waited for the aggregation lock")
+    long getLockWaitTime();
+
     @ManagedOperation(description = " Reset the statistics counters")
     void resetStatistics();
 
@@ -38,4 +38,7 @@ public interface ManagedMulticastMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "The total timeout specified in millis, when using parallel processing.")
     Long getTimeout();
 
+    @ManagedAttribute(description = "The maximum number of sub exchanges in progress at the same time, when using parallel processing.")
+    Integer getMaxInflight();
+
 }
\ No newline at end of file
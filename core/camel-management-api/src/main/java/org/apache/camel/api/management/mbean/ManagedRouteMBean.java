@@ -48,6 +48,9 @@ public interface ManagedRouteMBean extends ManagedPerformanceCounterMBean {
     @ManagedAttribute(description = "Route Uptime [milliseconds]")
     long getUptimeMillis();
 
+    @ManagedAttribute(description = "Time taken to start the route [milliseconds]")
+    long getStartupTimeMillis();
+
     @ManagedAttribute(description = "Camel ID")
     String getCamelId();
 
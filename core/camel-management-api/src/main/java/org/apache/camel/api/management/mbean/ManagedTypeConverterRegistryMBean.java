@@ -38,6 +38,12 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of times the type converter to use was found in the lookup cache")
+    long getCacheHitCounter();
+
+    @ManagedAttribute(description = "Number of times the type converter to use was not in the lookup cache")
+    long getCacheMissCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
@@ -153,6 +153,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.isOptimisticLocking();
     }
 
+    @Override
+    public int getLockStripes() {
+        return processor.getLockStripes();
+    }
+
     @Override
     public boolean isEagerCheckCompletion() {
         return processor.isEagerCheckCompletion();
@@ -302,6 +307,16 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.getStatistics().getDiscarded();
     }
 
+    @Override
+    public long getLockContentions() {
+        return processor.getStatistics().getLockContentions();
+    }
+
+    @Override
+    public long getLockWaitTime() {
+        return processor.getStatistics().getLockWaitTime();
+    }
+
     @Override
     public void resetStatistics() {
         processor.getStatistics().reset();
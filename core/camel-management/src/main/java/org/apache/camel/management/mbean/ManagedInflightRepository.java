@@ -53,6 +53,11 @@ public class ManagedInflightRepository extends ManagedService implements Managed
         return inflightRepository.size();
     }
 
+    @Override
+    public boolean isInflightBrowseEnabled() {
+        return inflightRepository.isInflightBrowseEnabled();
+    }
+
     @Override
     public int size(String routeId) {
         return inflightRepository.size(routeId);
@@ -168,6 +168,11 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         return route.getUptimeMillis();
     }
 
+    @Override
+    public long getStartupTimeMillis() {
+        return route.getStartupTimeMillis();
+    }
+
     public Integer getInflightExchanges() {
         return (int) super.getExchangesInflight();
     }
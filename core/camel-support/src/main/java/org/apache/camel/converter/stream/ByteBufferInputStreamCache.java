@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for caching using {@link ByteBuffer}s, such as pooled direct buffers
+ * or memory mapped spool files.
+ * <p/>
+ * The buffers are shared (not copied) by all the copies of the stream cache, where each copy reads
+ * using its own views of the buffers. The buffers are released when all the exchanges using
+ * the stream cache are done (and pooled buffers are reused by other exchanges), after which the
+ * stream cache cannot be read, reset or copied, and an {@link IllegalStateException} is thrown.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private volatile ByteBuffer[] buffers;
+    private final boolean inMemory;
+    private final long length;
+    private volatile ByteBuffer[] views;
+    private int index;
+
+    ByteBufferInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager, ByteBuffer[] buffers, boolean inMemory) {
+        this.tempFileManager = tempFileManager;
+        this.buffers = buffers;
+        this.inMemory = inMemory;
+        long total = 0;
+        for (ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        this.length = total;
+        this.views = newViews();
+        this.tempFileManager.add(this);
+    }
+
+    private ByteBuffer[] newViews() {
+        ByteBuffer[] answer = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            answer[i] = buffers[i].duplicate();
+        }
+        return answer;
+    }
+
+    private ByteBuffer[] getViews() {
+        ByteBuffer[] answer = views;
+        if (answer == null) {
+            throw new IllegalStateException("Stream cache has been released as the exchanges using it are done");
+        }
+        return answer;
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer[] current = getViews();
+        while (index < current.length) {
+            ByteBuffer view = current[index];
+            if (view.hasRemaining()) {
+                return view.get() & 0xff;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer[] current = getViews();
+        int total = 0;
+        while (total < len && index < current.length) {
+            ByteBuffer view = current[index];
+            int n = Math.min(len - total, view.remaining());
+            if (n == 0) {
+                index++;
+            } else {
+                view.get(b, off + total, n);
+                total += n;
+            }
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        ByteBuffer[] current = getViews();
+        long total = 0;
+        while (total < n && index < current.length) {
+            ByteBuffer view = current[index];
+            int skip = (int) Math.min(n - total, view.remaining());
+            if (skip == 0) {
+                index++;
+            } else {
+                view.position(view.position() + skip);
+                total += skip;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ByteBuffer[] current = getViews();
+        long total = 0;
+        for (int i = index; i < current.length; i++) {
+            total += current[i].remaining();
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void reset() {
+        for (ByteBuffer view : getViews()) {
+            view.rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void close() {
+        // noop as the stream cache can be reset and read again
+    }
+
+    /**
+     * Releases the buffers and their views, as the buffers is no longer in use
+     */
+    void release() {
+        views = null;
+        buffers = null;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        ByteBuffer[] current = getViews();
+        byte[] chunk = null;
+        for (int i = index; i < current.length; i++) {
+            // use another view so the position of this stream is not changed
+            ByteBuffer view = current[i].duplicate();
+            if (view.hasArray()) {
+                os.write(view.array(), view.arrayOffset() + view.position(), view.remaining());
+            } else {
+                if (chunk == null) {
+                    chunk = new byte[(int) Math.min(length, 8192)];
+                }
+                while (view.hasRemaining()) {
+                    int n = Math.min(chunk.length, view.remaining());
+                    view.get(chunk, 0, n);
+                    os.write(chunk, 0, n);
+                }
+            }
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        // the buffers may be in use by other exchanges if this stream cache has been released
+        ByteBuffer[] current = buffers;
+        if (current == null) {
+            throw new IllegalStateException("Stream cache has been released as the exchanges using it are done");
+        }
+        tempFileManager.addExchange(exchange);
+        return new ByteBufferInputStreamCache(tempFileManager, current, inMemory);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return inMemory;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+}
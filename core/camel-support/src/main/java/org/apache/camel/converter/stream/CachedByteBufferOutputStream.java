@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} which writes to pooled direct buffers, and is capable of returning a
+ * {@link ByteBufferInputStreamCache} view of the buffers.
+ * <p/>
+ * The buffers are acquired from and tracked by the {@link FileInputStreamCache.TempFileManager}, which
+ * returns the buffers to the pool when the exchanges using the stream caches are done.
+ */
+final class CachedByteBufferOutputStream extends OutputStream {
+
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private ByteBuffer current;
+    private long count;
+
+    CachedByteBufferOutputStream(FileInputStreamCache.TempFileManager tempFileManager) {
+        this.tempFileManager = tempFileManager;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (current == null || !current.hasRemaining()) {
+            current = tempFileManager.acquireBuffer();
+        }
+        current.put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (current == null || !current.hasRemaining()) {
+                current = tempFileManager.acquireBuffer();
+            }
+            int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    /**
+     * Writes the content of the buffers to the given stream
+     */
+    void writeTo(OutputStream out) throws IOException {
+        byte[] chunk = null;
+        for (ByteBuffer view : views()) {
+            if (chunk == null) {
+                chunk = new byte[view.capacity()];
+            }
+            while (view.hasRemaining()) {
+                int n = Math.min(chunk.length, view.remaining());
+                view.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link ByteBufferInputStreamCache} view of the buffers
+     */
+    ByteBufferInputStreamCache newInputStreamCache() {
+        return new ByteBufferInputStreamCache(tempFileManager, views(), true);
+    }
+
+    long size() {
+        return count;
+    }
+
+    private ByteBuffer[] views() {
+        List<ByteBuffer> buffers = tempFileManager.getBuffers();
+        ByteBuffer[] answer = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < answer.length; i++) {
+            // the written part of the buffer
+            ByteBuffer view = buffers.get(i).duplicate();
+            view.flip();
+            answer[i] = view.asReadOnlyBuffer();
+        }
+        return answer;
+    }
+}
@@ -37,6 +37,10 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this 
  * output stream will be deleted when you close this output stream or the cached 
  * fileInputStream(s) is/are closed after all the exchanges using the temp file are completed.
+ * <p/>
+ * If the stream caching strategy is {@link StreamCachingStrategy#isOffHeap() off heap}, then the content
+ * is stored in pooled direct buffers instead of a byte array, and the temp file is read using memory mapping
+ * (unless a spool cipher is in use).
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -46,6 +50,7 @@ public class CachedOutputStream extends OutputStream {
     private int totalLength;
     private final TempFileManager tempFileManager;
     private final boolean closedOnCompletion;
+    private final boolean offHeap;
 
     public CachedOutputStream(Exchange exchange) {
         this(exchange, true);
@@ -56,7 +61,14 @@ public class CachedOutputStream extends OutputStream {
         tempFileManager = new TempFileManager(closedOnCompletion);
         tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        StreamCachingStrategy.BufferPool bufferPool = strategy.isOffHeap() ? strategy.getBufferPool() : null;
+        if (bufferPool != null) {
+            tempFileManager.setBufferPool(bufferPool);
+            currentStream = new CachedByteBufferOutputStream(tempFileManager);
+        } else {
+            currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
+        this.offHeap = bufferPool != null;
     }
 
     @Override
@@ -70,6 +82,7 @@ public class CachedOutputStream extends OutputStream {
         // need to clean up the temp file this time
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
+            tempFileManager.releaseBuffers();
             tempFileManager.cleanUpTempFile();
         }
     }
@@ -96,7 +109,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b, off, len);
@@ -105,7 +118,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -114,7 +127,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -138,9 +151,13 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream) {
                 return ((CachedByteArrayOutputStream) currentStream).newInputStreamCache();
+            } else if (currentStream instanceof CachedByteBufferOutputStream) {
+                return ((CachedByteBufferOutputStream) currentStream).newInputStreamCache();
             } else {
                 throw new IllegalStateException("CurrentStream should be an instance of CachedByteArrayOutputStream but is: " + currentStream.getClass().getName());
             }
+        } else if (offHeap && tempFileManager.getCiphers() == null && TempFileManager.isMappingSupported()) {
+            return tempFileManager.newMappedStreamCache();
         } else {
             return tempFileManager.newStreamCache();
         }
@@ -149,11 +166,19 @@ public class CachedOutputStream extends OutputStream {
 
     private void pageToFileStream() throws IOException {
         flush();
-        ByteArrayOutputStream bout = (ByteArrayOutputStream)currentStream;
+        OutputStream bout = currentStream;
         try {
             // creates an tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (bout instanceof CachedByteBufferOutputStream) {
+                ((CachedByteBufferOutputStream) bout).writeTo(currentStream);
+                // the buffers can be reused right away, unless there are stream caches using them
+                if (!tempFileManager.hasStreamCaches()) {
+                    tempFileManager.releaseBuffers();
+                }
+            } else {
+                ((ByteArrayOutputStream) bout).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
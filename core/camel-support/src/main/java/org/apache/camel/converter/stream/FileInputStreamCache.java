@@ -23,10 +23,16 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -155,20 +161,63 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
      * Counts the number of exchanges which have a FileInputStreamCache  instance of the temporary file.
      * Deletes the temporary file, if all exchanges are done.
      * 
+     * When caching off heap, then the pooled buffers of the in-memory stream cache are also managed,
+     * and returned to the pool, if all exchanges are done.
+     * 
      * @see CachedOutputStream
      */
     static class TempFileManager {
         
         private static final Logger LOG = LoggerFactory.getLogger(TempFileManager.class);
+        private static final long MAX_MAPPED_SIZE = Integer.MAX_VALUE;
+        // to unmap the memory mapped temporary file, as it cannot be deleted on some OS (such as Windows) while mapped
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+        private static final Method CLEANER;
+        private static final Method CLEAN;
         /** Indicator whether the file input stream caches are closed on completion of the exchanges. */
         private final boolean closedOnCompletion;
         private AtomicInteger exchangeCounter = new AtomicInteger();
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private StreamCachingStrategy.BufferPool bufferPool;
+        private List<ByteBuffer> buffers; // pooled buffers of the in-memory cache
+        private ByteBuffer[] mappedBuffers; // memory mapped temporary file
+        private List<ByteBuffer> mappings; // all the mappings of the temporary file, which must be unmapped
         
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
-        private List<FileInputStreamCache> fileInputStreamCaches;
+        private List<InputStream> fileInputStreamCaches;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            Method cleaner = null;
+            Method clean = null;
+            try {
+                // java 9 onwards
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                unsafe = field.get(null);
+            } catch (Throwable e) {
+                invokeCleaner = null;
+                try {
+                    // java 8
+                    cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+                    clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+                } catch (Throwable t) {
+                    LOG.debug("Memory mapped files cannot be unmapped on this JVM. Spool files will not be memory mapped.", t);
+                    cleaner = null;
+                    clean = null;
+                }
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+            CLEANER = cleaner;
+            CLEAN = clean;
+        }
 
         /** Only for testing.*/
         private TempFileManager(File file, boolean closedOnCompletion) {
@@ -180,11 +229,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             this.closedOnCompletion = closedOnCompletion;
         }
                 
-        /** Adds a FileInputStreamCache instance to the closer.
+        /** Adds a FileInputStreamCache (or ByteBufferInputStreamCache) instance to the closer.
          * <p>
          * Must be synchronized, because can be accessed by several threads. 
          */
-        synchronized void add(FileInputStreamCache fileInputStreamCache) {
+        synchronized void add(InputStream fileInputStreamCache) {
             if (fileInputStreamCaches == null) {
                 fileInputStreamCaches = new ArrayList<>(3);
             }
@@ -203,6 +252,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             // only one exchange (one thread) left, therefore we must not synchronize the following lines of code
                             try {                              
                                 closeFileInputStreams();
+                                releaseBuffers();
                                 if (outputStream != null) {
                                     outputStream.close();
                                 }
@@ -275,10 +325,133 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
         
+        /**
+         * Creates a new stream cache which reads the temporary file using memory mapping.
+         */
+        synchronized ByteBufferInputStreamCache newMappedStreamCache() throws IOException {
+            long length = tempFile.length();
+            if (mappedBuffers == null || mappedLength() != length) {
+                // map in chunks as a buffer cannot be larger than 2gb
+                int chunks = (int) ((length + MAX_MAPPED_SIZE - 1) / MAX_MAPPED_SIZE);
+                ByteBuffer[] answer = new ByteBuffer[chunks];
+                try (RandomAccessFile raf = new RandomAccessFile(tempFile, "r")) {
+                    FileChannel channel = raf.getChannel();
+                    for (int i = 0; i < chunks; i++) {
+                        long position = i * MAX_MAPPED_SIZE;
+                        answer[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_SIZE, length - position));
+                    }
+                }
+                // the previous mappings may still be in use by stream caches, so they are unmapped together with these
+                if (mappings == null) {
+                    mappings = new ArrayList<>();
+                }
+                Collections.addAll(mappings, answer);
+                mappedBuffers = answer;
+            }
+            ByteBuffer[] views = new ByteBuffer[mappedBuffers.length];
+            for (int i = 0; i < views.length; i++) {
+                views[i] = mappedBuffers[i].duplicate();
+            }
+            return new ByteBufferInputStreamCache(this, views, false);
+        }
+
+        /**
+         * Whether the temporary file can be memory mapped, which requires that the mapping can be released before
+         * the temporary file is deleted.
+         */
+        static boolean isMappingSupported() {
+            return INVOKE_CLEANER != null || CLEAN != null;
+        }
+
+        /**
+         * Unmaps the memory mapped buffer. The buffer (and its views) must not be accessed afterwards.
+         *
+         * @return <tt>true</tt> if unmapped, <tt>false</tt> if the buffer is unmapped when its garbage collected
+         */
+        static boolean unmap(ByteBuffer buffer) {
+            try {
+                if (INVOKE_CLEANER != null) {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                    return true;
+                } else if (CLEAN != null) {
+                    Object cleaner = CLEANER.invoke(buffer);
+                    if (cleaner != null) {
+                        CLEAN.invoke(cleaner);
+                        return true;
+                    }
+                }
+            } catch (Exception e) {
+                LOG.debug("Error unmapping buffer. The buffer is unmapped when it is garbage collected.", e);
+            }
+            return false;
+        }
+
+        private long mappedLength() {
+            long answer = 0;
+            for (ByteBuffer buffer : mappedBuffers) {
+                answer += buffer.capacity();
+            }
+            return answer;
+        }
+
+        void setBufferPool(StreamCachingStrategy.BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+        }
+
+        /**
+         * Acquires a buffer from the pool, which is returned to the pool by {@link #releaseBuffers()}.
+         */
+        synchronized ByteBuffer acquireBuffer() {
+            if (buffers == null) {
+                buffers = new ArrayList<>();
+            }
+            ByteBuffer buffer = bufferPool.acquire();
+            buffers.add(buffer);
+            return buffer;
+        }
+
+        synchronized List<ByteBuffer> getBuffers() {
+            return buffers != null ? new ArrayList<>(buffers) : Collections.emptyList();
+        }
+
+        /**
+         * Whether any stream caches has been created, which may be using the pooled buffers.
+         */
+        synchronized boolean hasStreamCaches() {
+            return fileInputStreamCaches != null && !fileInputStreamCaches.isEmpty();
+        }
+
+        /**
+         * Returns the pooled buffers to the pool.
+         * <p/>
+         * The stream caches using the buffers must be closed before, so the buffers cannot be read after
+         * they have been reused.
+         */
+        synchronized void releaseBuffers() {
+            if (buffers != null) {
+                for (ByteBuffer buffer : buffers) {
+                    bufferPool.release(buffer);
+                }
+                buffers = null;
+            }
+            if (mappings != null) {
+                // unmap so the temporary file can be deleted
+                for (ByteBuffer mapping : mappings) {
+                    unmap(mapping);
+                }
+                mappings = null;
+            }
+            mappedBuffers = null;
+        }
+
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
-                for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
-                    fileInputStreamCache.close();
+                for (InputStream fileInputStreamCache : fileInputStreamCaches) {
+                    if (fileInputStreamCache instanceof ByteBufferInputStreamCache) {
+                        ((ByteBufferInputStreamCache) fileInputStreamCache).release();
+                    } else {
+                        IOHelper.close(fileInputStreamCache);
+                    }
                 }
                 fileInputStreamCaches.clear();
             }
@@ -288,7 +461,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             // cleanup temporary file
             try {
                 if (tempFile != null) {
-                    FileUtil.deleteFile(tempFile);
+                    if (!FileUtil.deleteFile(tempFile) && tempFile.exists()) {
+                        // the file may still be in use, so try again when the JVM exits
+                        LOG.warn("Cannot delete temporary cache file: {}. The file will be deleted when the JVM exits.", tempFile);
+                        tempFile.deleteOnExit();
+                    }
                     tempFile = null;
                 }
             } catch (Exception e) {
@@ -16,7 +16,11 @@
  */
 package org.apache.camel.support;
 
+import java.util.List;
+
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.spi.AsyncProcessorAwaitManager;
@@ -47,4 +51,61 @@ public final class AsyncProcessorHelper {
         awaitManager.process(processor, exchange);
     }
 
+    /**
+     * Processes the batch of exchanges using the given processor. If the processor is a {@link BatchProcessor} then
+     * the batch is processed by the processor, otherwise the exchanges are processed one by one
+     * using {@link #processEach(AsyncProcessor, List, AsyncCallback)}.
+     *
+     * @param processor the processor
+     * @param exchanges the exchanges
+     * @param callback  the callback which is invoked when all the exchanges has been processed
+     * @return (doneSync) <tt>true</tt> to continue execute synchronously, <tt>false</tt> to continue being executed asynchronously
+     */
+    public static boolean processBatch(AsyncProcessor processor, List<Exchange> exchanges, AsyncCallback callback) {
+        if (processor instanceof BatchProcessor) {
+            return ((BatchProcessor) processor).processBatch(exchanges, callback);
+        }
+        return processEach(processor, exchanges, callback);
+    }
+
+    /**
+     * Processes the exchanges one by one using the given processor, where the next exchange is processed
+     * when the previous exchange is done.
+     *
+     * @param processor the processor
+     * @param exchanges the exchanges
+     * @param callback  the callback which is invoked when all the exchanges has been processed
+     * @return (doneSync) <tt>true</tt> to continue execute synchronously, <tt>false</tt> to continue being executed asynchronously
+     */
+    public static boolean processEach(AsyncProcessor processor, List<Exchange> exchanges, AsyncCallback callback) {
+        if (exchanges.isEmpty()) {
+            callback.done(true);
+            return true;
+        }
+        processNext(processor, exchanges, 0, callback);
+        return false;
+    }
+
+    private static void processNext(AsyncProcessor processor, List<Exchange> exchanges, int index, AsyncCallback callback) {
+        Exchange exchange = exchanges.get(index);
+        try {
+            processor.process(exchange, doneSync -> {
+                if (index + 1 < exchanges.size()) {
+                    exchange.getContext().getReactiveExecutor().schedule(() -> processNext(processor, exchanges, index + 1, callback),
+                            "Batch[" + (index + 1) + "/" + exchanges.size() + "," + processor + "]");
+                } else {
+                    exchange.getContext().getReactiveExecutor().callback(callback);
+                }
+            });
+        } catch (Throwable e) {
+            // the processor should not throw exceptions, but we must continue with the next exchange
+            exchange.setException(e);
+            if (index + 1 < exchanges.size()) {
+                processNext(processor, exchanges, index + 1, callback);
+            } else {
+                callback.done(false);
+            }
+        }
+    }
+
 }
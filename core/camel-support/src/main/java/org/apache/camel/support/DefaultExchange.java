@@ -19,11 +19,9 @@ package org.apache.camel.support;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelExecutionException;
@@ -114,7 +112,12 @@ public final class DefaultExchange implements Exchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            exchange.setProperties(safeCopyProperties(getProperties()));
+            if (properties instanceof ExchangePropertiesMap) {
+                // the copy shares the custom properties until either exchange changes them
+                exchange.setProperties(((ExchangePropertiesMap) properties).copy());
+            } else {
+                exchange.setProperties(safeCopyProperties(getProperties()));
+            }
         }
 
         return exchange;
@@ -139,7 +142,7 @@ public final class DefaultExchange implements Exchange {
         // safe copy message history using a defensive copy
         List<MessageHistory> history = (List<MessageHistory>) answer.remove(Exchange.MESSAGE_HISTORY);
         if (history != null) {
-            answer.put(Exchange.MESSAGE_HISTORY, new LinkedList<>(history));
+            answer.put(Exchange.MESSAGE_HISTORY, ExchangeHelper.copyMessageHistory(history));
         }
 
         return answer;
@@ -572,11 +575,11 @@ public final class DefaultExchange implements Exchange {
     }
 
     protected Map<String, Object> createProperties() {
-        return new ConcurrentHashMap<>();
+        return new ExchangePropertiesMap();
     }
 
     protected Map<String, Object> createProperties(Map<String, Object> properties) {
-        return new ConcurrentHashMap<>(properties);
+        return new ExchangePropertiesMap(properties);
     }
 
 }
@@ -50,6 +50,10 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * if its being stopped.
  * You must also invoke {@link #start()} to startup the timeout map, before its ready to be used.
  * And you must invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * By default the background task scans all the entries to find the entries to purge. When there are many entries
+ * in the map, then you can turn on {@link #setUseTimingWheel(boolean) useTimingWheel}, to keep track of the expire
+ * times in a hierarchical timing wheel, so the background task only visits the entries which are about to expire.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
@@ -60,6 +64,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
     private final Lock lock;
+    private TimingWheel<K, V> wheel;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -105,6 +110,12 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            if (wheel != null) {
+                if (result != null) {
+                    wheel.remove(result);
+                }
+                wheel.add(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -121,6 +132,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null && wheel != null) {
+                wheel.add(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -135,7 +149,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            if (entry != null && wheel != null) {
+                wheel.remove(entry);
+            }
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -177,15 +195,20 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = wheel != null ? new ArrayList<>() : new ArrayList<>(map.size());
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
+            if (wheel != null) {
+                // the timing wheel only visits the entries which are about to expire
+                wheel.expire(now, this::isValidForEviction, expired);
+            } else {
+                // need to find the expired entries and add to the expired list
+                for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
+                    if (entry.getValue().getExpireTime() < now) {
+                        if (isValidForEviction(entry.getValue())) {
+                            log.debug("Evicting inactive entry ID: {}", entry.getValue());
+                            expired.add(entry.getValue());
+                        }
                     }
                 }
             }
@@ -219,6 +242,35 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return executor;
     }
 
+    public boolean isUseTimingWheel() {
+        return wheel != null;
+    }
+
+    /**
+     * Whether to keep track of the expire times in a hierarchical timing wheel, which allows to add, remove
+     * and purge entries in constant time, instead of scanning all the entries on every purge.
+     * This is recommended when the map contains many entries (such as hundreds of thousands).
+     * <p/>
+     * The wheel advances in ticks of a tenth of the purge poll time, so entries are purged no later
+     * than when scanning all the entries.
+     */
+    public void setUseTimingWheel(boolean useTimingWheel) {
+        lock.lock();
+        try {
+            if (useTimingWheel && wheel == null) {
+                wheel = new TimingWheel<>(purgePollTime / 10, currentTime());
+                for (TimeoutMapEntry<K, V> entry : map.values()) {
+                    wheel.add(entry);
+                }
+            } else if (!useTimingWheel && wheel != null) {
+                wheel.clear();
+                wheel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -280,6 +332,14 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
         // clear map if we stop
         map.clear();
+        if (wheel != null) {
+            lock.lock();
+            try {
+                wheel.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 
 }
@@ -893,12 +893,22 @@ public final class ExchangeHelper {
         // safe copy message history using a defensive copy
         List<MessageHistory> history = (List<MessageHistory>) answer.remove(Exchange.MESSAGE_HISTORY);
         if (history != null) {
-            answer.put(Exchange.MESSAGE_HISTORY, new LinkedList<>(history));
+            answer.put(Exchange.MESSAGE_HISTORY, copyMessageHistory(history));
         }
 
         return answer;
     }
 
+    /**
+     * Creates a defensive copy of the message history
+     */
+    static List<MessageHistory> copyMessageHistory(List<MessageHistory> history) {
+        if (history instanceof MessageHistoryRingBuffer) {
+            return ((MessageHistoryRingBuffer) history).copy();
+        }
+        return new LinkedList<>(history);
+    }
+
     /**
      * @see #getCharsetName(Exchange, boolean)
      */
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.MessageHistory;
+
+/**
+ * The {@link Map} used for storing the exchange properties of {@link DefaultExchange}.
+ * <p/>
+ * The well known internal properties that Camel uses while routing (such as {@link Exchange#SPLIT_INDEX})
+ * are stored in fixed array slots, which avoids hashing and map entries for these properties. All other
+ * properties are stored in a map which is lazily created.
+ * <p/>
+ * When the exchange is copied then the map with the other properties is shared between the copies
+ * until one of the copies is changing its properties (copy-on-write), which makes copying cheap
+ * for EIPs such as the Splitter, Multicast and Wire Tap.
+ * <p/>
+ * As {@link ConcurrentHashMap} this map does not allow <tt>null</tt> keys or values, and is thread-safe:
+ * the properties can be read without locking, while changes are synchronized on the map.
+ */
+final class ExchangePropertiesMap extends AbstractMap<String, Object> {
+
+    // the well known keys in the order of their slots
+    private static final String[] KEYS = {
+        Exchange.CREATED_TIMESTAMP, Exchange.MESSAGE_HISTORY, Exchange.TO_ENDPOINT, Exchange.STEP_ID,
+        Exchange.CHARSET_NAME, Exchange.CORRELATION_ID, Exchange.EXCEPTION_CAUGHT, Exchange.ROUTE_STOP,
+        Exchange.ERRORHANDLER_HANDLED, Exchange.FAILURE_ENDPOINT, Exchange.FAILURE_ROUTE_ID, Exchange.FAILURE_HANDLED,
+        Exchange.REDELIVERY_EXHAUSTED, Exchange.ROLLBACK_ONLY, Exchange.ROLLBACK_ONLY_LAST, Exchange.STREAM_CACHE_UNIT_OF_WORK,
+        Exchange.PARENT_UNIT_OF_WORK, Exchange.AGGREGATED_SIZE, Exchange.AGGREGATED_COMPLETED_BY, Exchange.AGGREGATED_CORRELATION_KEY,
+        Exchange.SPLIT_INDEX, Exchange.SPLIT_SIZE, Exchange.SPLIT_COMPLETE, Exchange.MULTICAST_INDEX,
+        Exchange.MULTICAST_COMPLETE, Exchange.BATCH_INDEX, Exchange.BATCH_SIZE, Exchange.BATCH_COMPLETE,
+        Exchange.LOOP_INDEX, Exchange.LOOP_SIZE, Exchange.FILTER_MATCHED, Exchange.TRY_ROUTE_BLOCK
+    };
+    private static final int MESSAGE_HISTORY_SLOT = 1;
+
+    private volatile AtomicReferenceArray<Object> slots;
+    private volatile int slotCount;
+    private volatile Map<String, Object> map;
+    private volatile boolean shared;
+    private Set<Entry<String, Object>> entrySet;
+
+    ExchangePropertiesMap() {
+    }
+
+    ExchangePropertiesMap(Map<String, Object> properties) {
+        putAll(properties);
+    }
+
+    /**
+     * Gets the slot for the given key
+     *
+     * @return the slot, or <tt>-1</tt> if the key is not a well known key
+     */
+    static int slot(String key) {
+        // switch on strings is using the (cached) hash code of the key and is faster than a map lookup
+        switch (key) {
+        case Exchange.CREATED_TIMESTAMP: return 0;
+        case Exchange.MESSAGE_HISTORY: return 1;
+        case Exchange.TO_ENDPOINT: return 2;
+        case Exchange.STEP_ID: return 3;
+        case Exchange.CHARSET_NAME: return 4;
+        case Exchange.CORRELATION_ID: return 5;
+        case Exchange.EXCEPTION_CAUGHT: return 6;
+        case Exchange.ROUTE_STOP: return 7;
+        case Exchange.ERRORHANDLER_HANDLED: return 8;
+        case Exchange.FAILURE_ENDPOINT: return 9;
+        case Exchange.FAILURE_ROUTE_ID: return 10;
+        case Exchange.FAILURE_HANDLED: return 11;
+        case Exchange.REDELIVERY_EXHAUSTED: return 12;
+        case Exchange.ROLLBACK_ONLY: return 13;
+        case Exchange.ROLLBACK_ONLY_LAST: return 14;
+        case Exchange.STREAM_CACHE_UNIT_OF_WORK: return 15;
+        case Exchange.PARENT_UNIT_OF_WORK: return 16;
+        case Exchange.AGGREGATED_SIZE: return 17;
+        case Exchange.AGGREGATED_COMPLETED_BY: return 18;
+        case Exchange.AGGREGATED_CORRELATION_KEY: return 19;
+        case Exchange.SPLIT_INDEX: return 20;
+        case Exchange.SPLIT_SIZE: return 21;
+        case Exchange.SPLIT_COMPLETE: return 22;
+        case Exchange.MULTICAST_INDEX: return 23;
+        case Exchange.MULTICAST_COMPLETE: return 24;
+        case Exchange.BATCH_INDEX: return 25;
+        case Exchange.BATCH_SIZE: return 26;
+        case Exchange.BATCH_COMPLETE: return 27;
+        case Exchange.LOOP_INDEX: return 28;
+        case Exchange.LOOP_SIZE: return 29;
+        case Exchange.FILTER_MATCHED: return 30;
+        case Exchange.TRY_ROUTE_BLOCK: return 31;
+        default: return -1;
+        }
+    }
+
+    /**
+     * Creates a copy of this map, where the map with the other properties is shared until either map is changed.
+     */
+    @SuppressWarnings("unchecked")
+    synchronized ExchangePropertiesMap copy() {
+        ExchangePropertiesMap answer = new ExchangePropertiesMap();
+        if (slotCount > 0) {
+            AtomicReferenceArray<Object> copy = new AtomicReferenceArray<>(KEYS.length);
+            for (int i = 0; i < KEYS.length; i++) {
+                copy.lazySet(i, slots.get(i));
+            }
+            // safe copy message history using a defensive copy
+            List<MessageHistory> history = (List<MessageHistory>) copy.get(MESSAGE_HISTORY_SLOT);
+            if (history != null) {
+                copy.lazySet(MESSAGE_HISTORY_SLOT, ExchangeHelper.copyMessageHistory(history));
+            }
+            answer.slotCount = slotCount;
+            // the volatile write publishes the copied slots
+            answer.slots = copy;
+        }
+        if (map != null && !map.isEmpty()) {
+            answer.map = map;
+            answer.shared = true;
+            shared = true;
+        }
+        return answer;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            int slot = slot((String) key);
+            if (slot >= 0) {
+                AtomicReferenceArray<Object> current = slots;
+                return current != null ? current.get(slot) : null;
+            }
+        }
+        Map<String, Object> current = map;
+        return current != null ? current.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public synchronized Object put(String key, Object value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        int slot = slot(key);
+        if (slot >= 0) {
+            if (slots == null) {
+                slots = new AtomicReferenceArray<>(KEYS.length);
+            }
+            Object answer = slots.getAndSet(slot, value);
+            if (answer == null) {
+                slotCount++;
+            }
+            return answer;
+        }
+        return mutableMap().put(key, value);
+    }
+
+    @Override
+    public synchronized Object remove(Object key) {
+        if (key instanceof String) {
+            int slot = slot((String) key);
+            if (slot >= 0) {
+                return removeSlot(slot);
+            }
+        }
+        if (map == null || !map.containsKey(key)) {
+            return null;
+        }
+        return mutableMap().remove(key);
+    }
+
+    @Override
+    public int size() {
+        Map<String, Object> current = map;
+        return slotCount + (current != null ? current.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Map<String, Object> current = map;
+        return slotCount == 0 && (current == null || current.isEmpty());
+    }
+
+    @Override
+    public synchronized void clear() {
+        slots = null;
+        slotCount = 0;
+        map = null;
+        shared = false;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Object removeSlot(int slot) {
+        if (slots == null) {
+            return null;
+        }
+        Object answer = slots.getAndSet(slot, null);
+        if (answer != null) {
+            slotCount--;
+        }
+        return answer;
+    }
+
+    private Map<String, Object> mutableMap() {
+        if (map == null) {
+            map = new ConcurrentHashMap<>();
+        } else if (shared) {
+            // copy on write
+            map = new ConcurrentHashMap<>(map);
+            shared = false;
+        }
+        return map;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ExchangePropertiesMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ExchangePropertiesMap.this.clear();
+        }
+    }
+
+    private final class SlotEntry extends SimpleEntry<String, Object> {
+
+        private SlotEntry(String key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private final AtomicReferenceArray<Object> slotsSnapshot = slots;
+        private final Map<String, Object> mapSnapshot = map;
+        private final Iterator<Entry<String, Object>> mapIterator = mapSnapshot != null ? mapSnapshot.entrySet().iterator() : null;
+        private int nextSlot;
+        private Entry<String, Object> next;
+        private String last;
+
+        private EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            if (slotsSnapshot != null) {
+                while (nextSlot < slotsSnapshot.length()) {
+                    int slot = nextSlot++;
+                    Object value = slotsSnapshot.get(slot);
+                    if (value != null) {
+                        next = new SlotEntry(KEYS[slot], value);
+                        return;
+                    }
+                }
+            }
+            if (mapIterator != null && mapIterator.hasNext()) {
+                Entry<String, Object> entry = mapIterator.next();
+                next = new SlotEntry(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, Object> answer = next;
+            last = answer.getKey();
+            advance();
+            return answer;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            ExchangePropertiesMap.this.remove(last);
+            last = null;
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractList;
+import java.util.function.Predicate;
+
+import org.apache.camel.Message;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.NamedNode;
+
+/**
+ * A fixed capacity ring buffer which keeps the message history of an exchange.
+ * <p/>
+ * The route ids, nodes and timestamps are kept in arrays, so no objects are created per node
+ * when the exchange is routed. When the buffer is full then the oldest entries are overwritten,
+ * so the buffer keeps the most recent history. The {@link MessageHistory} entries are only created
+ * when the history is read (such as when logging the message history of an exhausted exchange).
+ * <p/>
+ * The {@link #notSampled()} buffer is a shared empty buffer, which is used for the exchanges which are not
+ * sampled, and ignores any entries added.
+ * <p/>
+ * This implementation is not thread safe, as an exchange is routed by one thread at a time.
+ */
+public final class MessageHistoryRingBuffer extends AbstractList<MessageHistory> {
+
+    private static final MessageHistoryRingBuffer NOT_SAMPLED = new MessageHistoryRingBuffer(0, null);
+
+    private final Predicate<NamedNode> filter;
+    private final String[] routeIds;
+    private final NamedNode[] nodes;
+    private final long[] timestamps;
+    // the elapsed time is -1 while the node is being processed
+    private final long[] elapsed;
+    // the index where the next entry is added
+    private int head;
+    private int size;
+
+    /**
+     * Creates a new ring buffer
+     *
+     * @param capacity the maximum number of entries
+     * @param filter   optional filter to include only some of the nodes
+     */
+    public MessageHistoryRingBuffer(int capacity, Predicate<NamedNode> filter) {
+        this.filter = filter;
+        this.routeIds = new String[capacity];
+        this.nodes = new NamedNode[capacity];
+        this.timestamps = new long[capacity];
+        this.elapsed = new long[capacity];
+    }
+
+    private MessageHistoryRingBuffer(MessageHistoryRingBuffer source) {
+        this.filter = source.filter;
+        this.routeIds = source.routeIds.clone();
+        this.nodes = source.nodes.clone();
+        this.timestamps = source.timestamps.clone();
+        this.elapsed = source.elapsed.clone();
+        this.head = source.head;
+        this.size = source.size;
+    }
+
+    /**
+     * The shared buffer for exchanges which are not sampled, which does not keep any history.
+     */
+    public static MessageHistoryRingBuffer notSampled() {
+        return NOT_SAMPLED;
+    }
+
+    /**
+     * Whether this buffer keeps any history
+     */
+    public boolean isSampled() {
+        return this != NOT_SAMPLED;
+    }
+
+    /**
+     * The maximum number of entries
+     */
+    public int capacity() {
+        return nodes.length;
+    }
+
+    /**
+     * Adds an entry for the node which is about to be processed.
+     *
+     * @return <tt>true</tt> if added, or <tt>false</tt> if not sampled or the node is not included by the filter
+     */
+    public boolean add(String routeId, NamedNode node, long timestamp) {
+        if (nodes.length == 0 || (filter != null && !filter.test(node))) {
+            return false;
+        }
+        routeIds[head] = routeId;
+        nodes[head] = node;
+        timestamps[head] = timestamp;
+        elapsed[head] = -1;
+        head = (head + 1) % nodes.length;
+        if (size < nodes.length) {
+            size++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean add(MessageHistory history) {
+        add(history.getRouteId(), history.getNode(), history.getTime());
+        return true;
+    }
+
+    /**
+     * Marks the latest entry of the node which is being processed as done.
+     */
+    public void nodeProcessingDone(NamedNode node) {
+        // the nodes are processed as a stack, so the node is most likely the latest entry
+        for (int i = size - 1; i >= 0; i--) {
+            int index = index(i);
+            if (nodes[index] == node && elapsed[index] == -1) {
+                elapsed[index] = System.currentTimeMillis() - timestamps[index];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates a copy of this buffer
+     */
+    public MessageHistoryRingBuffer copy() {
+        return isSampled() ? new MessageHistoryRingBuffer(this) : this;
+    }
+
+    @Override
+    public MessageHistory get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        int index = index(i);
+        return new Entry(routeIds[index], nodes[index], timestamps[index], Math.max(0, elapsed[index]));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < nodes.length; i++) {
+            routeIds[i] = null;
+            nodes[i] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    private int index(int i) {
+        // the oldest entry is at the head when the buffer is full
+        int start = size < nodes.length ? 0 : head;
+        return (start + i) % nodes.length;
+    }
+
+    /**
+     * A read-only entry of the message history.
+     */
+    private static final class Entry implements MessageHistory {
+
+        private final String routeId;
+        private final NamedNode node;
+        private final long timestamp;
+        private final long elapsed;
+
+        Entry(String routeId, NamedNode node, long timestamp, long elapsed) {
+            this.routeId = routeId;
+            this.node = node;
+            this.timestamp = timestamp;
+            this.elapsed = elapsed;
+        }
+
+        @Override
+        public String getRouteId() {
+            return routeId;
+        }
+
+        @Override
+        public NamedNode getNode() {
+            return node;
+        }
+
+        @Override
+        public long getTime() {
+            return timestamp;
+        }
+
+        @Override
+        public long getElapsed() {
+            return elapsed;
+        }
+
+        @Override
+        public void nodeProcessingDone() {
+            // noop as the entry is a snapshot
+        }
+
+        @Override
+        public Message getMessage() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "MessageHistory[routeId=" + routeId + ", node=" + node.getId() + ']';
+        }
+    }
+}
@@ -225,9 +225,17 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
             if (hasHeaders()) {
                 // okay its safe to clear the headers
                 getHeaders().clear();
-            }
-            if (that.hasHeaders()) {
-                getHeaders().putAll(that.getHeaders());
+                if (that.hasHeaders()) {
+                    getHeaders().putAll(that.getHeaders());
+                }
+            } else if (that.hasHeaders()) {
+                if (camelContext != null) {
+                    // let the headers map factory copy the headers, which allows the factory to optimize
+                    // such as sharing the headers until they are changed (copy-on-write)
+                    setHeaders(camelContext.getHeadersMapFactory().newMap(that.getHeaders()));
+                } else {
+                    getHeaders().putAll(that.getHeaders());
+                }
             }
         }
     }
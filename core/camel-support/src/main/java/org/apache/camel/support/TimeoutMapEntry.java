@@ -28,6 +28,10 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private V value;
     private long timeout;
     private long expireTime;
+    // used by the timing wheel to link the entries in the same slot
+    TimeoutMapEntry<K, V> wheelPrev;
+    TimeoutMapEntry<K, V> wheelNext;
+    int wheelSlot = -1;
 
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A hierarchical timing wheel which keeps track of when the entries of a {@link DefaultTimeoutMap} expires.
+ * <p/>
+ * The wheel has a number of levels with 64 slots each, where a slot on the first level spans a single tick,
+ * a slot on the second level spans 64 ticks, and so on. Entries are added to the slot on the lowest level
+ * which covers their expire time, and are moved down a level when the time of their slot is reached (cascading),
+ * so adding, removing and expiring an entry takes constant time regardless of the number of entries.
+ * <p/>
+ * The entries are linked directly in the slots, so no additional objects are created per entry.
+ * If the expire time of an entry is updated after it was added, then the entry is re-scheduled
+ * when its old slot is reached.
+ * <p/>
+ * This implementation is not thread safe, and the caller must hold the lock of the timeout map.
+ */
+final class TimingWheel<K, V> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    // the number of ticks spanned by all the levels, entries which expires later are re-scheduled when cascaded
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickDuration;
+    private final TimeoutMapEntry<K, V>[] slots;
+    // number of entries per level, to skip ahead when the lower levels are empty
+    private final int[] levelSizes = new int[LEVELS];
+    // all ticks up to and including the current tick has been processed
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickDuration, long now) {
+        this.tickDuration = Math.max(1, tickDuration);
+        this.slots = new TimeoutMapEntry[SLOTS * LEVELS];
+        this.currentTick = now / this.tickDuration;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the entry to the wheel according to its expire time
+     */
+    void add(TimeoutMapEntry<K, V> entry) {
+        if (entry.wheelSlot >= 0) {
+            unlink(entry);
+        } else {
+            size++;
+        }
+        schedule(entry, currentTick + 1);
+    }
+
+    /**
+     * Removes the entry from the wheel
+     */
+    void remove(TimeoutMapEntry<K, V> entry) {
+        if (entry.wheelSlot >= 0) {
+            unlink(entry);
+            size--;
+        }
+    }
+
+    /**
+     * Removes all the entries from the wheel
+     */
+    void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            TimeoutMapEntry<K, V> entry = slots[i];
+            slots[i] = null;
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                entry.wheelPrev = null;
+                entry.wheelNext = null;
+                entry.wheelSlot = -1;
+                entry = next;
+            }
+        }
+        Arrays.fill(levelSizes, 0);
+        size = 0;
+    }
+
+    /**
+     * Advances the wheel to the given time, and removes the entries which has expired.
+     *
+     * @param now       the current time
+     * @param evictable to check whether an expired entry can be evicted, if not then its checked again on the next tick
+     * @param expired   to add the expired entries
+     */
+    void expire(long now, Predicate<TimeoutMapEntry<K, V>> evictable, List<TimeoutMapEntry<K, V>> expired) {
+        long nowTick = now / tickDuration;
+        while (currentTick < nowTick) {
+            int lowest = 0;
+            while (lowest < LEVELS && levelSizes[lowest] == 0) {
+                lowest++;
+            }
+            if (lowest == LEVELS) {
+                // nothing to expire so jump directly to the current time
+                currentTick = nowTick;
+                return;
+            }
+            if (lowest > 0) {
+                // nothing happens until the entries on the lowest level in use are cascaded
+                long span = 1L << (SLOT_BITS * lowest);
+                long next = (currentTick / span + 1) * span;
+                if (next > nowTick) {
+                    currentTick = nowTick;
+                    return;
+                }
+                currentTick = next - 1;
+            }
+            long tick = currentTick + 1;
+
+            // move the entries down from the higher levels, whose time has been reached
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((tick & ((1L << shift) - 1)) == 0) {
+                    TimeoutMapEntry<K, V> entry = detach(level * SLOTS + (int) ((tick >>> shift) & MASK));
+                    while (entry != null) {
+                        TimeoutMapEntry<K, V> next = entry.wheelNext;
+                        entry.wheelNext = null;
+                        schedule(entry, tick);
+                        entry = next;
+                    }
+                }
+            }
+
+            currentTick = tick;
+            TimeoutMapEntry<K, V> entry = detach((int) (tick & MASK));
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                entry.wheelNext = null;
+                if (entry.getExpireTime() < now && evictable.test(entry)) {
+                    size--;
+                    expired.add(entry);
+                } else {
+                    // the expire time has been updated (or cannot be evicted yet)
+                    schedule(entry, tick + 1);
+                }
+                entry = next;
+            }
+        }
+    }
+
+    private void schedule(TimeoutMapEntry<K, V> entry, long base) {
+        // the first tick which is after the expire time
+        long tick = entry.getExpireTime() / tickDuration + 1;
+        long delta = tick - base;
+        if (delta < 0) {
+            tick = base;
+            delta = 0;
+        } else if (delta >= SPAN) {
+            tick = base + SPAN - 1;
+            delta = SPAN - 1;
+        }
+        int level = 0;
+        while (delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & MASK);
+        levelSizes[level]++;
+
+        TimeoutMapEntry<K, V> head = slots[slot];
+        entry.wheelSlot = slot;
+        entry.wheelPrev = null;
+        entry.wheelNext = head;
+        if (head != null) {
+            head.wheelPrev = entry;
+        }
+        slots[slot] = entry;
+    }
+
+    private TimeoutMapEntry<K, V> detach(int slot) {
+        TimeoutMapEntry<K, V> head = slots[slot];
+        slots[slot] = null;
+        for (TimeoutMapEntry<K, V> entry = head; entry != null; entry = entry.wheelNext) {
+            entry.wheelPrev = null;
+            entry.wheelSlot = -1;
+            levelSizes[slot >> SLOT_BITS]--;
+        }
+        return head;
+    }
+
+    private void unlink(TimeoutMapEntry<K, V> entry) {
+        TimeoutMapEntry<K, V> prev = entry.wheelPrev;
+        TimeoutMapEntry<K, V> next = entry.wheelNext;
+        if (prev != null) {
+            prev.wheelNext = next;
+        } else {
+            slots[entry.wheelSlot] = next;
+        }
+        if (next != null) {
+            next.wheelPrev = prev;
+        }
+        levelSizes[entry.wheelSlot >> SLOT_BITS]--;
+        entry.wheelPrev = null;
+        entry.wheelNext = null;
+        entry.wheelSlot = -1;
+    }
+
+}
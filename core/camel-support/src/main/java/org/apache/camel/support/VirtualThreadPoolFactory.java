@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory for thread pools that creates a new virtual thread per task, when the JVM supports virtual threads
+ * (Java 21 onwards, or earlier versions with preview features enabled).
+ * <p/>
+ * Virtual threads are cheap to create and block, so there is no need for pooling, and the pool and queue sizes
+ * from the {@link ThreadPoolProfile} are not in use. This makes it possible to run a very high number of concurrent
+ * tasks that call blocking APIs such as JDBC or HTTP clients.
+ * <p/>
+ * If the JVM does not support virtual threads then this factory falls back to use the
+ * {@link #setFallbackThreadPoolFactory(ThreadPoolFactory) fallback} factory, which by default is {@link DefaultThreadPoolFactory}.
+ * Scheduled thread pools are always created by the fallback factory.
+ */
+public class VirtualThreadPoolFactory implements ThreadPoolFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPoolFactory.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+    private static final Method IS_VIRTUAL;
+
+    static {
+        Method ofVirtual = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        Method isVirtual = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            isVirtual = Thread.class.getMethod("isVirtual");
+            // virtual threads may be a preview feature which is not enabled, so try to create a factory
+            factory.invoke(ofVirtual.invoke(null));
+        } catch (Throwable e) {
+            LOG.debug("Virtual threads is not supported on this JVM due to: {}", e.getMessage());
+            ofVirtual = null;
+            factory = null;
+            newThreadPerTaskExecutor = null;
+            isVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+        IS_VIRTUAL = isVirtual;
+    }
+
+    private ThreadPoolFactory fallbackThreadPoolFactory;
+
+    public VirtualThreadPoolFactory() {
+        this(new DefaultThreadPoolFactory());
+    }
+
+    public VirtualThreadPoolFactory(ThreadPoolFactory fallbackThreadPoolFactory) {
+        this.fallbackThreadPoolFactory = fallbackThreadPoolFactory;
+    }
+
+    /**
+     * Whether the JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Whether the current thread is a virtual thread.
+     */
+    public static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(Thread.currentThread());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public ThreadPoolFactory getFallbackThreadPoolFactory() {
+        return fallbackThreadPoolFactory;
+    }
+
+    /**
+     * The factory to use for creating thread pools, when virtual threads is not supported.
+     */
+    public void setFallbackThreadPoolFactory(ThreadPoolFactory fallbackThreadPoolFactory) {
+        this.fallbackThreadPoolFactory = fallbackThreadPoolFactory;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (isVirtualThreadsSupported()) {
+            return newVirtualThreadPerTaskExecutor(threadFactory);
+        }
+        return fallbackThreadPoolFactory.newCachedThreadPool(threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        if (isVirtualThreadsSupported()) {
+            return newVirtualThreadPerTaskExecutor(threadFactory);
+        }
+        return fallbackThreadPoolFactory.newThreadPool(profile, threadFactory);
+    }
+
+    @Override
+    public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        // virtual threads are not intended for scheduled tasks
+        return fallbackThreadPoolFactory.newScheduledThreadPool(profile, threadFactory);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        try {
+            ThreadFactory virtual = (ThreadFactory) BUILDER_FACTORY.invoke(OF_VIRTUAL.invoke(null));
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, new VirtualThreadFactory(virtual, threadFactory));
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadPoolFactory[supported:" + isVirtualThreadsSupported() + "]";
+    }
+
+    /**
+     * Creates virtual threads which are named according to the Camel thread name pattern.
+     */
+    private static final class VirtualThreadFactory implements ThreadFactory {
+
+        private final ThreadFactory virtual;
+        private final String pattern;
+        private final String name;
+
+        private VirtualThreadFactory(ThreadFactory virtual, ThreadFactory threadFactory) {
+            this.virtual = virtual;
+            if (threadFactory instanceof CamelThreadFactory) {
+                this.pattern = ((CamelThreadFactory) threadFactory).getPattern();
+                this.name = ((CamelThreadFactory) threadFactory).getName();
+            } else {
+                this.pattern = null;
+                this.name = null;
+            }
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread answer = virtual.newThread(runnable);
+            if (name != null) {
+                answer.setName(ThreadHelper.resolveThreadName(pattern, name));
+            }
+            return answer;
+        }
+    }
+
+}
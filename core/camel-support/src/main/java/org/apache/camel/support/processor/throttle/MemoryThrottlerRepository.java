@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.throttle;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ThrottlerRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link ThrottlerRepository}, which can be shared by throttlers in the same JVM,
+ * such as when testing throttlers which are using a shared repository.
+ * <p/>
+ * The state of the keys are not expired, so care should be taken to only use a limited number of keys.
+ */
+@ManagedResource(description = "Memory based throttler repository")
+public class MemoryThrottlerRepository extends ServiceSupport implements ThrottlerRepository {
+
+    private final Map<String, AtomicLong> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public long get(String key) {
+        AtomicLong time = cache.get(key);
+        return time != null ? time.get() : 0;
+    }
+
+    @Override
+    public boolean compareAndSet(String key, long expect, long update) {
+        AtomicLong time = cache.get(key);
+        if (time == null) {
+            if (expect != 0) {
+                return false;
+            }
+            time = cache.computeIfAbsent(key, k -> new AtomicLong());
+        }
+        return time.compareAndSet(expect, update);
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // noop as the repository may be shared
+    }
+}
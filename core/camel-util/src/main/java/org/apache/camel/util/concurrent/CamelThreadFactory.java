@@ -51,6 +51,14 @@ public final class CamelThreadFactory implements ThreadFactory {
         return name;
     }
 
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean isDaemon() {
+        return daemon;
+    }
+
     @Override
     public String toString() {
         return "CamelThreadFactory[" + name + "]";
@@ -421,6 +421,14 @@ public class ActiveMQComponentConfiguration
      * option requestTimeout.
      */
     private Long requestTimeoutCheckerInterval = 1000L;
+    /**
+     * Whether to keep track of the timeouts in a timing wheel when doing
+     * request/reply over JMS, instead of checking all the pending replies for
+     * timeouts every time the timeout checker runs. This is recommended when
+     * there is a large number of pending replies (such as hundreds of
+     * thousands).
+     */
+    private Boolean requestTimeoutUseTimingWheel = false;
     /**
      * You can transfer the exchange over the wire instead of just the body and
      * headers. The following fields are transferred: In body, Out body, Fault
@@ -1122,6 +1130,15 @@ public class ActiveMQComponentConfiguration
         this.requestTimeoutCheckerInterval = requestTimeoutCheckerInterval;
     }
 
+    public Boolean getRequestTimeoutUseTimingWheel() {
+        return requestTimeoutUseTimingWheel;
+    }
+
+    public void setRequestTimeoutUseTimingWheel(
+            Boolean requestTimeoutUseTimingWheel) {
+        this.requestTimeoutUseTimingWheel = requestTimeoutUseTimingWheel;
+    }
+
     public Boolean getTransferExchange() {
         return transferExchange;
     }
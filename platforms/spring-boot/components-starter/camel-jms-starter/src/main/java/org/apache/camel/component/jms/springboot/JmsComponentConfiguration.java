@@ -400,6 +400,14 @@ public class JmsComponentConfiguration
      * option requestTimeout.
      */
     private Long requestTimeoutCheckerInterval = 1000L;
+    /**
+     * Whether to keep track of the timeouts in a timing wheel when doing
+     * request/reply over JMS, instead of checking all the pending replies for
+     * timeouts every time the timeout checker runs. This is recommended when
+     * there is a large number of pending replies (such as hundreds of
+     * thousands).
+     */
+    private Boolean requestTimeoutUseTimingWheel = false;
     /**
      * You can transfer the exchange over the wire instead of just the body and
      * headers. The following fields are transferred: In body, Out body, Fault
@@ -1062,6 +1070,15 @@ public class JmsComponentConfiguration
         this.requestTimeoutCheckerInterval = requestTimeoutCheckerInterval;
     }
 
+    public Boolean getRequestTimeoutUseTimingWheel() {
+        return requestTimeoutUseTimingWheel;
+    }
+
+    public void setRequestTimeoutUseTimingWheel(
+            Boolean requestTimeoutUseTimingWheel) {
+        this.requestTimeoutUseTimingWheel = requestTimeoutUseTimingWheel;
+    }
+
     public Boolean getTransferExchange() {
         return transferExchange;
     }
@@ -1644,6 +1661,14 @@ public class JmsComponentConfiguration
          * determined by the option requestTimeout.
          */
         private Long requestTimeoutCheckerInterval = 1000L;
+        /**
+         * Whether to keep track of the timeouts in a timing wheel when doing
+         * request/reply over JMS, instead of checking all the pending replies
+         * for timeouts every time the timeout checker runs. This is recommended
+         * when there is a large number of pending replies (such as hundreds of
+         * thousands).
+         */
+        private Boolean requestTimeoutUseTimingWheel = false;
         /**
          * Provides an explicit ReplyTo destination, which overrides any
          * incoming value of Message.getJMSReplyTo().
@@ -2416,6 +2441,15 @@ public class JmsComponentConfiguration
             this.requestTimeoutCheckerInterval = requestTimeoutCheckerInterval;
         }
 
+        public Boolean getRequestTimeoutUseTimingWheel() {
+            return requestTimeoutUseTimingWheel;
+        }
+
+        public void setRequestTimeoutUseTimingWheel(
+                Boolean requestTimeoutUseTimingWheel) {
+            this.requestTimeoutUseTimingWheel = requestTimeoutUseTimingWheel;
+        }
+
         public String getReplyTo() {
             return replyTo;
         }
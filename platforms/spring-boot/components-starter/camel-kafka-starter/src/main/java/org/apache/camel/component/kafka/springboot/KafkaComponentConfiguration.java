@@ -18,6 +18,7 @@ package org.apache.camel.component.kafka.springboot;
 
 import java.util.concurrent.ExecutorService;
 import javax.annotation.Generated;
+import org.apache.camel.component.kafka.KafkaProducerResultMapper;
 import org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer;
 import org.apache.camel.component.kafka.serde.KafkaHeaderSerializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
@@ -199,6 +200,25 @@ public class KafkaComponentConfiguration
          * The number of consumers that connect to kafka server
          */
         private Integer consumersCount = 1;
+        /**
+         * The number of threads each consumer uses to process the polled records
+         * concurrently. By default the records are processed one after another
+         * by the consumer thread which polls the records from the kafka server.
+         * When using concurrent processing then the records are still processed
+         * in order per partition or per key, as configured with the
+         * processingOrder option, and the offsets are only committed up to the
+         * record where all the previous records of the partition have been
+         * processed. This cannot be used together with allowManualCommit.
+         */
+        private Integer processingThreads;
+        /**
+         * When processing records concurrently (see processingThreads) then this
+         * option controls which records must be processed in order. With
+         * partition then the records of a partition are processed one after
+         * another, and with key then only the records with the same key (in a
+         * partition) are processed one after another.
+         */
+        private String processingOrder = "partition";
         /**
          * The client id is a user-specified string sent in each request to help
          * trace calls. It should logically identify the application making the
@@ -772,6 +792,14 @@ public class KafkaComponentConfiguration
          * values to kafka headers values.
          */
         private KafkaHeaderSerializer kafkaHeaderSerializer;
+        /**
+         * To use a custom KafkaProducerResultMapper to map the results of
+         * sending the records to Kafka onto the exchange. The mapper is called
+         * once all the records of the exchange has been sent, and by default the
+         * record metadata is stored on a header (see the recordMetadata option)
+         * and the exchange is failed if any of the records failed.
+         */
+        private KafkaProducerResultMapper producerResultMapper;
 
         public Boolean getTopicIsPattern() {
             return topicIsPattern;
@@ -821,6 +849,22 @@ public class KafkaComponentConfiguration
             this.consumersCount = consumersCount;
         }
 
+        public Integer getProcessingThreads() {
+            return processingThreads;
+        }
+
+        public void setProcessingThreads(Integer processingThreads) {
+            this.processingThreads = processingThreads;
+        }
+
+        public String getProcessingOrder() {
+            return processingOrder;
+        }
+
+        public void setProcessingOrder(String processingOrder) {
+            this.processingOrder = processingOrder;
+        }
+
         public String getClientId() {
             return clientId;
         }
@@ -1500,5 +1544,14 @@ public class KafkaComponentConfiguration
                 KafkaHeaderSerializer kafkaHeaderSerializer) {
             this.kafkaHeaderSerializer = kafkaHeaderSerializer;
         }
+
+        public KafkaProducerResultMapper getProducerResultMapper() {
+            return producerResultMapper;
+        }
+
+        public void setProducerResultMapper(
+                KafkaProducerResultMapper producerResultMapper) {
+            this.producerResultMapper = producerResultMapper;
+        }
     }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package org.apache.camel.itest.jmh;
 
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.impl.engine.BlockUuidGenerator;
 import org.apache.camel.impl.engine.DefaultUuidGenerator;
 import org.junit.Test;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -34,7 +35,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests the {@link DefaultUuidGenerator}.
+ * Tests the {@link DefaultUuidGenerator} and the {@link BlockUuidGenerator}.
  * <p/>
  * Thanks to this SO answer: https://stackoverflow.com/questions/30485856/how-to-run-jmh-from-inside-junit-tests
  */
@@ -67,10 +68,12 @@ public class DefaultUuidGeneratorTest {
     @State(Scope.Thread)
     public static class BenchmarkState {
         DefaultUuidGenerator uuid;
+        BlockUuidGenerator blockUuid;
 
         @Setup(Level.Trial)
         public void initialize() {
             uuid = new DefaultUuidGenerator();
+            blockUuid = new BlockUuidGenerator();
         }
     }
 
@@ -81,4 +84,11 @@ public class DefaultUuidGeneratorTest {
         bh.consume(id);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void benchmarkBlock(BenchmarkState state, Blackhole bh) {
+        String id = state.blockUuid.generateUuid();
+        bh.consume(id);
+    }
+
 }
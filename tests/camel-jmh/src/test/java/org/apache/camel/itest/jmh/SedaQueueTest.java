@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.seda.LinkedBlockingQueueFactory;
+import org.apache.camel.component.seda.MpmcArrayBlockingQueueFactory;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the throughput of the queues used by the SEDA component, with 4 producers and 4 consumers
+ * using the same queue, comparing a {@link java.util.concurrent.LinkedBlockingQueue} with
+ * a {@link org.apache.camel.component.seda.MpmcArrayBlockingQueue}.
+ */
+public class SedaQueueTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(2))
+            .measurementIterations(3)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Group)
+    public static class BenchmarkState {
+        @Param({"linked", "mpmc"})
+        String queueFactory;
+
+        BlockingQueue<Object> queue;
+
+        @Setup(Level.Iteration)
+        public void initialize() {
+            if ("mpmc".equals(queueFactory)) {
+                queue = new MpmcArrayBlockingQueueFactory<>().create(1000);
+            } else {
+                queue = new LinkedBlockingQueueFactory<>().create(1000);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(4)
+    public boolean offer(BenchmarkState state) throws InterruptedException {
+        // use a timeout so the producers do not block when the iteration ends
+        return state.queue.offer(Boolean.TRUE, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(4)
+    public Object poll(BenchmarkState state) throws InterruptedException {
+        return state.queue.poll(1, TimeUnit.MILLISECONDS);
+    }
+
+}
@@ -20,7 +20,9 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.spi.Language;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.Test;
@@ -28,6 +30,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -39,7 +42,8 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests a Simple expression
+ * Tests a Simple expression, and evaluating predicates as a content based router would do,
+ * using interpreted and compiled simple language.
  */
 public class SimpleExpressionTest {
 
@@ -69,10 +73,16 @@ public class SimpleExpressionTest {
     // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
     @State(Scope.Thread)
     public static class BenchmarkState {
+        @Param({"false", "true"})
+        boolean compiled;
+
         CamelContext camel;
         String expression = "Hello ${body}";
+        String headerExpression = "Hello ${header.name} from ${exchangeProperty.city}";
         Exchange exchange;
         Language simple;
+        Predicate predicate;
+        Predicate[] predicates;
 
         @Setup(Level.Trial)
         public void initialize() {
@@ -81,7 +91,20 @@ public class SimpleExpressionTest {
                 camel.start();
                 exchange = new DefaultExchange(camel);
                 exchange.getIn().setBody("World");
+                exchange.getIn().setHeader("name", "Camel");
+                exchange.getIn().setHeader("type", "gold");
+                exchange.getIn().setHeader("amount", 1234);
+                exchange.setProperty("city", "Paris");
                 simple = camel.resolveLanguage("simple");
+                ((SimpleLanguage) simple).setCompiled(compiled);
+
+                predicate = simple.createPredicate("${header.type} == 'gold' && ${header.amount} > 1000");
+                // the choices of a content based router where only the last matches
+                predicates = new Predicate[30];
+                for (int i = 0; i < predicates.length - 1; i++) {
+                    predicates[i] = simple.createPredicate("${header.type} == 'type" + i + "' && ${header.amount} > " + i);
+                }
+                predicates[predicates.length - 1] = predicate;
 
             } catch (Exception e) {
                 // ignore
@@ -109,4 +132,34 @@ public class SimpleExpressionTest {
         bh.consume(out);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simpleHeaderExpression(BenchmarkState state, Blackhole bh) {
+        String out = state.simple.createExpression(state.headerExpression).evaluate(state.exchange, String.class);
+        if (!out.equals("Hello Camel from Paris")) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicate(BenchmarkState state, Blackhole bh) {
+        boolean out = state.predicate.matches(state.exchange);
+        if (!out) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simpleContentBasedRouter(BenchmarkState state, Blackhole bh) {
+        int index = 0;
+        while (!state.predicates[index].matches(state.exchange)) {
+            index++;
+        }
+        bh.consume(index);
+    }
+
 }
@@ -71,6 +71,7 @@ public class SlowTypeConverterTest {
     public static class BenchmarkCamelContextState {
         ByteBuf buffer;
         byte[] bytes = "Hello World this is some text".getBytes();
+        MyValue value = new MyValue();
 
         CamelContext camel;
 
@@ -104,4 +105,25 @@ public class SlowTypeConverterTest {
         bh.consume(arr);
     }
 
+    @Benchmark
+    public void typeConvertToStringFallback(BenchmarkCamelContextState state, Blackhole bh) {
+        // there is no type converter so the fallback is used
+        String s = state.camel.getTypeConverter().convertTo(String.class, state.value);
+        bh.consume(s);
+    }
+
+    @Benchmark
+    public void typeConvertMiss(BenchmarkCamelContextState state, Blackhole bh) {
+        // there is no type converter and no fallback which can convert
+        Integer i = state.camel.getTypeConverter().tryConvertTo(Integer.class, state.value);
+        bh.consume(i);
+    }
+
+    public static class MyValue {
+        @Override
+        public String toString() {
+            return "Hello World";
+        }
+    }
+
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.DefaultTimeoutMap;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the cost of purging a {@link DefaultTimeoutMap} with many entries, by scanning all the entries
+ * vs using a timing wheel.
+ * <p/>
+ * Each purge advances the time with 1/10 of a second, and the entries which are timed out
+ * are added again, so the map keeps the same number of entries.
+ */
+public class TimeoutMapTest {
+
+    private static final long TIMEOUT = 60000;
+    private static final long POLL = 1000;
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(2))
+            .measurementIterations(3)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"10000", "100000", "1000000"})
+        int entries;
+        @Param({"false", "true"})
+        boolean useTimingWheel;
+
+        ScheduledExecutorService executor;
+        PurgeTimeoutMap map;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            executor = Executors.newSingleThreadScheduledExecutor();
+            map = new PurgeTimeoutMap(executor);
+            map.setUseTimingWheel(useTimingWheel);
+            // the timed out entries are added again to keep the same number of entries
+            map.addListener((type, key, value) -> {
+                if (type == TimeoutMap.Listener.Type.Evict) {
+                    map.put(key, value, TIMEOUT);
+                }
+            });
+            // spread the timeouts evenly
+            for (int i = 0; i < entries; i++) {
+                map.put(i, i, (TIMEOUT * i) / entries);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A timeout map which is purged manually using a simulated time
+     */
+    static final class PurgeTimeoutMap extends DefaultTimeoutMap<Integer, Integer> {
+
+        private long now = System.currentTimeMillis();
+
+        PurgeTimeoutMap(ScheduledExecutorService executor) {
+            super(executor, POLL);
+        }
+
+        void tick() {
+            now += POLL / 10;
+            purge();
+        }
+
+        @Override
+        protected long currentTime() {
+            return now;
+        }
+    }
+
+    @Benchmark
+    public void purge(BenchmarkState state) {
+        state.map.tick();
+    }
+
+}
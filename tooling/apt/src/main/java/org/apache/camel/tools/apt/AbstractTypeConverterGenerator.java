@@ -114,6 +114,9 @@ public abstract class AbstractTypeConverterGenerator extends AbstractCamelAnnota
                     // we only accept top-level classes and if loader is enabled
                     currentClass = te.getQualifiedName().toString();
                     ignoreOnLoadError = isIgnoreOnLoadError(element);
+                } else if (!te.getNestingKind().isNested()) {
+                    // the methods of this class should not be added to the previous class
+                    currentClass = null;
                 }
             } else if (currentClass != null && element.getKind() == ElementKind.METHOD) {
                 String key = convertersKey(currentClass);
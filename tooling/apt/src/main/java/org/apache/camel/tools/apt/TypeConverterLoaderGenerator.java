@@ -17,22 +17,48 @@
 package org.apache.camel.tools.apt;
 
 import java.io.Writer;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 
+/**
+ * Generates a <tt>TypeConverterLoader</tt> for the classes annotated with
+ * <tt>@Converter(generateLoader = true)</tt>, which registers the type converters as direct method calls.
+ * <p/>
+ * When the option <tt>camel.generateTypeConverterLoaders=true</tt> is given to the compiler (<tt>-Acamel.generateTypeConverterLoaders=true</tt>)
+ * then a loader is also generated for the other classes with type converters (if possible). These classes are still listed in
+ * <tt>META-INF/services/org/apache/camel/TypeConverter</tt>, and the loader is used at runtime instead of invoking the
+ * type converter methods using reflection.
+ */
 @SupportedAnnotationTypes({"org.apache.camel.Converter"})
+@SupportedOptions({TypeConverterLoaderGenerator.GENERATE_LOADERS_OPTION})
 public class TypeConverterLoaderGenerator extends AbstractTypeConverterGenerator {
 
+    public static final String GENERATE_LOADERS_OPTION = "camel.generateTypeConverterLoaders";
+
+    // the classes which are using @Converter(generateLoader = true)
+    private final Set<String> loaderEnabledClasses = new HashSet<>();
+
     @Override
     boolean acceptClass(Element element) {
-        return isLoaderEnabled(element);
+        if (isLoaderEnabled(element)) {
+            loaderEnabledClasses.add(((TypeElement) element).getQualifiedName().toString());
+            return true;
+        }
+        return isGenerateLoaders() && canGenerateLoader((TypeElement) element);
     }
 
     @Override
@@ -56,7 +82,8 @@ public class TypeConverterLoaderGenerator extends AbstractTypeConverterGenerator
         for (Map.Entry<String, ClassConverters> entry : converters.entrySet()) {
             String key = entry.getKey();
             ClassConverters value = entry.getValue();
-            if (!value.isEmpty()) {
+            // the other loaders are found from the classes listed in META-INF/services/org/apache/camel/TypeConverter
+            if (!value.isEmpty() && loaderEnabledClasses.contains(key)) {
                 sj.add(key);
             }
         }
@@ -72,6 +99,45 @@ public class TypeConverterLoaderGenerator extends AbstractTypeConverterGenerator
         }
     }
 
+    private boolean isGenerateLoaders() {
+        return "true".equalsIgnoreCase(processingEnv.getOptions().get(GENERATE_LOADERS_OPTION));
+    }
+
+    /**
+     * Whether the generated loader can call the type converter methods of the class directly, otherwise the
+     * type converters are loaded using reflection as usual.
+     */
+    private boolean canGenerateLoader(TypeElement element) {
+        if (element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        boolean instance = false;
+        for (Element e : element.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.METHOD && e.getAnnotationMirrors().stream()
+                    .anyMatch(a -> "org.apache.camel.Converter".equals(a.getAnnotationType().toString()))) {
+                if (!e.getModifiers().contains(Modifier.PUBLIC)) {
+                    return false;
+                }
+                instance |= !e.getModifiers().contains(Modifier.STATIC);
+            }
+        }
+        if (instance) {
+            // the generated loader creates the instance using its no-arg constructor, so the instance cannot
+            // have the CamelContext injected as when using reflection
+            TypeMirror aware = processingEnv.getElementUtils().getTypeElement("org.apache.camel.CamelContextAware").asType();
+            if (processingEnv.getTypeUtils().isAssignable(element.asType(), aware)) {
+                return false;
+            }
+            for (Element e : element.getEnclosedElements()) {
+                if (e.getKind() == ElementKind.CONSTRUCTOR && ((ExecutableElement) e).getParameters().isEmpty()) {
+                    return e.getModifiers().contains(Modifier.PUBLIC);
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
     private static boolean isLoaderEnabled(Element element) {
         for (AnnotationMirror ann : element.getAnnotationMirrors()) {
             for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : ann.getElementValues().entrySet()) {
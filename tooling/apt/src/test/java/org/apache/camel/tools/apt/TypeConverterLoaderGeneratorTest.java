@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tools.apt;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypeConverterLoaderGeneratorTest {
+
+    // a copy of the annotation from camel-api which is not a dependency of this module
+    private static final String CONVERTER_ANNOTATION = "package org.apache.camel;\n"
+        + "import java.lang.annotation.*;\n"
+        + "@Retention(RetentionPolicy.RUNTIME) @Documented @Target({ElementType.TYPE, ElementType.METHOD})\n"
+        + "public @interface Converter {\n"
+        + "    boolean generateLoader() default false;\n"
+        + "    boolean ignoreOnLoadError() default false;\n"
+        + "    boolean fallback() default false;\n"
+        + "    boolean fallbackCanPromote() default false;\n"
+        + "    boolean allowNull() default false;\n"
+        + "}\n";
+
+    private static final String MY_CONVERTER = "package com.foo;\n"
+        + "import org.apache.camel.Converter;\n"
+        + "@Converter\n"
+        + "public class MyConverter {\n"
+        + "    @Converter\n"
+        + "    public static java.util.Locale toLocale(StringBuilder text) {\n"
+        + "        return new java.util.Locale(text.toString());\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String MY_LOADER_CONVERTER = "package com.foo;\n"
+        + "import org.apache.camel.Converter;\n"
+        + "@Converter(generateLoader = true)\n"
+        + "public class MyLoaderConverter {\n"
+        + "    @Converter\n"
+        + "    public static Integer toInteger(CharSequence text) {\n"
+        + "        return Integer.valueOf(text.toString());\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String MY_REFLECTION_CONVERTER = "package com.foo;\n"
+        + "import org.apache.camel.Converter;\n"
+        + "@Converter\n"
+        + "public class MyReflectionConverter {\n"
+        + "    @Converter\n"
+        + "    static Long toLong(CharSequence text) {\n"
+        + "        return Long.valueOf(text.toString());\n"
+        + "    }\n"
+        + "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGenerateLoaders() throws Exception {
+        File output = compile("-Acamel.generateTypeConverterLoaders=true");
+
+        String loader = read(new File(output, "com/foo/MyConverterLoader.java"));
+        assertTrue(loader, loader.contains("public final class MyConverterLoader implements TypeConverterLoader {"));
+        assertTrue(loader, loader.contains("addTypeConverter(registry, java.util.Locale.class, java.lang.StringBuilder.class, false,\n"
+            + "            (type, exchange, value) -> com.foo.MyConverter.toLocale((java.lang.StringBuilder) value));"));
+
+        assertTrue(new File(output, "com/foo/MyLoaderConverterLoader.java").exists());
+        // a loader cannot call methods which are not public so reflection is used
+        assertFalse(new File(output, "com/foo/MyReflectionConverterLoader.java").exists());
+
+        // only the classes using generateLoader = true are listed as loaders, the others are found from the
+        // classes listed in META-INF/services/org/apache/camel/TypeConverter
+        String services = read(new File(output, "META-INF/services/org/apache/camel/TypeConverterLoader"));
+        assertEquals("# Generated by camel annotation processor\ncom.foo.MyLoaderConverterLoader\n", services);
+    }
+
+    @Test
+    public void testGenerateLoadersDisabled() throws Exception {
+        File output = compile();
+
+        assertTrue(new File(output, "com/foo/MyLoaderConverterLoader.java").exists());
+        assertFalse(new File(output, "com/foo/MyConverterLoader.java").exists());
+        assertFalse(new File(output, "com/foo/MyReflectionConverterLoader.java").exists());
+    }
+
+    private File compile(String... options) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        File output = folder.newFolder();
+
+        List<String> args = new ArrayList<>(Arrays.asList("-proc:only", "-processor", TypeConverterLoaderGenerator.class.getName(),
+            "-classpath", System.getProperty("java.class.path"), "-d", output.getPath(), "-s", output.getPath()));
+        args.addAll(Arrays.asList(options));
+        List<JavaFileObject> sources = Arrays.asList(
+            source("org.apache.camel.Converter", CONVERTER_ANNOTATION),
+            source("com.foo.MyConverter", MY_CONVERTER),
+            source("com.foo.MyLoaderConverter", MY_LOADER_CONVERTER),
+            source("com.foo.MyReflectionConverter", MY_REFLECTION_CONVERTER));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        compiler.getTask(null, null, diagnostics, args, null, sources).call();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            // the generated loaders cannot be compiled as camel-api is not on the classpath
+            boolean generated = diagnostic.getSource() != null && diagnostic.getSource().toUri().getPath().startsWith(output.getPath());
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR && !generated) {
+                fail(diagnostic.toString());
+            }
+        }
+        return output;
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        URI uri = URI.create("string:///" + name.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+/**
+ * Generates a snapshot of the Camel routes as a Java class at build time, which creates the route definitions
+ * using plain Java code. The generated class is a <code>RoutesBuilder</code> which can be used instead of the
+ * XML routes and <code>RouteBuilder</code> classes it was generated from, to avoid parsing the XML routes and
+ * configuring the routes using the Java DSL when Camel is starting up.
+ */
+@Mojo(name = "routes-snapshot", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true,
+    requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME)
+public class RoutesSnapshotMojo extends AbstractMojo {
+
+    private static final String GENERATOR = "org.apache.camel.model.RoutesSnapshotGenerator";
+
+    /**
+     * The fully qualified name of the class to generate.
+     */
+    @Parameter(property = "camel.routesSnapshot.className", required = true)
+    String className;
+
+    /**
+     * The fully qualified names of the <code>RouteBuilder</code> classes with the routes to include in the snapshot.
+     */
+    @Parameter
+    List<String> routeBuilderClasses;
+
+    /**
+     * The XML resources with the routes to include in the snapshot, such as <code>classpath:routes/my-routes.xml</code>.
+     */
+    @Parameter
+    List<String> xmlResources;
+
+    /**
+     * The directory where the source code of the snapshot is generated.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/camel-routes-snapshot")
+    File outputDirectory;
+
+    /**
+     * The directory where the snapshot is compiled to.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", readonly = true)
+    File classesDirectory;
+
+    /**
+     * Project classpath.
+     */
+    @Parameter(property = "project.runtimeClasspathElements", required = true, readonly = true)
+    List<String> classpathElements;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        String source = generateSource();
+
+        File file = new File(outputDirectory, className.replace('.', File.separatorChar) + ".java");
+        try {
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error writing routes snapshot to " + file, e);
+        }
+        getLog().info("Generated routes snapshot " + file);
+
+        // the classes has already been compiled so we must compile the snapshot ourselves
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new MojoExecutionException("Cannot compile routes snapshot as there is no Java compiler available");
+        }
+        String classpath = String.join(File.pathSeparator, classpathElements);
+        int result = compiler.run(null, null, null, "-classpath", classpath, "-d", classesDirectory.getPath(), file.getPath());
+        if (result != 0) {
+            throw new MojoFailureException("Error compiling routes snapshot " + file);
+        }
+    }
+
+    protected String generateSource() throws MojoExecutionException, MojoFailureException {
+        ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+        // the routes must be loaded using the camel version of the project and not of the plugin
+        try (URLClassLoader loader = createClassLoader()) {
+            Thread.currentThread().setContextClassLoader(loader);
+            Class<?> type = loader.loadClass(GENERATOR);
+            Method method = type.getMethod("generate", String.class, List.class, List.class);
+            return (String) method.invoke(null, className,
+                xmlResources != null ? xmlResources : Collections.emptyList(),
+                routeBuilderClasses != null ? routeBuilderClasses : Collections.emptyList());
+        } catch (InvocationTargetException e) {
+            Throwable t = e.getTargetException();
+            throw new MojoFailureException("Error generating routes snapshot due " + t.getMessage(), t);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw new MojoExecutionException("Cannot generate routes snapshot as the project does not depend on camel-core-engine 3.0 or newer", e);
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error generating routes snapshot", e);
+        } finally {
+            Thread.currentThread().setContextClassLoader(oldClassLoader);
+        }
+    }
+
+    protected URLClassLoader createClassLoader() throws MalformedURLException {
+        getLog().debug("Using classpath: " + classpathElements);
+
+        URL[] urls = new URL[classpathElements.size()];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = new File(classpathElements.get(i)).toURI().toURL();
+        }
+        // isolate from the classes of the plugin
+        return new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+    }
+}
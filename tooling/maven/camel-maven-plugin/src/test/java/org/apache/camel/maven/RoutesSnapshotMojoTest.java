@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.util.FileUtil;
+import org.apache.maven.plugin.MojoFailureException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RoutesSnapshotMojoTest {
+
+    private final RoutesSnapshotMojo mojo = new RoutesSnapshotMojo();
+    private final File dir = new File("target/routes-snapshot-mojo");
+
+    @Before
+    public void setUp() throws Exception {
+        FileUtil.removeDir(dir);
+
+        String classpath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        mojo.classpathElements = Arrays.asList(classpath.split(File.pathSeparator));
+        mojo.outputDirectory = new File(dir, "generated-sources");
+        mojo.classesDirectory = new File(dir, "classes");
+        mojo.classesDirectory.mkdirs();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRoutesSnapshot() throws Exception {
+        mojo.className = "org.apache.camel.generated.MyRoutesSnapshot";
+        mojo.routeBuilderClasses = Collections.singletonList(MyRouteBuilder.class.getName());
+
+        mojo.execute();
+
+        assertTrue(new File(mojo.outputDirectory, "org/apache/camel/generated/MyRoutesSnapshot.java").isFile());
+        assertTrue(new File(mojo.classesDirectory, "org/apache/camel/generated/MyRoutesSnapshot.class").isFile());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {mojo.classesDirectory.toURI().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass(mojo.className);
+            assertTrue(RoutesBuilder.class.isAssignableFrom(type));
+
+            List<RouteDefinition> routes = (List<RouteDefinition>) type.getMethod("createRouteDefinitions").invoke(null);
+            assertEquals(1, routes.size());
+            assertEquals("myRoute", routes.get(0).getId());
+            assertEquals("direct:start", routes.get(0).getInput().getUri());
+        }
+    }
+
+    @Test
+    public void testCannotSnapshotRoutes() throws Exception {
+        mojo.className = "org.apache.camel.generated.MyProcessorRoutesSnapshot";
+        mojo.routeBuilderClasses = Collections.singletonList(MyProcessorRouteBuilder.class.getName());
+
+        try {
+            mojo.execute();
+            fail("Should have thrown exception");
+        } catch (MojoFailureException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Cannot snapshot option processor on node myProcessor in route myRoute"));
+        }
+        assertFalse(new File(mojo.outputDirectory, "org/apache/camel/generated/MyProcessorRoutesSnapshot.java").exists());
+    }
+
+    public static class MyRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:start").routeId("myRoute")
+                .setBody(simple("Hello ${body}"))
+                .to("mock:result");
+        }
+    }
+
+    public static class MyProcessorRouteBuilder extends RouteBuilder {
+        @Override
+        public void configure() throws Exception {
+            from("direct:start").routeId("myRoute")
+                .process(exchange -> exchange.getIn().setBody("Bye World")).id("myProcessor");
+        }
+    }
+}